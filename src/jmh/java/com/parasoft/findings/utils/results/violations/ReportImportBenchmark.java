@@ -0,0 +1,136 @@
+/*
+ * Copyright 2023 Parasoft Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.parasoft.findings.utils.results.violations;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures import of xml reports with {@link XmlReportViolationsImporter#performImport(File)}.
+ * <p>
+ * Throughput is reported in imports per second, peak heap usage per iteration in the
+ * <code>peakHeapMB</code> secondary result. Allocation rate is reported when run
+ * with <code>-prof gc</code> (default in <code>benchmark</code> profile).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx4g"})
+public class ReportImportBenchmark {
+    @Param({"cpptest_pro_report_202001.xml", "cpptest_pro_report_202201.xml", "cpptest_std_report_202001.xml",
+            "cpptest_std_report_202201.xml", "dottest_report_202001.xml", "dottest_report_202201.xml",
+            "jtest_report_202001.xml", "jtest_report_202202.xml", "soatest_report_202101.xml",
+            "soatest_report_202201.xml", "soatest_report_202202.xml"})
+    public String report;
+
+    @Param({"1", "10", "100"})
+    public int scale;
+
+    @Param({"false", "true"})
+    public boolean stax;
+
+    private File _reportsDir;
+
+    private File _report;
+
+    private XmlReportViolationsImporter _importer;
+
+    @Setup(Level.Trial)
+    public void setUp()
+            throws IOException {
+        _reportsDir = Files.createTempDirectory("reports").toFile(); //$NON-NLS-1$
+        _report = ScaledReports.scale(new File(REPORTS_DIR, report), scale, _reportsDir);
+        Properties properties = new Properties();
+        properties.setProperty(XmlReportViolationsImporter.STAX_PARSER_ENABLED_KEY, Boolean.toString(stax));
+        _importer = new XmlReportViolationsImporter(properties);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        File[] aFiles = _reportsDir.listFiles();
+        if (aFiles != null) {
+            for (File file : aFiles) {
+                file.delete();
+            }
+        }
+        _reportsDir.delete();
+    }
+
+    @Benchmark
+    public void performImport(HeapCounters counters, Blackhole blackhole) {
+        XmlReportViolations violations = _importer.performImport(_report);
+        while (violations.hasNext()) {
+            blackhole.consume(violations.next());
+        }
+        counters.update();
+    }
+
+    /**
+     * Reports peak usage of heap during measurement iteration.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HeapCounters {
+        public long peakHeapMB;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            peakHeapMB = 0;
+            for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+                if (pool.getType() == MemoryType.HEAP) {
+                    pool.resetPeakUsage();
+                }
+            }
+        }
+
+        void update() {
+            long peak = 0;
+            for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+                if (pool.getType() == MemoryType.HEAP) {
+                    peak += pool.getPeakUsage().getUsed();
+                }
+            }
+            peakHeapMB = Math.max(peakHeapMB, peak >> 20);
+        }
+    }
+
+    private static final File REPORTS_DIR = new File("src/test/resources/xml/staticanalysis"); //$NON-NLS-1$
+}
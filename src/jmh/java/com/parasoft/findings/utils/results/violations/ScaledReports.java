@@ -0,0 +1,104 @@
+/*
+ * Copyright 2023 Parasoft Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.parasoft.findings.utils.results.violations;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Creates scaled copies of xml reports, where every violation element is repeated given
+ * number of times. Repeated violations refer to the same locations and rules, so scaled
+ * report is valid and imports <code>scale</code> times more violations.
+ */
+final class ScaledReports {
+    private ScaledReports() {
+        super();
+    }
+
+    /**
+     * @param report    the source report
+     * @param scale     the number of copies of every violation
+     * @param targetDir the directory to write scaled report to
+     * @return the scaled report, source report if scale is 1
+     * @throws IOException
+     * @pre scale > 0
+     */
+    static File scale(File report, int scale, File targetDir)
+            throws IOException {
+        if (scale == 1) {
+            return report;
+        }
+        String sContent = new String(Files.readAllBytes(report.toPath()), StandardCharsets.UTF_8);
+        File scaledReport = new File(targetDir, scale + "x_" + report.getName()); //$NON-NLS-1$
+        try (Writer writer = Files.newBufferedWriter(scaledReport.toPath(), StandardCharsets.UTF_8)) {
+            Matcher matcher = VIOLATION_START.matcher(sContent);
+            int copiedIdx = 0;
+            while (matcher.find(copiedIdx)) {
+                int violationEnd = getViolationEnd(sContent, matcher.start(), matcher.group(1));
+                writer.write(sContent, copiedIdx, violationEnd - copiedIdx);
+                for (int i = 1; i < scale; i++) {
+                    writer.write(sContent, matcher.start(), violationEnd - matcher.start());
+                }
+                copiedIdx = violationEnd;
+            }
+            writer.write(sContent, copiedIdx, sContent.length() - copiedIdx);
+        }
+        return scaledReport;
+    }
+
+    private static int getViolationEnd(String sContent, int violationStart, String sTag)
+            throws IOException {
+        int tagEnd = getStartTagEnd(sContent, violationStart);
+        if (sContent.charAt(tagEnd - 1) == '/') {
+            return tagEnd + 1;
+        }
+        String sEndTag = "</" + sTag + '>'; //$NON-NLS-1$
+        int endTagIdx = sContent.indexOf(sEndTag, tagEnd);
+        if (endTagIdx < 0) {
+            throw new IOException("No end of " + sTag + " element at " + violationStart); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        return endTagIdx + sEndTag.length();
+    }
+
+    /**
+     * @return index of '>' closing the start tag, skipping quoted attribute values
+     */
+    private static int getStartTagEnd(String sContent, int tagStart)
+            throws IOException {
+        char quote = 0;
+        for (int i = tagStart; i < sContent.length(); i++) {
+            char c = sContent.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if ((c == '"') || (c == '\'')) {
+                quote = c;
+            } else if (c == '>') {
+                return i;
+            }
+        }
+        throw new IOException("Unterminated start tag at " + tagStart); //$NON-NLS-1$
+    }
+
+    private static final Pattern VIOLATION_START = Pattern.compile("<(StdViol|FlowViol|DupViol|MetViol)[\\s/>]"); //$NON-NLS-1$
+}
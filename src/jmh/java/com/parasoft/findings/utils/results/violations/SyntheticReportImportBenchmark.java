@@ -0,0 +1,97 @@
+/*
+ * Copyright 2023 Parasoft Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.parasoft.findings.utils.results.violations;
+
+import com.parasoft.findings.utils.results.xml.SyntheticReportGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.stream.XMLStreamException;
+
+/**
+ * Measures import of synthetic reports generated with {@link SyntheticReportGenerator}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx8g"})
+public class SyntheticReportImportBenchmark {
+    @Param({"100000", "1000000"})
+    public int violations;
+
+    @Param({"1000"})
+    public int locations;
+
+    @Param({"5"})
+    public int flowPathDepth;
+
+    @Param({"false", "true"})
+    public boolean stax;
+
+    private File _report;
+
+    private XmlReportViolationsImporter _importer;
+
+    @Setup(Level.Trial)
+    public void setUp()
+            throws IOException, XMLStreamException {
+        SyntheticReportGenerator generator = new SyntheticReportGenerator(SEED);
+        generator.setViolationsCount(violations);
+        generator.setLocationsCount(locations);
+        generator.setFlowPathDepth(flowPathDepth);
+        _report = File.createTempFile("synthetic", ".xml"); //$NON-NLS-1$ //$NON-NLS-2$
+        generator.generate(_report);
+        Properties properties = new Properties();
+        properties.setProperty(XmlReportViolationsImporter.STAX_PARSER_ENABLED_KEY, Boolean.toString(stax));
+        _importer = new XmlReportViolationsImporter(properties);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        _report.delete();
+    }
+
+    @Benchmark
+    public void performImport(ReportImportBenchmark.HeapCounters counters, Blackhole blackhole) {
+        XmlReportViolations violations = _importer.performImport(_report);
+        while (violations.hasNext()) {
+            blackhole.consume(violations.next());
+        }
+        counters.update();
+    }
+
+    private static final long SEED = 20231001L;
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2023 Parasoft Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.parasoft.findings.utils.results.violations;
+
+import com.parasoft.findings.utils.results.xml.SyntheticReportGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.stream.XMLStreamException;
+
+/**
+ * Compares import of synthetic xml report with reading the same violations written
+ * with {@link ViolationsBinaryWriter}. Sizes of both forms are printed during setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx8g"})
+public class ViolationsBinaryBenchmark {
+    @Param({"100000"})
+    public int violations;
+
+    @Param({"1000"})
+    public int locations;
+
+    @Param({"5"})
+    public int flowPathDepth;
+
+    private File _report;
+
+    private File _binary;
+
+    private XmlReportViolationsImporter _importer;
+
+    @Setup(Level.Trial)
+    public void setUp()
+            throws IOException, XMLStreamException {
+        SyntheticReportGenerator generator = new SyntheticReportGenerator(SEED);
+        generator.setViolationsCount(violations);
+        generator.setLocationsCount(locations);
+        generator.setFlowPathDepth(flowPathDepth);
+        _report = File.createTempFile("synthetic", ".xml"); //$NON-NLS-1$ //$NON-NLS-2$
+        generator.generate(_report);
+        _importer = new XmlReportViolationsImporter(new Properties());
+
+        XmlReportViolations imported = _importer.performImport(_report);
+        _binary = File.createTempFile("synthetic", ".bin"); //$NON-NLS-1$ //$NON-NLS-2$
+        try (ViolationsBinaryWriter writer = new ViolationsBinaryWriter(new BufferedOutputStream(new FileOutputStream(_binary)))) {
+            writer.writeRules(imported.getRulesImportHandler());
+            while (imported.hasNext()) {
+                writer.write(imported.next());
+            }
+        }
+        System.out.println("xml: " + _report.length() + " bytes, binary: " + _binary.length() + " bytes"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        _report.delete();
+        _binary.delete();
+    }
+
+    @Benchmark
+    public void readXml(Blackhole blackhole) {
+        XmlReportViolations violations = _importer.performImport(_report);
+        while (violations.hasNext()) {
+            blackhole.consume(violations.next());
+        }
+    }
+
+    @Benchmark
+    public void readBinary(Blackhole blackhole)
+            throws IOException {
+        try (InputStream in = new BufferedInputStream(new FileInputStream(_binary));
+             ViolationsBinaryReader reader = new ViolationsBinaryReader(in)) {
+            IViolation violation;
+            while ((violation = reader.read()) != null) {
+                blackhole.consume(violation);
+            }
+        }
+    }
+
+    private static final long SEED = 20231001L;
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2023 Parasoft Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.parasoft.findings.utils.common.util;
+
+import java.util.Arrays;
+
+/**
+ * Map from primitive <code>long</code> keys to primitive <code>int</code> values.
+ * <p>
+ * Entries are kept in open addressed arrays, so the map does not allocate objects
+ * per entry and is suitable for indexes of millions of elements.
+ * This class is not thread safe.
+ */
+public final class LongIntHashMap {
+    private final int _missingValue;
+
+    private long[] _aKeys;
+
+    private int[] _aValues;
+
+    private boolean[] _aUsed;
+
+    private int _size = 0;
+
+    private int _threshold;
+
+    /**
+     * @param expectedSize the expected number of entries
+     * @param missingValue the value returned for keys which are not in the map
+     * @pre expectedSize >= 0
+     */
+    public LongIntHashMap(int expectedSize, int missingValue) {
+        _missingValue = missingValue;
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * @param key the key
+     * @return the value mapped to the key or missing value if there is none
+     */
+    public int get(long key) {
+        int mask = _aKeys.length - 1;
+        for (int i = index(key, mask); _aUsed[i]; i = (i + 1) & mask) {
+            if (_aKeys[i] == key) {
+                return _aValues[i];
+            }
+        }
+        return _missingValue;
+    }
+
+    /**
+     * @param key the key
+     * @return <code>true</code> if the map has a value for the key
+     */
+    public boolean containsKey(long key) {
+        int mask = _aKeys.length - 1;
+        for (int i = index(key, mask); _aUsed[i]; i = (i + 1) & mask) {
+            if (_aKeys[i] == key) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Maps the key to given value.
+     *
+     * @param key   the key
+     * @param value the value
+     * @return the previous value mapped to the key or missing value if there was none
+     */
+    public int put(long key, int value) {
+        int mask = _aKeys.length - 1;
+        int i = index(key, mask);
+        for (; _aUsed[i]; i = (i + 1) & mask) {
+            if (_aKeys[i] == key) {
+                int previous = _aValues[i];
+                _aValues[i] = value;
+                return previous;
+            }
+        }
+        _aUsed[i] = true;
+        _aKeys[i] = key;
+        _aValues[i] = value;
+        if ((++_size > _threshold) && (_aKeys.length < MAX_CAPACITY)) {
+            rehash();
+        }
+        return _missingValue;
+    }
+
+    /**
+     * @return the number of entries in the map
+     */
+    public int size() {
+        return _size;
+    }
+
+    /**
+     * Removes all entries, keeping the allocated capacity.
+     */
+    public void clear() {
+        Arrays.fill(_aUsed, false);
+        _size = 0;
+    }
+
+    private void rehash() {
+        long[] aKeys = _aKeys;
+        int[] aValues = _aValues;
+        boolean[] aUsed = _aUsed;
+        allocate(aKeys.length << 1);
+        int mask = _aKeys.length - 1;
+        for (int j = 0; j < aKeys.length; j++) {
+            if (aUsed[j]) {
+                int i = index(aKeys[j], mask);
+                while (_aUsed[i]) {
+                    i = (i + 1) & mask;
+                }
+                _aUsed[i] = true;
+                _aKeys[i] = aKeys[j];
+                _aValues[i] = aValues[j];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        _aKeys = new long[capacity];
+        _aValues = new int[capacity];
+        _aUsed = new boolean[capacity];
+        _threshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (((capacity * LOAD_FACTOR) < expectedSize) && (capacity < MAX_CAPACITY)) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static int index(long key, int mask) {
+        long hash = key * GOLDEN_RATIO;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private static final int MIN_CAPACITY = 16;
+
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2023 Parasoft Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.parasoft.findings.utils.common.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Table of string instances used to deduplicate values repeated in imported data.
+ * <p>
+ * Equal strings passed to {@link #intern(String)} are replaced with the first seen instance,
+ * so data created during import shares single copies of repeated values. Table is meant
+ * to live as long as a single import and does not use the global JVM string pool.
+ * This class is not thread safe.
+ */
+public final class StringTable {
+    private final Map<String, String> _strings = new HashMap<String, String>();
+
+    private final int _maxSize;
+
+    private long _lookupsCount = 0L;
+
+    private long _hitsCount = 0L;
+
+    /**
+     * Constructor.
+     */
+    public StringTable() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * @param maxSize the maximum number of strings kept in the table, new values are
+     *                not added when the table is full
+     * @pre maxSize >= 0
+     */
+    public StringTable(int maxSize) {
+        _maxSize = maxSize;
+    }
+
+    /**
+     * Returns the instance of given string kept in the table, adding the string
+     * to the table when it is seen for the first time.
+     *
+     * @param sValue the string to deduplicate, may be <code>null</code>
+     * @return equal string instance from the table or given string
+     */
+    public String intern(String sValue) {
+        if (sValue == null) {
+            return null;
+        }
+        _lookupsCount++;
+        String sInterned = _strings.get(sValue);
+        if (sInterned != null) {
+            _hitsCount++;
+            return sInterned;
+        }
+        if (_strings.size() < _maxSize) {
+            _strings.put(sValue, sValue);
+        }
+        return sValue;
+    }
+
+    /**
+     * @return the number of strings kept in the table
+     */
+    public int size() {
+        return _strings.size();
+    }
+
+    /**
+     * @return the number of {@link #intern(String)} calls with non null value
+     */
+    public long getLookupsCount() {
+        return _lookupsCount;
+    }
+
+    /**
+     * @return the number of {@link #intern(String)} calls which returned instance from the table
+     */
+    public long getHitsCount() {
+        return _hitsCount;
+    }
+
+    /**
+     * @return the ratio of lookups which returned instance from the table, <code>0</code> when
+     * there were no lookups
+     */
+    public double getHitRatio() {
+        return (_lookupsCount == 0L) ? 0.0 : ((double) _hitsCount / _lookupsCount);
+    }
+
+    @Override
+    public String toString() {
+        return "StringTable[size=" + size() + ", lookups=" + _lookupsCount + ", hits=" + _hitsCount //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+                + ", hitRatio=" + getHitRatio() + ']'; //$NON-NLS-1$
+    }
+
+    private static final int DEFAULT_MAX_SIZE = 1 << 20;
+}
@@ -20,6 +20,10 @@ import com.parasoft.findings.utils.common.IStringConstants;
 import org.xml.sax.*;
 
 import javax.xml.parsers.*;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
 import java.io.StringReader;
 import java.util.Map;
 
@@ -31,7 +35,12 @@ public final class XMLUtil {
     /**
      * Default SAXParserFactory instance
      */
-    private static SAXParserFactory _saxParserFactory = null;
+    private static volatile SAXParserFactory _saxParserFactory = null;
+
+    /**
+     * Default XMLInputFactory instance, configured to not process DTDs
+     */
+    private static volatile XMLInputFactory _xmlInputFactory = null;
 
     /**
      * To prevent creation of instances.
@@ -48,6 +57,14 @@ public final class XMLUtil {
      * Use createSAXParser() method to get secured parser.
      */
     public static SAXParserFactory getSaxParserFactory() {
+        SAXParserFactory factory = _saxParserFactory;
+        if (factory == null) {
+            factory = initSaxParserFactory();
+        }
+        return factory;
+    }
+
+    private static synchronized SAXParserFactory initSaxParserFactory() {
         if (_saxParserFactory == null) {
             try {
                 // Cache SAX parser factory for performance reason.
@@ -73,11 +90,48 @@ public final class XMLUtil {
     public static SAXParser createSAXParser(boolean disableDTD, boolean disableExternalEntities)
             throws ParserConfigurationException, SAXException
     {
-        SAXParser parser = getSaxParserFactory().newSAXParser();
+        SAXParserFactory factory = getSaxParserFactory();
+        SAXParser parser;
+        // factories are not guaranteed to be thread safe, while reports may be imported concurrently
+        synchronized (factory) {
+            parser = factory.newSAXParser();
+        }
         configureReader(parser.getXMLReader(), disableDTD, disableExternalEntities);
         return parser;
     }
 
+    /**
+     * Creates a StAX reader of given stream. DTDs and external entities are not processed.
+     *
+     * @param is the stream to read
+     * @return the instance of XMLStreamReader
+     * @throws XMLStreamException
+     * @pre is != null
+     */
+    public static XMLStreamReader createXMLStreamReader(InputStream is)
+            throws XMLStreamException
+    {
+        XMLInputFactory factory = _xmlInputFactory;
+        if (factory == null) {
+            factory = initXmlInputFactory();
+        }
+        // factories are not guaranteed to be thread safe, while reports may be imported concurrently
+        synchronized (factory) {
+            return factory.createXMLStreamReader(is);
+        }
+    }
+
+    private static synchronized XMLInputFactory initXmlInputFactory() {
+        if (_xmlInputFactory == null) {
+            XMLInputFactory factory = XMLInputFactory.newFactory();
+            factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+            factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+            factory.setProperty(XMLInputFactory.IS_COALESCING, Boolean.FALSE);
+            _xmlInputFactory = factory;
+        }
+        return _xmlInputFactory;
+    }
+
     /**
      * Creates an instance of XMLReader.
      * @param disableDTD disallows DTDs
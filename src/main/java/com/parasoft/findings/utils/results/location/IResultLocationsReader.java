@@ -21,6 +21,7 @@ import java.util.Properties;
 import com.parasoft.findings.utils.results.violations.SourceRange;
 import com.parasoft.findings.utils.results.testableinput.ITestableInput;
 import com.parasoft.findings.utils.results.testableinput.ITestableInputLocationMatcher;
+import com.parasoft.findings.utils.results.testableinput.StoredLocation;
 import com.parasoft.findings.utils.results.violations.LocationsException;
 import com.parasoft.findings.utils.results.violations.ResultLocation;
 
@@ -34,4 +35,16 @@ public interface IResultLocationsReader {
     ITestableInputLocationMatcher getLocationMatcher();
 
     Properties getStoredLocation(String sLocRef);
+
+    /**
+     * Typed variant of {@link #getStoredLocation(String)}. The default implementation converts
+     * the properties, readers keeping typed records should override it.
+     *
+     * @param sLocRef the location reference
+     * @return the stored location or <code>null</code> if there is no location with given reference
+     */
+    default StoredLocation getLocationRecord(String sLocRef) {
+        Properties storedLocation = getStoredLocation(sLocRef);
+        return (storedLocation != null) ? StoredLocation.fromProperties(storedLocation) : null;
+    }
 }
\ No newline at end of file
@@ -18,12 +18,13 @@ package com.parasoft.findings.utils.results.location;
 
 import java.util.*;
 
+import com.parasoft.findings.utils.common.util.StringTable;
 import com.parasoft.findings.utils.results.xml.IXmlTagsAndAttributes;
 import com.parasoft.findings.utils.results.violations.ResultLocation;
 import com.parasoft.findings.utils.results.testableinput.ITestableInputLocationMatcher;
 import com.parasoft.findings.utils.results.violations.LocationsException;
 import com.parasoft.findings.utils.results.violations.SourceRange;
-import com.parasoft.findings.utils.results.testableinput.LocationUtil;
+import com.parasoft.findings.utils.results.testableinput.StoredLocation;
 import org.xml.sax.Attributes;
 import org.xml.sax.SAXException;
 import org.xml.sax.helpers.DefaultHandler;
@@ -34,11 +35,13 @@ import com.parasoft.findings.utils.results.testableinput.PathInput;
 public class LegacyResultLocationsReader extends DefaultHandler implements IResultLocationsReader {
     private final ITestableInputLocationMatcher _locationMatcher;
 
-    private Map<String, Properties> _locations = null;
+    private Map<String, StoredLocation> _locations = null;
+
+    private StringTable _stringTable = null;
 
     public LegacyResultLocationsReader(ITestableInputLocationMatcher locationMatcher) {
         _locationMatcher = locationMatcher;
-        _locations = new HashMap<String, Properties>();
+        _locations = new HashMap<String, StoredLocation>();
     }
 
     @Override
@@ -48,8 +51,7 @@ public class LegacyResultLocationsReader extends DefaultHandler implements IResu
             // nothing to do
         } else if (IXmlTagsAndAttributes.LOCATION_TAG.equals(qName)) {
             String loc = attributes.getValue(IXmlTagsAndAttributes.LOC_ATTR);
-            Properties storedLocation = LocationUtil.readStoredLocation(attributes);
-            _locations.put(loc, storedLocation);
+            _locations.put(loc, StoredLocation.read(attributes, _stringTable, null));
         } else {
             throw new SAXException(ILLEGAL_TAG_MESSAGE + qName);
         }
@@ -67,7 +69,22 @@ public class LegacyResultLocationsReader extends DefaultHandler implements IResu
         }
     }
 
+    /**
+     * Sets the table used to deduplicate values of read locations.
+     *
+     * @param stringTable the string table or <code>null</code> for none
+     */
+    public void setStringTable(StringTable stringTable) {
+        _stringTable = stringTable;
+    }
+
     public Properties getStoredLocation(String loc) {
+        StoredLocation storedLocation = getLocationRecord(loc);
+        return (storedLocation != null) ? storedLocation.toProperties() : null;
+    }
+
+    @Override
+    public StoredLocation getLocationRecord(String loc) {
         return _locations.get(loc);
     }
 
@@ -82,11 +99,11 @@ public class LegacyResultLocationsReader extends DefaultHandler implements IResu
 
     public ITestableInput getTestableInput(String loc, boolean bAcceptModified)
             throws LocationsException {
-        Properties storedLocation = getStoredLocation(loc);
+        StoredLocation storedLocation = getLocationRecord(loc);
         if (storedLocation == null) {
             return new PathInput(loc);
         }
-        return _locationMatcher.matchLocation(storedLocation, bAcceptModified);
+        return _locationMatcher.matchStoredLocation(storedLocation, bAcceptModified);
     }
 
     public ITestableInputLocationMatcher getLocationMatcher() {
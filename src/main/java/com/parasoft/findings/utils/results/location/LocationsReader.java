@@ -19,8 +19,9 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
 
+import com.parasoft.findings.utils.common.util.StringTable;
 import com.parasoft.findings.utils.results.xml.IXmlTagsAndAttributes;
-import com.parasoft.findings.utils.results.testableinput.LocationUtil;
+import com.parasoft.findings.utils.results.testableinput.StoredLocation;
 import org.xml.sax.Attributes;
 import org.xml.sax.SAXException;
 import org.xml.sax.helpers.DefaultHandler;
@@ -28,14 +29,16 @@ import org.xml.sax.helpers.DefaultHandler;
 public class LocationsReader extends DefaultHandler {
     private final Map<String, String> _repositoriesMapping;
 
-    private final Map<String, Properties> _locations;
+    private final Map<String, StoredLocation> _locations;
+
+    private StringTable _stringTable = null;
 
     public LocationsReader() {
         this(null);
     }
 
     public LocationsReader(Map<String, String> repositoriesMapping) {
-        _locations = new HashMap<String, Properties>();
+        _locations = new HashMap<String, StoredLocation>();
         _repositoriesMapping = repositoriesMapping;
     }
 
@@ -61,11 +64,7 @@ public class LocationsReader extends DefaultHandler {
                     throw new SAXException("Repository ref not matched: " + sReadRepRef); //$NON-NLS-1$
                 }
             }
-            Properties storedLocation = LocationUtil.readStoredLocation(attributes);
-            if (sRepRef != null) {
-                storedLocation.setProperty(IXmlTagsAndAttributes.REP_REF_ATTR, sRepRef);
-            }
-            _locations.put(sLocRef, storedLocation);
+            _locations.put(sLocRef, StoredLocation.read(attributes, _stringTable, sRepRef));
         } else {
             throw new SAXException(ILLEGAL_TAG_MESSAGE + qName);
         }
@@ -83,10 +82,24 @@ public class LocationsReader extends DefaultHandler {
         }
     }
 
-    public Properties getStoredLocation(String sLocRef) {
+    /**
+     * Sets the table used to deduplicate values of read locations.
+     *
+     * @param stringTable the string table or <code>null</code> for none
+     */
+    public void setStringTable(StringTable stringTable) {
+        _stringTable = stringTable;
+    }
+
+    public StoredLocation getLocationRecord(String sLocRef) {
         return _locations.get(sLocRef);
     }
 
+    public Properties getStoredLocation(String sLocRef) {
+        StoredLocation storedLocation = getLocationRecord(sLocRef);
+        return (storedLocation != null) ? storedLocation.toProperties() : null;
+    }
+
     private static final String ILLEGAL_TAG_MESSAGE = "Tag with illegal name spotted:";  //$NON-NLS-1$
 
 }
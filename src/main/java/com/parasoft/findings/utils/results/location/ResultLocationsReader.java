@@ -16,11 +16,10 @@
 
 package com.parasoft.findings.utils.results.location;
 
-import java.util.Properties;
-
 import com.parasoft.findings.utils.results.testableinput.DefaultLocationMatcher;
 import com.parasoft.findings.utils.results.testableinput.ITestableInput;
 import com.parasoft.findings.utils.results.testableinput.ITestableInputLocationMatcher;
+import com.parasoft.findings.utils.results.testableinput.StoredLocation;
 import com.parasoft.findings.utils.results.violations.LocationsException;
 import com.parasoft.findings.utils.results.violations.SourceRange;
 import com.parasoft.findings.utils.results.violations.ResultLocation;
@@ -48,11 +47,11 @@ public class ResultLocationsReader
 
     public ITestableInput getTestableInput(String sLocRef, boolean bAcceptModified)
             throws LocationsException {
-        Properties storedLocation = getStoredLocation(sLocRef);
+        StoredLocation storedLocation = getLocationRecord(sLocRef);
         if (storedLocation == null) {
             return null;
         }
-        return _locationMatcher.matchLocation(storedLocation, bAcceptModified);
+        return _locationMatcher.matchStoredLocation(storedLocation, bAcceptModified);
     }
 
     public ITestableInputLocationMatcher getLocationMatcher() {
@@ -29,6 +29,12 @@ public class DefaultLocationMatcher
         return LocationUtil.createTestableInput(storedLocation);
     }
 
+    @Override
+    public ITestableInput matchStoredLocation(StoredLocation storedLocation, boolean bAcceptModified)
+            throws LocationsException {
+        return LocationUtil.createTestableInputFromLocation(storedLocation);
+    }
+
     @Override
     public ITestableInput matchLocation(ITestableInput originalInput, List<Long> hashes,
                                         String sRepositoryPath, String sBranch, boolean bAcceptModified)
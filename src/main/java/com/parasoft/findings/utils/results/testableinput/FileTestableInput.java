@@ -17,16 +17,19 @@
 package com.parasoft.findings.utils.results.testableinput;
 
 import java.io.File;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
 /**
- * Base implementation of {@link IFileTestableInput}
+ * Base implementation of {@link IFileTestableInput}. Attributes of frozen inputs
+ * cannot be modified, see {@link TestableInputRegistry}.
  */
 public class FileTestableInput
         implements IFileTestableInput {
     private final File _file;
     private final Map<String, String> _attrs;
+    private boolean _bFrozen = false;
 
     /**
      * Creates file testable for given file.
@@ -44,8 +47,14 @@ public class FileTestableInput
         return _file.getName(); // parasoft-suppress BD.EXCEPT.NP "reviewed"
     }
 
+    /**
+     * @throws UnsupportedOperationException if this input is frozen
+     */
     @Override
     public void addAttribute(String sName, String sValue) {
+        if (_bFrozen) {
+            throw new UnsupportedOperationException("Shared testable input cannot be modified."); //$NON-NLS-1$
+        }
         _attrs.put(sName, sValue);
     }
 
@@ -54,6 +63,27 @@ public class FileTestableInput
         return _attrs.get(sName);
     }
 
+    /**
+     * @return unmodifiable view of all attributes of this input
+     */
+    public Map<String, String> getAttributes() {
+        return Collections.unmodifiableMap(_attrs);
+    }
+
+    /**
+     * @return <code>true</code> if this input is shared and its attributes cannot be modified
+     */
+    public boolean isFrozen() {
+        return _bFrozen;
+    }
+
+    /**
+     * Makes attributes of this input unmodifiable, so it can be shared.
+     */
+    void freeze() {
+        _bFrozen = true;
+    }
+
     @Override
     public File getFileLocation() {
         return _file;
@@ -26,7 +26,33 @@ import java.util.*;
 
 public class FindingsLocationMatcher
         extends DefaultLocationMatcher {
-    private final Map<String, ITestableInput> _inputsMap = new HashMap<>();
+    private final ITestableInputCache _inputsCache;
+
+    private final TestableInputRegistry _inputsRegistry;
+
+    /**
+     * Creates the matcher with its own cache of resolved inputs.
+     */
+    public FindingsLocationMatcher() {
+        this(new TestableInputCache());
+    }
+
+    /**
+     * @param inputsCache the cache of resolved inputs, may be shared with other matchers.
+     *                    It also keeps inputs created from stored locations, see {@link TestableInputRegistry}
+     * @pre inputsCache != null
+     */
+    public FindingsLocationMatcher(ITestableInputCache inputsCache) {
+        _inputsCache = inputsCache;
+        _inputsRegistry = new TestableInputRegistry(inputsCache);
+    }
+
+    /**
+     * @return the cache of resolved inputs used by this matcher
+     */
+    public ITestableInputCache getInputsCache() {
+        return _inputsCache;
+    }
 
     @Override
     public ITestableInput matchLocation(Properties storedLocation, boolean bAcceptModified)
@@ -34,15 +60,21 @@ public class FindingsLocationMatcher
         if (storedLocation == null) {
             return null;
         }
+        return matchStoredLocation(StoredLocation.fromProperties(storedLocation), bAcceptModified);
+    }
+
+    @Override
+    public ITestableInput matchStoredLocation(StoredLocation storedLocation, boolean bAcceptModified)
+            throws LocationsException {
+        if (storedLocation == null) {
+            return null;
+        }
         // detect legacy mode
-        String sPath = storedLocation.getProperty(IXmlTagsAndAttributes.LOC_ATTR);
+        String sPath = storedLocation.getLoc();
         if (sPath == null) {
-            return super.matchLocation(storedLocation, bAcceptModified);
+            return _inputsRegistry.getTestableInput(storedLocation);
         }
-        String sFSPath = storedLocation.getProperty(IXmlTagsAndAttributes.FS_PATH);
-        String sProjectPath = storedLocation.getProperty(IXmlTagsAndAttributes.PROJECT_PATH_ATTR);
-        String sProject = storedLocation.getProperty(IXmlTagsAndAttributes.PROJECT_ATTR);
-        return new PathInput(sPath, sFSPath, sProject, sProjectPath);
+        return new PathInput(sPath, storedLocation.getFileSystemPath(), storedLocation.getProject(), storedLocation.getProjectPath());
     }
 
     @Override
@@ -51,13 +83,14 @@ public class FindingsLocationMatcher
             throws LocationsException {
         if (originalInput instanceof PathInput) {
             PathInput pathInput = (PathInput) originalInput;
-            String sPath = pathInput.getPath();
-            ITestableInput input = _inputsMap.get(sPath);
+            String sKey = getCacheKey(pathInput);
+            ITestableInput input = _inputsCache.get(sKey);
             if (input != null) {
                 return input;
             }
             ITestableInput matchedInput = compute(pathInput);
-            _inputsMap.put(sPath, matchedInput);
+            TestableInputRegistry.freeze(matchedInput);
+            _inputsCache.put(sKey, matchedInput);
             return matchedInput;
         }
         return super.matchLocation(originalInput, hashes, sRepositoryPath, sBranch, bAcceptModified);
@@ -85,6 +118,21 @@ public class FindingsLocationMatcher
         return fileLocation.getAbsolutePath();
     }
 
+    /**
+     * Inputs from different reports may share the path but differ in other location data,
+     * so all data used by {@link #compute(PathInput)} is a part of the key.
+     */
+    private static String getCacheKey(PathInput pathInput) {
+        String sPath = pathInput.getPath();
+        String sFSPath = pathInput.getFileSystemPath();
+        String sProjectPath = pathInput.getProjectPath();
+        String sProjectName = pathInput.getProjectName();
+        if ((sFSPath == null) && (sProjectPath == null) && (sProjectName == null)) {
+            return sPath;
+        }
+        return sPath + KEY_SEPARATOR + sFSPath + KEY_SEPARATOR + sProjectPath + KEY_SEPARATOR + sProjectName;
+    }
+
     private ITestableInput compute(PathInput pathInput) {
         String sPath = pathInput.getPath();
         String sFSPath = pathInput.getFileSystemPath();
@@ -138,4 +186,6 @@ public class FindingsLocationMatcher
         }
         return null;
     }
+
+    private static final char KEY_SEPARATOR = '\u0000';
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2023 Parasoft Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.parasoft.findings.utils.results.testableinput;
+
+/**
+ * Cache of testable inputs resolved from report paths by {@link FindingsLocationMatcher}.
+ * Implementations have to be thread safe, so single cache can be shared by imports of many reports.
+ */
+public interface ITestableInputCache {
+
+    /**
+     * @param sKey the key of resolved input
+     * @return the cached input or <code>null</code> if there is none for given key
+     * @pre sKey != null
+     */
+    ITestableInput get(String sKey);
+
+    /**
+     * @param sKey  the key of resolved input
+     * @param input the resolved input
+     * @pre sKey != null
+     * @pre input != null
+     */
+    void put(String sKey, ITestableInput input);
+
+    /**
+     * @return the number of cached inputs
+     */
+    int size();
+
+    /**
+     * Removes all cached inputs, statistics are not reset.
+     */
+    void clear();
+
+    /**
+     * @return the number of lookups which found cached input
+     */
+    long getHitsCount();
+
+    /**
+     * @return the number of lookups which found no cached input
+     */
+    long getMissesCount();
+
+}
@@ -25,6 +25,21 @@ public interface ITestableInputLocationMatcher {
     ITestableInput matchLocation(Properties storedLocation, boolean bAcceptModified)
             throws LocationsException;
 
+    /**
+     * Typed variant of {@link #matchLocation(Properties, boolean)}, used when reading reports.
+     * The default implementation converts given location to properties, so matchers should
+     * override it to avoid the conversion.
+     *
+     * @param storedLocation  the stored location or <code>null</code>
+     * @param bAcceptModified whether modified resources are accepted
+     * @return the matched testable input
+     * @throws LocationsException if the location cannot be matched
+     */
+    default ITestableInput matchStoredLocation(StoredLocation storedLocation, boolean bAcceptModified)
+            throws LocationsException {
+        return matchLocation((storedLocation != null) ? storedLocation.toProperties() : null, bAcceptModified);
+    }
+
     ITestableInput matchLocation(ITestableInput originalInput, List<Long> hash,
                                  String sRepositoryPath, String sBranch, boolean bAcceptModified)
             throws LocationsException;
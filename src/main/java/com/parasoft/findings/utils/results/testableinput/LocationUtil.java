@@ -16,6 +16,7 @@
 
 package com.parasoft.findings.utils.results.testableinput;
 
+import com.parasoft.findings.utils.common.util.StringTable;
 import com.parasoft.findings.utils.common.util.StringUtil;
 import com.parasoft.findings.utils.results.xml.IXmlTagsAndAttributes;
 import com.parasoft.findings.utils.results.violations.IAttributedEntity;
@@ -33,10 +34,14 @@ public final class LocationUtil {
     }
 
     public static URI getURI(Properties storedLocation) {
+        return getLocationURI((storedLocation != null) ? StoredLocation.fromProperties(storedLocation) : null);
+    }
+
+    public static URI getLocationURI(StoredLocation storedLocation) {
         if (storedLocation == null) {
             return null;
         }
-        String sUri = storedLocation.getProperty(IXmlTagsAndAttributes.URI_ATTR);
+        String sUri = storedLocation.getUri();
         if (sUri == null) {
             Logger.getLogger().debug("No URI property in stored location. Creating generic URI."); //$NON-NLS-1$
             return getGenericURI(storedLocation);
@@ -49,13 +54,13 @@ public final class LocationUtil {
         return null;
     }
 
-    private static URI getGenericURI(Properties storedLocation) {
-        String projPath = storedLocation.getProperty(IXmlTagsAndAttributes.PROJECT_ID_ATTR);
-        String projRelativePath = storedLocation.getProperty(IXmlTagsAndAttributes.RESOURCE_PROJECT_RELATIVE_PATH_ATTR);
+    private static URI getGenericURI(StoredLocation storedLocation) {
+        String projPath = storedLocation.getProjectId();
+        String projRelativePath = storedLocation.getResourceProjectPath();
         if (!StringUtil.isEmptyTrimmed(projPath) && !StringUtil.isEmptyTrimmed(projRelativePath)) {
             return getGenericFileURI(projPath + IProjectTestableInput.PATH_SEPARATOR + projRelativePath);
         }
-        String scPath = storedLocation.getProperty(IXmlTagsAndAttributes.SOURCE_CONTROL_PATH_ATTR);
+        String scPath = storedLocation.getSourceControlPath();
         if (!StringUtil.isEmptyTrimmed(scPath)) {
             return getGenericFileURI(scPath);
         }
@@ -89,20 +94,27 @@ public final class LocationUtil {
 
     public static ITestableInput createTestableInput(Properties storedLocation)
             throws LocationsException {
-        URI uri = getURI(storedLocation);
+        return createTestableInputFromLocation((storedLocation != null) ? StoredLocation.fromProperties(storedLocation) : null);
+    }
+
+    public static ITestableInput createTestableInputFromLocation(StoredLocation storedLocation)
+            throws LocationsException {
+        URI uri = getLocationURI(storedLocation);
         if (uri == null) {
             throw new LocationsException("Failed to get URI for stored location."); //$NON-NLS-1$
         }
         ITestableInput input = null;
-        String projId = storedLocation.getProperty(IXmlTagsAndAttributes.PROJECT_ID_ATTR);
-        String project = storedLocation.getProperty(IXmlTagsAndAttributes.PROJECT_ATTR);
-        String projPath = storedLocation.getProperty(IXmlTagsAndAttributes.PROJECT_PATH_ATTR);
-        String resProjPath = storedLocation.getProperty(IXmlTagsAndAttributes.RESOURCE_PROJECT_RELATIVE_PATH_ATTR);
-        String symbols = storedLocation.getProperty(IXmlTagsAndAttributes.SYMBOLS_ATTR);
+        String projId = storedLocation.getProjectId();
+        String project = storedLocation.getProject();
+        String projPath = storedLocation.getProjectPath();
+        String resProjPath = storedLocation.getResourceProjectPath();
+        String symbols = storedLocation.getSymbols();
         input = createTestableInput(uri, projId, project, projPath, resProjPath, symbols);
 
-        for (String sKey : getAdditionalAttributes(storedLocation.keySet())) {
-            ((IAttributedEntity) input).addAttribute(sKey, storedLocation.getProperty(sKey));
+        for (String sKey : storedLocation.getAttributeNames()) {
+            if (isAdditionalAttribute(sKey)) {
+                ((IAttributedEntity) input).addAttribute(sKey, storedLocation.getAttribute(sKey));
+            }
         }
         return input;
     }
@@ -158,31 +170,29 @@ public final class LocationUtil {
         return "http".equals(scheme) || "https".equals(scheme); //$NON-NLS-1$ //$NON-NLS-2$
     }
 
-    private static Iterable<String> getAdditionalAttributes(Set<?> keys) {
-        List<String> result = new ArrayList<>();
-        for (Object key : keys) {
-            if (!(key instanceof String)) {
-                continue;
-            }
-            String sKey = (String) key;
-            if (ArraysUtil.contains(KNOWN_ATTRIBUTES, sKey)) {
-                continue;
-            }
-            result.add(sKey);
-        }
-        return result;
+    /**
+     * @param sName the name of stored location property
+     * @return <code>true</code> if the property is copied to attributes of created testable input
+     */
+    static boolean isAdditionalAttribute(String sName) {
+        return !ArraysUtil.contains(KNOWN_ATTRIBUTES, sName);
     }
 
     public static Properties readStoredLocation(Attributes attributes) {
-        Properties storedLocation = new Properties();
-        int length = attributes.getLength();
-        for (int i = 0; i < length; i++) {
-            String sName = attributes.getQName(i);
-            String sValue = attributes.getValue(i);
-            storedLocation.setProperty(sName, sValue);
-        }
-        storedLocation.remove(IXmlTagsAndAttributes.LOC_REF_ATTR);
-        return storedLocation;
+        return readStoredLocation(attributes, null);
+    }
+
+    /**
+     * Reads the stored location from attributes of location element.
+     *
+     * @param attributes  the attributes of location element
+     * @param stringTable the table to deduplicate read names and values with or <code>null</code>
+     * @return the stored location
+     * @pre attributes != null
+     * @see StoredLocation#read(Attributes, StringTable, String)
+     */
+    public static Properties readStoredLocation(Attributes attributes, StringTable stringTable) {
+        return StoredLocation.read(attributes, stringTable, null).toProperties();
     }
 
     private static final String[] KNOWN_ATTRIBUTES = new String[]{
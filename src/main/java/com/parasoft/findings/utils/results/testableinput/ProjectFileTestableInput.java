@@ -24,6 +24,10 @@ public class ProjectFileTestableInput extends FileTestableInput
         _sProjectPath = sProjectPath;
     }
 
+    public String getProjectId() {
+        return _sProjectId;
+    }
+
     @Override
     public String getProjectName() {
         return _sProjectName;
@@ -18,6 +18,7 @@ package com.parasoft.findings.utils.results.testableinput;
 
 import com.parasoft.findings.utils.results.violations.IAttributedEntity;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -26,6 +27,7 @@ public class RemoteTestableInput
 
     private final String _url;
     private final Map<String, String> _attrs;
+    private boolean _bFrozen = false;
 
     private final String _projectName;
 
@@ -35,8 +37,14 @@ public class RemoteTestableInput
         _projectName = projectName;
     }
 
+    /**
+     * @throws UnsupportedOperationException if this input is frozen
+     */
     @Override
     public void addAttribute(String key, String value) {
+        if (_bFrozen) {
+            throw new UnsupportedOperationException("Shared testable input cannot be modified."); //$NON-NLS-1$
+        }
         _attrs.put(key, value);
     }
 
@@ -45,6 +53,27 @@ public class RemoteTestableInput
         return _attrs.get(key);
     }
 
+    /**
+     * @return unmodifiable view of all attributes of this input
+     */
+    public Map<String, String> getAttributes() {
+        return Collections.unmodifiableMap(_attrs);
+    }
+
+    /**
+     * @return <code>true</code> if this input is shared and its attributes cannot be modified
+     */
+    public boolean isFrozen() {
+        return _bFrozen;
+    }
+
+    /**
+     * Makes attributes of this input unmodifiable, so it can be shared.
+     */
+    void freeze() {
+        _bFrozen = true;
+    }
+
     @Override
     public String getName() {
         return _url;
@@ -0,0 +1,314 @@
+/*
+ * Copyright 2023 Parasoft Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.parasoft.findings.utils.results.testableinput;
+
+import com.parasoft.findings.utils.common.util.StringTable;
+import com.parasoft.findings.utils.results.xml.IXmlTagsAndAttributes;
+import org.xml.sax.Attributes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Immutable location stored in the locations section of report.
+ * <p>
+ * Attributes used to resolve testable inputs are kept in fields, all other attributes
+ * are kept as name and value pairs. Compared to {@link Properties} the record has no locking
+ * and no per-entry objects. {@link #fromProperties(Properties)} and {@link #toProperties()}
+ * convert from and to the property based representation used by earlier API.
+ */
+public final class StoredLocation {
+    private final String _sUri;
+
+    private final String _sLoc;
+
+    private final String _sFileSystemPath;
+
+    private final String _sProjectId;
+
+    private final String _sProject;
+
+    private final String _sProjectPath;
+
+    private final String _sResourceProjectPath;
+
+    private final String _sSourceControlPath;
+
+    private final String _sSymbols;
+
+    /**
+     * names and values of other attributes, stored alternately
+     */
+    private final String[] _aOtherAttributes;
+
+    private StoredLocation(String[] aTypedValues, String[] aOtherAttributes) {
+        _sUri = aTypedValues[URI_INDEX];
+        _sLoc = aTypedValues[LOC_INDEX];
+        _sFileSystemPath = aTypedValues[FS_PATH_INDEX];
+        _sProjectId = aTypedValues[PROJECT_ID_INDEX];
+        _sProject = aTypedValues[PROJECT_INDEX];
+        _sProjectPath = aTypedValues[PROJECT_PATH_INDEX];
+        _sResourceProjectPath = aTypedValues[RESOURCE_PROJECT_PATH_INDEX];
+        _sSourceControlPath = aTypedValues[SOURCE_CONTROL_PATH_INDEX];
+        _sSymbols = aTypedValues[SYMBOLS_INDEX];
+        _aOtherAttributes = aOtherAttributes;
+    }
+
+    /**
+     * Reads the stored location from attributes of location element. Location reference attribute is skipped.
+     *
+     * @param attributes  the attributes of location element
+     * @param stringTable the table to deduplicate read names and values with or <code>null</code>
+     * @param sRepRef     the repository reference replacing the one read from attributes or <code>null</code>
+     * @return the stored location
+     * @pre attributes != null
+     */
+    public static StoredLocation read(Attributes attributes, StringTable stringTable, String sRepRef) {
+        String[] aTypedValues = new String[TYPED_ATTRIBUTES.length];
+        List<String> otherAttributes = null;
+        int length = attributes.getLength();
+        for (int i = 0; i < length; i++) {
+            String sName = attributes.getQName(i);
+            if (IXmlTagsAndAttributes.LOC_REF_ATTR.equals(sName)
+                    || ((sRepRef != null) && IXmlTagsAndAttributes.REP_REF_ATTR.equals(sName))) {
+                continue;
+            }
+            String sValue = attributes.getValue(i);
+            if (stringTable != null) {
+                sValue = stringTable.intern(sValue);
+            }
+            int index = getTypedIndex(sName);
+            if (index >= 0) {
+                aTypedValues[index] = sValue;
+                continue;
+            }
+            if (otherAttributes == null) {
+                otherAttributes = new ArrayList<String>();
+            }
+            otherAttributes.add((stringTable != null) ? stringTable.intern(sName) : sName);
+            otherAttributes.add(sValue);
+        }
+        if (sRepRef != null) {
+            if (otherAttributes == null) {
+                otherAttributes = new ArrayList<String>();
+            }
+            otherAttributes.add(IXmlTagsAndAttributes.REP_REF_ATTR);
+            otherAttributes.add(sRepRef);
+        }
+        return new StoredLocation(aTypedValues, toArray(otherAttributes));
+    }
+
+    /**
+     * @param properties the stored location in property based representation
+     * @return the stored location with the same attributes
+     * @pre properties != null
+     */
+    public static StoredLocation fromProperties(Properties properties) {
+        String[] aTypedValues = new String[TYPED_ATTRIBUTES.length];
+        List<String> otherAttributes = null;
+        for (String sName : properties.stringPropertyNames()) {
+            String sValue = properties.getProperty(sName);
+            int index = getTypedIndex(sName);
+            if (index >= 0) {
+                aTypedValues[index] = sValue;
+                continue;
+            }
+            if (otherAttributes == null) {
+                otherAttributes = new ArrayList<String>();
+            }
+            otherAttributes.add(sName);
+            otherAttributes.add(sValue);
+        }
+        return new StoredLocation(aTypedValues, toArray(otherAttributes));
+    }
+
+    /**
+     * @return new property based representation of this location
+     */
+    public Properties toProperties() {
+        Properties properties = new Properties();
+        for (String sName : getAttributeNames()) {
+            properties.setProperty(sName, getAttribute(sName));
+        }
+        return properties;
+    }
+
+    public String getUri() {
+        return _sUri;
+    }
+
+    /**
+     * @return the path of legacy location
+     */
+    public String getLoc() {
+        return _sLoc;
+    }
+
+    public String getFileSystemPath() {
+        return _sFileSystemPath;
+    }
+
+    public String getProjectId() {
+        return _sProjectId;
+    }
+
+    public String getProject() {
+        return _sProject;
+    }
+
+    public String getProjectPath() {
+        return _sProjectPath;
+    }
+
+    public String getResourceProjectPath() {
+        return _sResourceProjectPath;
+    }
+
+    public String getSourceControlPath() {
+        return _sSourceControlPath;
+    }
+
+    public String getSymbols() {
+        return _sSymbols;
+    }
+
+    /**
+     * @param sName the attribute name
+     * @return the attribute value or <code>null</code> if there is no such attribute
+     */
+    public String getAttribute(String sName) {
+        int index = getTypedIndex(sName);
+        if (index >= 0) {
+            return getTypedValue(index);
+        }
+        for (int i = 0; i < _aOtherAttributes.length; i += 2) {
+            if (_aOtherAttributes[i].equals(sName)) {
+                return _aOtherAttributes[i + 1];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the names of all attributes of this location
+     */
+    public List<String> getAttributeNames() {
+        List<String> names = new ArrayList<String>(TYPED_ATTRIBUTES.length + (_aOtherAttributes.length / 2));
+        for (int i = 0; i < TYPED_ATTRIBUTES.length; i++) {
+            if (getTypedValue(i) != null) {
+                names.add(TYPED_ATTRIBUTES[i]);
+            }
+        }
+        for (int i = 0; i < _aOtherAttributes.length; i += 2) {
+            names.add(_aOtherAttributes[i]);
+        }
+        return names;
+    }
+
+    /**
+     * @return the number of attributes of this location
+     */
+    public int size() {
+        int size = _aOtherAttributes.length / 2;
+        for (int i = 0; i < TYPED_ATTRIBUTES.length; i++) {
+            if (getTypedValue(i) != null) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return "StoredLocation" + toProperties(); //$NON-NLS-1$
+    }
+
+    private String getTypedValue(int index) {
+        switch (index) {
+            case URI_INDEX:
+                return _sUri;
+            case LOC_INDEX:
+                return _sLoc;
+            case FS_PATH_INDEX:
+                return _sFileSystemPath;
+            case PROJECT_ID_INDEX:
+                return _sProjectId;
+            case PROJECT_INDEX:
+                return _sProject;
+            case PROJECT_PATH_INDEX:
+                return _sProjectPath;
+            case RESOURCE_PROJECT_PATH_INDEX:
+                return _sResourceProjectPath;
+            case SOURCE_CONTROL_PATH_INDEX:
+                return _sSourceControlPath;
+            case SYMBOLS_INDEX:
+                return _sSymbols;
+            default:
+                return null;
+        }
+    }
+
+    private static int getTypedIndex(String sName) {
+        for (int i = 0; i < TYPED_ATTRIBUTES.length; i++) {
+            if (TYPED_ATTRIBUTES[i].equals(sName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String[] toArray(List<String> list) {
+        return (list == null) ? NO_ATTRIBUTES : list.toArray(new String[list.size()]);
+    }
+
+    private static final int URI_INDEX = 0;
+
+    private static final int LOC_INDEX = 1;
+
+    private static final int FS_PATH_INDEX = 2;
+
+    private static final int PROJECT_ID_INDEX = 3;
+
+    private static final int PROJECT_INDEX = 4;
+
+    private static final int PROJECT_PATH_INDEX = 5;
+
+    private static final int RESOURCE_PROJECT_PATH_INDEX = 6;
+
+    private static final int SOURCE_CONTROL_PATH_INDEX = 7;
+
+    private static final int SYMBOLS_INDEX = 8;
+
+    /**
+     * attributes kept in fields, ordered by field indices
+     */
+    private static final String[] TYPED_ATTRIBUTES = new String[]{
+            IXmlTagsAndAttributes.URI_ATTR,
+            IXmlTagsAndAttributes.LOC_ATTR,
+            IXmlTagsAndAttributes.FS_PATH,
+            IXmlTagsAndAttributes.PROJECT_ID_ATTR,
+            IXmlTagsAndAttributes.PROJECT_ATTR,
+            IXmlTagsAndAttributes.PROJECT_PATH_ATTR,
+            IXmlTagsAndAttributes.RESOURCE_PROJECT_RELATIVE_PATH_ATTR,
+            IXmlTagsAndAttributes.SOURCE_CONTROL_PATH_ATTR,
+            IXmlTagsAndAttributes.SYMBOLS_ATTR
+    };
+
+    private static final String[] NO_ATTRIBUTES = new String[0];
+}
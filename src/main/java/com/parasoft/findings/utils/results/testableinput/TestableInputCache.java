@@ -0,0 +1,150 @@
+/*
+ * Copyright 2023 Parasoft Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.parasoft.findings.utils.results.testableinput;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Default {@link ITestableInputCache}, bounded by the number of cached inputs.
+ * <p>
+ * Entries are spread over independently locked segments, each evicting its least recently used
+ * entries, so concurrent imports rarely wait for each other.
+ */
+public final class TestableInputCache
+        implements ITestableInputCache {
+    private final Segment[] _aSegments;
+
+    private final AtomicLong _hitsCount = new AtomicLong();
+
+    private final AtomicLong _missesCount = new AtomicLong();
+
+    /**
+     * Creates the cache with default maximum size.
+     */
+    public TestableInputCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * @param maxSize the maximum number of cached inputs
+     * @pre maxSize > 0
+     */
+    public TestableInputCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Illegal maximum size: " + maxSize); //$NON-NLS-1$
+        }
+        int segmentsCount = Math.min(SEGMENTS_COUNT, Integer.highestOneBit(maxSize));
+        _aSegments = new Segment[segmentsCount];
+        for (int i = 0; i < segmentsCount; i++) {
+            // spread the remainder so the total capacity equals maxSize
+            int segmentSize = (maxSize / segmentsCount) + ((i < (maxSize % segmentsCount)) ? 1 : 0);
+            _aSegments[i] = new Segment(segmentSize);
+        }
+    }
+
+    @Override
+    public ITestableInput get(String sKey) {
+        Segment segment = getSegment(sKey);
+        ITestableInput input;
+        synchronized (segment) {
+            input = segment.get(sKey);
+        }
+        if (input != null) {
+            _hitsCount.incrementAndGet();
+        } else {
+            _missesCount.incrementAndGet();
+        }
+        return input;
+    }
+
+    @Override
+    public void put(String sKey, ITestableInput input) {
+        Segment segment = getSegment(sKey);
+        synchronized (segment) {
+            segment.put(sKey, input);
+        }
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (Segment segment : _aSegments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        for (Segment segment : _aSegments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    @Override
+    public long getHitsCount() {
+        return _hitsCount.get();
+    }
+
+    @Override
+    public long getMissesCount() {
+        return _missesCount.get();
+    }
+
+    /**
+     * @return the ratio of lookups which found cached input, <code>0</code> if there were no lookups
+     */
+    public double getHitRatio() {
+        long hits = _hitsCount.get();
+        long lookups = hits + _missesCount.get();
+        return (lookups == 0L) ? 0.0 : ((double) hits / lookups);
+    }
+
+    private Segment getSegment(String sKey) {
+        int hash = sKey.hashCode();
+        hash ^= (hash >>> 16);
+        return _aSegments[hash & (_aSegments.length - 1)];
+    }
+
+    private static final class Segment
+            extends LinkedHashMap<String, ITestableInput> {
+        private static final long serialVersionUID = 1L;
+
+        private final int _maxSize;
+
+        Segment(int maxSize) {
+            super(16, 0.75f, true);
+            _maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ITestableInput> eldest) {
+            return size() > _maxSize;
+        }
+    }
+
+    private static final int DEFAULT_MAX_SIZE = 16384;
+
+    private static final int SEGMENTS_COUNT = 16;
+}
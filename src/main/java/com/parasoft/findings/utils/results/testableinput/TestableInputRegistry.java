@@ -0,0 +1,132 @@
+/*
+ * Copyright 2023 Parasoft Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.parasoft.findings.utils.results.testableinput;
+
+import com.parasoft.findings.utils.results.violations.LocationsException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Registry of testable inputs created from stored locations of reports.
+ * <p>
+ * Stored locations describing the same resource resolve to a single shared input, also when
+ * they come from different reports, so violations do not hold separate copies of equal inputs.
+ * Returned inputs are frozen, so their attributes cannot be modified. Registered inputs are kept in given {@link ITestableInputCache},
+ * which bounds the registry size and makes it safe for concurrent imports.
+ */
+public final class TestableInputRegistry {
+    private final ITestableInputCache _cache;
+
+    /**
+     * @param cache the cache keeping registered inputs
+     * @pre cache != null
+     */
+    public TestableInputRegistry(ITestableInputCache cache) {
+        _cache = cache;
+    }
+
+    /**
+     * Returns registered input for given stored location, creating and registering it if needed.
+     *
+     * @param storedLocation the stored location
+     * @return the shared, frozen testable input
+     * @throws LocationsException if the input cannot be created from given location
+     * @pre storedLocation != null
+     * @see LocationUtil#createTestableInputFromLocation(StoredLocation)
+     */
+    public ITestableInput getTestableInput(StoredLocation storedLocation)
+            throws LocationsException {
+        String sKey = getKey(storedLocation);
+        ITestableInput input = _cache.get(sKey);
+        if (input == null) {
+            input = LocationUtil.createTestableInputFromLocation(storedLocation);
+            freeze(input);
+            _cache.put(sKey, input);
+        }
+        return input;
+    }
+
+    /**
+     * Makes attributes of given input unmodifiable before it is shared by many violations.
+     */
+    static void freeze(ITestableInput input) {
+        if (input instanceof FileTestableInput) {
+            ((FileTestableInput) input).freeze();
+        } else if (input instanceof RemoteTestableInput) {
+            ((RemoteTestableInput) input).freeze();
+        }
+    }
+
+    /**
+     * @return the cache keeping registered inputs
+     */
+    public ITestableInputCache getCache() {
+        return _cache;
+    }
+
+    /**
+     * The key consists of all location properties used to create the input. Properties which
+     * only describe the resource state, like its hash or revision, are not part of the key.
+     */
+    static String getKey(StoredLocation storedLocation) {
+        StringBuilder sb = new StringBuilder(KEY_PREFIX);
+        appendValue(sb, storedLocation.getUri());
+        appendValue(sb, storedLocation.getProjectId());
+        appendValue(sb, storedLocation.getProject());
+        appendValue(sb, storedLocation.getProjectPath());
+        appendValue(sb, storedLocation.getResourceProjectPath());
+        appendValue(sb, storedLocation.getSourceControlPath());
+        List<String> additionalNames = null;
+        for (String sName : storedLocation.getAttributeNames()) {
+            if (LocationUtil.isAdditionalAttribute(sName)) {
+                if (additionalNames == null) {
+                    additionalNames = new ArrayList<String>();
+                }
+                additionalNames.add(sName);
+            }
+        }
+        if (additionalNames != null) {
+            Collections.sort(additionalNames);
+            for (String sName : additionalNames) {
+                appendValue(sb, sName);
+                appendValue(sb, storedLocation.getAttribute(sName));
+            }
+        }
+        return sb.toString();
+    }
+
+    private static void appendValue(StringBuilder sb, String sValue) {
+        sb.append(KEY_SEPARATOR);
+        if (sValue != null) {
+            sb.append(sValue);
+        } else {
+            sb.append(NULL_VALUE);
+        }
+    }
+
+    /**
+     * distinguishes registry keys from other keys kept in the shared cache
+     */
+    private static final String KEY_PREFIX = "\u0001loc"; //$NON-NLS-1$
+
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private static final char NULL_VALUE = '\u0002';
+}
@@ -66,7 +66,7 @@ public abstract class AbstractCodingStandardsViolation
     }
 
     @Override
-    public int hashCode() {
+    protected int computeHashCode() {
         int result = getMessage().hashCode();
         result = 31 * result + (getRuleId() == null ? 0 : getRuleId().hashCode());
         result = 31 * result + (getResultLocation() == null ? 0 : getResultLocation().hashCode());
@@ -16,12 +16,13 @@
 
 package com.parasoft.findings.utils.results.violations;
 
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.Map;
 
 import com.parasoft.findings.utils.common.util.ObjectUtil;
 import com.parasoft.findings.utils.common.util.IntegerUtil;
 import com.parasoft.findings.utils.common.util.StringUtil;
+import com.parasoft.findings.utils.results.xml.IXmlTagsAndAttributes;
 
 /**
  * Abstract violation implementation.
@@ -31,7 +32,7 @@ public abstract class AbstractViolation
     /**
      * Result attributes
      */
-    private final Map<String, String> _attributes = new HashMap<String, String>();
+    private final Map<String, String> _attributes = new CompactAttributeMap();
 
     /**
      * language
@@ -56,6 +57,26 @@ public abstract class AbstractViolation
      */
     protected String _sMessage;
 
+    /**
+     * severity parsed from severity attribute when it is added
+     */
+    private int _severity = ViolationRuleUtil.INVALID_SEVERITY;
+
+    /**
+     * path of the file of location, used as sort key
+     */
+    private final String _sFilePath;
+
+    /**
+     * start line of location, used as sort key
+     */
+    private final int _line;
+
+    /**
+     * cached hash code, <code>0</code> if not computed yet
+     */
+    private int _hashCode = 0;
+
     /**
      * Constructor.
      *
@@ -76,16 +97,28 @@ public abstract class AbstractViolation
         _sLanguageId = sLanguageId;
         _sAnalyzerId = sAnalyzerId;
         _location = location;
+        _sFilePath = ViolationPathUtil.getFilePath(location);
+        _line = ViolationComparators.getLine(location);
     }
 
     public void addAttribute(String sName, String sValue) {
         _attributes.put(sName, sValue);
+        if (IXmlTagsAndAttributes.SEVERITY_ATTR.equals(sName)) {
+            _severity = ViolationRuleUtil.parseSeverity(sValue);
+        }
     }
 
     public String getAttribute(String sName) {
         return _attributes.get(sName);
     }
 
+    /**
+     * @return unmodifiable view of all attributes of this violation
+     */
+    public Map<String, String> getAttributes() {
+        return Collections.unmodifiableMap(_attributes);
+    }
+
     @Override
     public String getAnalyzerId() {
         return _sAnalyzerId;
@@ -114,7 +147,28 @@ public abstract class AbstractViolation
     @Override
     public int compareTo(Object object) {
         int other_severity = ViolationRuleUtil.getSeverity((IViolation) object);
-        return IntegerUtil.compare(ViolationRuleUtil.getSeverity(this), other_severity);
+        return IntegerUtil.compare(_severity, other_severity);
+    }
+
+    /**
+     * @return the severity of this violation, {@link ViolationRuleUtil#INVALID_SEVERITY} if it has no valid severity
+     */
+    int getSeverity() {
+        return _severity;
+    }
+
+    /**
+     * @return the path of the file of this violation location, <code>null</code> if it has no location
+     */
+    String getFilePath() {
+        return _sFilePath;
+    }
+
+    /**
+     * @return the start line of this violation location, <code>0</code> if it has no source range
+     */
+    int getLine() {
+        return _line;
     }
 
     @Override
@@ -126,8 +180,26 @@ public abstract class AbstractViolation
         return null;
     }
 
+    /**
+     * Returns hash code computed on the first call by {@link #computeHashCode()}.
+     * Violations are not modified after they are read, so the hash code does not change.
+     * Subclasses should override {@link #computeHashCode()} to keep the caching, but may still
+     * override this method.
+     */
     @Override
     public int hashCode() {
+        int hashCode = _hashCode;
+        if (hashCode == 0) {
+            hashCode = computeHashCode();
+            _hashCode = hashCode;
+        }
+        return hashCode;
+    }
+
+    /**
+     * @return the hash code of this violation, consistent with {@link #equals(Object)}
+     */
+    protected int computeHashCode() {
         int result = (getMessage() == null ? 0 : getMessage().hashCode());
         result = 31 * result + (getResultLocation() == null ? 0 : getResultLocation().hashCode());
         return result;
@@ -0,0 +1,286 @@
+/*
+ * Copyright 2023 Parasoft Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.parasoft.findings.utils.results.violations;
+
+import com.parasoft.findings.utils.results.xml.IXmlTagsAndAttributes;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Compact map of string attributes, designed for the small number of attributes of
+ * report elements and violations.
+ * <p>
+ * Keys and values are kept in two arrays, in insertion order, without per entry objects.
+ * Keys which are names of known report attributes (see {@link IXmlTagsAndAttributes}) are
+ * replaced with the canonical constant instance, so lookups usually succeed on identity
+ * comparison and maps of many elements share the same key instances.
+ * <p>
+ * Lookups are linear, so the map should not be used for large number of entries.
+ * Null keys are not supported. This class is not thread safe.
+ */
+public final class CompactAttributeMap
+        extends AbstractMap<String, String> {
+    private String[] _aKeys;
+
+    private String[] _aValues;
+
+    private int _size = 0;
+
+    private int _modCount = 0;
+
+    private Set<Map.Entry<String, String>> _entrySet = null;
+
+    public CompactAttributeMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity the initial capacity
+     * @pre capacity >= 0
+     */
+    public CompactAttributeMap(int capacity) {
+        _aKeys = new String[capacity];
+        _aValues = new String[capacity];
+    }
+
+    @Override
+    public int size() {
+        return _size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return _size == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public String get(Object key) {
+        int idx = indexOf(key);
+        return (idx >= 0) ? _aValues[idx] : null;
+    }
+
+    @Override
+    public String put(String sKey, String sValue) {
+        if (sKey == null) {
+            throw new NullPointerException("Null attribute name"); //$NON-NLS-1$
+        }
+        int idx = indexOf(sKey);
+        if (idx >= 0) {
+            String sOldValue = _aValues[idx];
+            _aValues[idx] = sValue;
+            return sOldValue;
+        }
+        if (_size == _aKeys.length) {
+            int newCapacity = Math.max(DEFAULT_CAPACITY, _size + (_size >> 1) + 1);
+            _aKeys = Arrays.copyOf(_aKeys, newCapacity);
+            _aValues = Arrays.copyOf(_aValues, newCapacity);
+        }
+        _aKeys[_size] = getCanonicalKey(sKey);
+        _aValues[_size] = sValue;
+        _size++;
+        _modCount++;
+        return null;
+    }
+
+    @Override
+    public String remove(Object key) {
+        int idx = indexOf(key);
+        if (idx < 0) {
+            return null;
+        }
+        String sOldValue = _aValues[idx];
+        removeAt(idx);
+        return sOldValue;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(_aKeys, 0, _size, null);
+        Arrays.fill(_aValues, 0, _size, null);
+        _size = 0;
+        _modCount++;
+    }
+
+    /**
+     * Reduces the capacity to the number of entries, to minimize memory retained by
+     * the map which is not going to be modified anymore.
+     */
+    public void trimToSize() {
+        if (_size < _aKeys.length) {
+            _aKeys = Arrays.copyOf(_aKeys, _size);
+            _aValues = Arrays.copyOf(_aValues, _size);
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<String, String>> entrySet() {
+        if (_entrySet == null) {
+            _entrySet = new EntrySet();
+        }
+        return _entrySet;
+    }
+
+    private int indexOf(Object key) {
+        for (int i = 0; i < _size; i++) {
+            if (_aKeys[i] == key) {
+                return i;
+            }
+        }
+        if (key != null) {
+            for (int i = 0; i < _size; i++) {
+                if (key.equals(_aKeys[i])) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private void removeAt(int idx) {
+        int moved = _size - idx - 1;
+        if (moved > 0) {
+            System.arraycopy(_aKeys, idx + 1, _aKeys, idx, moved);
+            System.arraycopy(_aValues, idx + 1, _aValues, idx, moved);
+        }
+        _size--;
+        _aKeys[_size] = null;
+        _aValues[_size] = null;
+        _modCount++;
+    }
+
+    /**
+     * @param sKey the attribute name
+     * @return canonical instance of known attribute name or given name
+     */
+    static String getCanonicalKey(String sKey) {
+        String sCanonical = KNOWN_KEYS.get(sKey);
+        return (sCanonical != null) ? sCanonical : sKey;
+    }
+
+    private final class EntrySet
+            extends AbstractSet<Map.Entry<String, String>> {
+        @Override
+        public Iterator<Map.Entry<String, String>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return _size;
+        }
+
+        @Override
+        public void clear() {
+            CompactAttributeMap.this.clear();
+        }
+    }
+
+    private final class EntryIterator
+            implements Iterator<Map.Entry<String, String>> {
+        private int _nextIdx = 0;
+
+        private int _lastIdx = -1;
+
+        private int _expectedModCount = _modCount;
+
+        @Override
+        public boolean hasNext() {
+            return _nextIdx < _size;
+        }
+
+        @Override
+        public Map.Entry<String, String> next() {
+            if (_expectedModCount != _modCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (_nextIdx >= _size) {
+                throw new NoSuchElementException();
+            }
+            _lastIdx = _nextIdx++;
+            return new Entry(_lastIdx);
+        }
+
+        @Override
+        public void remove() {
+            if (_lastIdx < 0) {
+                throw new IllegalStateException();
+            }
+            if (_expectedModCount != _modCount) {
+                throw new ConcurrentModificationException();
+            }
+            removeAt(_lastIdx);
+            _nextIdx = _lastIdx;
+            _lastIdx = -1;
+            _expectedModCount = _modCount;
+        }
+    }
+
+    private final class Entry
+            extends AbstractMap.SimpleEntry<String, String> {
+        private static final long serialVersionUID = 1L;
+
+        private final int _idx;
+
+        Entry(int idx) {
+            super(_aKeys[idx], _aValues[idx]);
+            _idx = idx;
+        }
+
+        @Override
+        public String setValue(String sValue) {
+            _aValues[_idx] = sValue;
+            return super.setValue(sValue);
+        }
+    }
+
+    private static Map<String, String> collectKnownKeys() {
+        Map<String, String> knownKeys = new HashMap<String, String>();
+        for (Field field : IXmlTagsAndAttributes.class.getFields()) {
+            if (Modifier.isStatic(field.getModifiers()) && (field.getType() == String.class)) {
+                try {
+                    String sValue = (String) field.get(null);
+                    knownKeys.put(sValue, sValue);
+                } catch (IllegalAccessException e) {
+                    Logger.getLogger().warn(e);
+                }
+            }
+        }
+        return knownKeys;
+    }
+
+    private static final int DEFAULT_CAPACITY = 8;
+
+    /**
+     * canonical instances of known attribute names
+     */
+    private static final Map<String, String> KNOWN_KEYS = collectKnownKeys();
+}
@@ -16,7 +16,7 @@
 
 package com.parasoft.findings.utils.results.violations;
 
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.Map;
 
 import com.parasoft.findings.utils.common.util.ObjectUtil;
@@ -25,7 +25,7 @@ public class DupCodePathElement
         implements IPathElement {
     private final ResultLocation _location;
     private final String _description;
-    private final Map<String, String> _attrs = new HashMap<String, String>();
+    private final Map<String, String> _attrs = new CompactAttributeMap(1);
 
     public DupCodePathElement(String desc, ResultLocation location) {
         _description = desc;
@@ -52,6 +52,13 @@ public class DupCodePathElement
         return _attrs.get(sName);
     }
 
+    /**
+     * @return unmodifiable view of all attributes of this path element
+     */
+    public Map<String, String> getAttributes() {
+        return Collections.unmodifiableMap(_attrs);
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (obj == this) {
@@ -18,13 +18,18 @@ package com.parasoft.findings.utils.results.violations;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.LinkedHashMap;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
 import com.parasoft.findings.utils.common.util.ObjectUtil;
 import com.parasoft.findings.utils.common.util.StringUtil;
 
+/**
+ * Element of flow analysis violation path. Elements read from reports may be shared
+ * by many violations, see {@link FlowAnalysisPathElementInterner}. Shared elements
+ * cannot be modified.
+ */
 public class FlowAnalysisPathElement
         implements IFlowAnalysisPathElement {
     private final String _sDescription;
@@ -43,12 +48,14 @@ public class FlowAnalysisPathElement
 
     private final Type _type;
 
+    private boolean _bShared = false;
+
     public FlowAnalysisPathElement(String sDescription, ResultLocation location, Map<String, String> attributes,
                                    IFlowAnalysisPathElement[] aChildren, Type type, String sThrownTypes, String sThrowingMethod,
                                    List<PathElementAnnotation> annotations) {
         _sDescription = sDescription;
         _location = location;
-        _attributes = (attributes == null) ? new LinkedHashMap<String, String>() : attributes;
+        _attributes = (attributes == null) ? new CompactAttributeMap(0) : attributes;
         _aChildren = aChildren;
         _type = type;
         _sThrownTypes = sThrownTypes;
@@ -64,7 +71,13 @@ public class FlowAnalysisPathElement
         return _location;
     }
 
+    /**
+     * @throws UnsupportedOperationException if this element is shared by many violations
+     */
     public void addAttribute(String sName, String sValue) {
+        if (_bShared) {
+            throw new UnsupportedOperationException("Shared path element cannot be modified."); //$NON-NLS-1$
+        }
         _attributes.put(sName, sValue);
     }
 
@@ -72,12 +85,36 @@ public class FlowAnalysisPathElement
         return _attributes.get(sName);
     }
 
+    /**
+     * @return unmodifiable view of all attributes of this path element
+     */
+    public Map<String, String> getAttributes() {
+        return Collections.unmodifiableMap(_attributes);
+    }
+
     public IFlowAnalysisPathElement[] getChildren() {
         return _aChildren;
     }
 
+    /**
+     * @return the annotations of this element, unmodifiable if this element is shared by many violations
+     */
     public List<PathElementAnnotation> getAnnotations() {
-        return _annotations;
+        return _bShared ? Collections.unmodifiableList(_annotations) : _annotations;
+    }
+
+    /**
+     * @return <code>true</code> if this element is shared by many violations and cannot be modified
+     */
+    public boolean isShared() {
+        return _bShared;
+    }
+
+    /**
+     * Marks this element as shared, so it cannot be modified anymore.
+     */
+    void markShared() {
+        _bShared = true;
     }
 
     public String getThrownTypes() {
@@ -0,0 +1,279 @@
+/*
+ * Copyright 2023 Parasoft Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.parasoft.findings.utils.results.violations;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.parasoft.findings.utils.common.util.ObjectUtil;
+import com.parasoft.findings.utils.common.util.StringUtil;
+
+/**
+ * Table of flow analysis path elements and annotations used to share identical subtrees
+ * of violation paths.
+ * <p>
+ * Flow analysis violations often repeat long identical parts of their paths. Elements passed
+ * to {@link #intern(FlowAnalysisPathElement)} are replaced with the first seen element of equal
+ * content, i.e. with equal type, description, location, attributes, thrown types, annotations
+ * and the same children instances. Since elements are created from leaves to the root, children
+ * of interned elements are already interned and repeated subtrees are stored once. Interned elements
+ * are shared by many violations and must not be modified.
+ * <p>
+ * Table is meant to live as long as a single import. This class is thread safe, so it can be used
+ * by path elements created lazily.
+ */
+public final class FlowAnalysisPathElementInterner {
+    private final Map<ElementKey, FlowAnalysisPathElement> _elements = new ConcurrentHashMap<ElementKey, FlowAnalysisPathElement>();
+
+    private final Map<AnnotationKey, PathElementAnnotation> _annotations = new ConcurrentHashMap<AnnotationKey, PathElementAnnotation>();
+
+    private final int _maxSize;
+
+    private final AtomicLong _lookupsCount = new AtomicLong();
+
+    private final AtomicLong _hitsCount = new AtomicLong();
+
+    /**
+     * Constructor.
+     */
+    public FlowAnalysisPathElementInterner() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * @param maxSize the maximum number of elements and of annotations kept in the table,
+     *                new ones are not added when the table is full
+     * @pre maxSize >= 0
+     */
+    public FlowAnalysisPathElementInterner(int maxSize) {
+        _maxSize = maxSize;
+    }
+
+    /**
+     * Returns the element of equal content kept in the table, adding given element to the table
+     * when it is seen for the first time.
+     *
+     * @param element the element to share, its children should be already interned
+     * @return equal element from the table or given element
+     * @pre element != null
+     */
+    public FlowAnalysisPathElement intern(FlowAnalysisPathElement element) {
+        _lookupsCount.incrementAndGet();
+        ElementKey key = new ElementKey(element);
+        FlowAnalysisPathElement interned = _elements.get(key);
+        if (interned == null) {
+            if (_elements.size() >= _maxSize) {
+                return element;
+            }
+            // marked before it is published, the element is discarded if other thread added equal one
+            element.markShared();
+            interned = _elements.putIfAbsent(key, element);
+            if (interned == null) {
+                return element;
+            }
+        }
+        _hitsCount.incrementAndGet();
+        return interned;
+    }
+
+    /**
+     * Replaces annotations in given list with equal annotations kept in the table.
+     *
+     * @param annotations the modifiable list of annotations, may be <code>null</code>
+     */
+    public void internAnnotations(List<PathElementAnnotation> annotations) {
+        if (annotations == null) {
+            return;
+        }
+        for (int i = 0; i < annotations.size(); i++) {
+            PathElementAnnotation annotation = annotations.get(i);
+            AnnotationKey key = new AnnotationKey(annotation);
+            PathElementAnnotation interned = _annotations.get(key);
+            if (interned == null) {
+                if (_annotations.size() < _maxSize) {
+                    _annotations.putIfAbsent(key, annotation);
+                }
+            } else {
+                annotations.set(i, interned);
+            }
+        }
+    }
+
+    /**
+     * @return the number of distinct elements kept in the table
+     */
+    public int size() {
+        return _elements.size();
+    }
+
+    /**
+     * @return the number of {@link #intern(FlowAnalysisPathElement)} calls
+     */
+    public long getLookupsCount() {
+        return _lookupsCount.get();
+    }
+
+    /**
+     * @return the number of {@link #intern(FlowAnalysisPathElement)} calls which returned shared element
+     */
+    public long getHitsCount() {
+        return _hitsCount.get();
+    }
+
+    /**
+     * @return the ratio of interned elements replaced with shared ones, <code>0</code> when
+     * there were no lookups
+     */
+    public double getSharingRatio() {
+        long lookupsCount = _lookupsCount.get();
+        return (lookupsCount == 0L) ? 0.0 : ((double) _hitsCount.get() / lookupsCount);
+    }
+
+    @Override
+    public String toString() {
+        return "FlowAnalysisPathElementInterner[size=" + size() + ", annotations=" + _annotations.size() //$NON-NLS-1$ //$NON-NLS-2$
+                + ", lookups=" + getLookupsCount() + ", hits=" + getHitsCount() //$NON-NLS-1$ //$NON-NLS-2$
+                + ", sharingRatio=" + getSharingRatio() + ']'; //$NON-NLS-1$
+    }
+
+    private static boolean areSameElements(Object[] aElements1, Object[] aElements2) {
+        if (aElements1 == aElements2) {
+            return true;
+        }
+        if ((aElements1 == null) || (aElements2 == null) || (aElements1.length != aElements2.length)) {
+            return false;
+        }
+        for (int i = 0; i < aElements1.length; i++) {
+            if (aElements1[i] != aElements2[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean areSameElements(List<?> elements1, List<?> elements2) {
+        if (elements1.size() != elements2.size()) {
+            return false;
+        }
+        for (int i = 0; i < elements1.size(); i++) {
+            if (elements1.get(i) != elements2.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int identityHashCode(Object[] aElements) {
+        int result = 1;
+        if (aElements != null) {
+            for (Object element : aElements) {
+                result = 31 * result + System.identityHashCode(element);
+            }
+        }
+        return result;
+    }
+
+    private static int identityHashCode(List<?> elements) {
+        int result = 1;
+        for (Object element : elements) {
+            result = 31 * result + System.identityHashCode(element);
+        }
+        return result;
+    }
+
+    /**
+     * Content of path element, children and annotations are compared by identity.
+     */
+    private static final class ElementKey {
+        private final FlowAnalysisPathElement _element;
+
+        private final int _hashCode;
+
+        ElementKey(FlowAnalysisPathElement element) {
+            _element = element;
+            int result = (element.getType() != null) ? element.getType().hashCode() : 0;
+            result = 31 * result + ((element.getDescription() != null) ? element.getDescription().hashCode() : 0);
+            result = 31 * result + ((element.getLocation() != null) ? element.getLocation().hashCode() : 0);
+            result = 31 * result + element.getAttributes().hashCode();
+            result = 31 * result + identityHashCode(element.getChildren());
+            result = 31 * result + identityHashCode(element.getAnnotations());
+            _hashCode = result;
+        }
+
+        @Override
+        public int hashCode() {
+            return _hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof ElementKey)) {
+                return false;
+            }
+            ElementKey other = (ElementKey) obj;
+            FlowAnalysisPathElement element = other._element;
+            return (_hashCode == other._hashCode)
+                    && ObjectUtil.equals(_element.getType(), element.getType())
+                    && StringUtil.equals(_element.getDescription(), element.getDescription())
+                    && ObjectUtil.equals(_element.getLocation(), element.getLocation())
+                    && StringUtil.equals(_element.getThrownTypes(), element.getThrownTypes())
+                    && StringUtil.equals(_element.getThrowingMethod(), element.getThrowingMethod())
+                    && areSameElements(_element.getChildren(), element.getChildren())
+                    && areSameElements(_element.getAnnotations(), element.getAnnotations())
+                    && _element.getAttributes().equals(element.getAttributes());
+        }
+    }
+
+    private static final class AnnotationKey {
+        private final PathElementAnnotation _annotation;
+
+        private final int _hashCode;
+
+        AnnotationKey(PathElementAnnotation annotation) {
+            _annotation = annotation;
+            String sMessage = annotation.getMessage();
+            String sKind = annotation.getKind();
+            _hashCode = 31 * ((sMessage != null) ? sMessage.hashCode() : 0) + ((sKind != null) ? sKind.hashCode() : 0);
+        }
+
+        @Override
+        public int hashCode() {
+            return _hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof AnnotationKey)) {
+                return false;
+            }
+            PathElementAnnotation annotation = ((AnnotationKey) obj)._annotation;
+            return StringUtil.equals(_annotation.getMessage(), annotation.getMessage())
+                    && StringUtil.equals(_annotation.getKind(), annotation.getKind());
+        }
+    }
+
+    private static final int DEFAULT_MAX_SIZE = 1 << 20;
+}
@@ -17,13 +17,19 @@
 package com.parasoft.findings.utils.results.violations;
 
 import java.util.Arrays;
+import java.util.function.Supplier;
 
 public class FlowAnalysisViolation
         extends AbstractCodingStandardsViolation
         implements IFlowAnalysisViolation {
     private final String _sRuleId;
 
-    private final IFlowAnalysisPathElement[] _aElementDescriptors;
+    private volatile IFlowAnalysisPathElement[] _aElementDescriptors;
+
+    /**
+     * supplies path elements on first access, <code>null</code> once path elements are created
+     */
+    private Supplier<IFlowAnalysisPathElement[]> _elementDescriptorsSupplier = null;
 
     public FlowAnalysisViolation(String sRuleId, String sAnalyzerId, String sLanguageId,
                                  ResultLocation resultLocation,
@@ -36,13 +42,37 @@ public class FlowAnalysisViolation
         setPackage(sPackage);
     }
 
+    /**
+     * Constructor of violation with path elements created on the first call of {@link #getPathElements()}.
+     *
+     * @param elementDescriptorsSupplier supplies path elements of violation, called once
+     * @pre elementDescriptorsSupplier != null
+     */
+    public FlowAnalysisViolation(String sRuleId, String sAnalyzerId, String sLanguageId,
+                                 ResultLocation resultLocation,
+                                 String sMessage, String sPackage,
+                                 Supplier<IFlowAnalysisPathElement[]> elementDescriptorsSupplier) {
+        this(sRuleId, sAnalyzerId, sLanguageId, resultLocation, sMessage, sPackage, (IFlowAnalysisPathElement[]) null);
+        _elementDescriptorsSupplier = elementDescriptorsSupplier;
+    }
+
     @Override
     public String getRuleId() {
         return _sRuleId;
     }
 
     public IFlowAnalysisPathElement[] getPathElements() {
-        return _aElementDescriptors;
+        IFlowAnalysisPathElement[] aElementDescriptors = _aElementDescriptors;
+        if (aElementDescriptors == null) {
+            synchronized (this) {
+                if ((_aElementDescriptors == null) && (_elementDescriptorsSupplier != null)) {
+                    _aElementDescriptors = _elementDescriptorsSupplier.get();
+                    _elementDescriptorsSupplier = null;
+                }
+                aElementDescriptors = _aElementDescriptors;
+            }
+        }
+        return aElementDescriptors;
     }
 
     @Override
@@ -58,7 +88,7 @@ public class FlowAnalysisViolation
     }
 
     @Override
-    public int hashCode() {
-        return super.hashCode();
+    protected int computeHashCode() {
+        return super.computeHashCode();
     }
 }
\ No newline at end of file
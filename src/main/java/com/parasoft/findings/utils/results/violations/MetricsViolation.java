@@ -47,8 +47,8 @@ public class MetricsViolation
     }
 
     @Override
-    public int hashCode() {
-        int result = super.hashCode();
+    protected int computeHashCode() {
+        int result = super.computeHashCode();
         result = result * 31 + ((getRuleId() == null) ? 0 : getRuleId().hashCode());
         return result;
     }
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2023 Parasoft Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.parasoft.findings.utils.results.violations;
+
+import com.parasoft.findings.utils.results.xml.RulesImportHandler;
+
+import java.io.Closeable;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Iterator over violations of many reports imported concurrently.
+ * <p>
+ * Violations of the first report are available as soon as the first report is parsed,
+ * while remaining reports are still being parsed in the background. Violations repeated
+ * in many reports may be skipped, see {@link ViolationsDeduplicator}.
+ */
+public class MultiReportViolations
+        implements Iterator<IViolation>, Closeable {
+    private final List<File> _reports;
+
+    private final List<FutureTask<XmlReportViolations>> _imports;
+
+    private int _currentReportIdx = -1;
+
+    private XmlReportViolations _currentViolations = null;
+
+    private final ViolationsDeduplicator _deduplicator;
+
+    /**
+     * imported results not yet closed, guarded by this list
+     */
+    private final List<XmlReportViolations> _openResults = new ArrayList<XmlReportViolations>();
+
+    private boolean _bClosed = false;
+
+    /**
+     * the next not duplicated violation, used only when violations are deduplicated
+     */
+    private IViolation _nextViolation = null;
+
+    /**
+     * Constructor. Submits import of every report to the executor.
+     *
+     * @param importer     the importer to use
+     * @param reports      existing report files
+     * @param executor     the executor to parse reports on
+     * @param deduplicator the detector of duplicated violations to skip, <code>null</code> to return all violations
+     */
+    MultiReportViolations(final XmlReportViolationsImporter importer, List<File> reports, Executor executor,
+                          ViolationsDeduplicator deduplicator) {
+        _reports = reports;
+        _deduplicator = deduplicator;
+        _imports = new ArrayList<FutureTask<XmlReportViolations>>(reports.size());
+        for (final File report : reports) {
+            FutureTask<XmlReportViolations> task = new FutureTask<XmlReportViolations>(new Callable<XmlReportViolations>() {
+                @Override
+                public XmlReportViolations call() {
+                    return register(importer.importReport(report));
+                }
+            });
+            _imports.add(task);
+            executor.execute(task);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (_deduplicator == null) {
+            return hasNextInReports();
+        }
+        while (_nextViolation == null) {
+            if (!hasNextInReports()) {
+                return false;
+            }
+            IViolation violation = _currentViolations.next();
+            if (_deduplicator.add(violation)) {
+                _nextViolation = violation;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public IViolation next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        if (_deduplicator == null) {
+            return _currentViolations.next();
+        }
+        IViolation violation = _nextViolation;
+        _nextViolation = null;
+        return violation;
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * @return the report of the violation returned by last call of {@link #next()},
+     * <code>null</code> if iteration has not started
+     */
+    public File getCurrentReport() {
+        if ((_currentReportIdx < 0) || (_currentReportIdx >= _reports.size())) {
+            return null;
+        }
+        return _reports.get(_currentReportIdx);
+    }
+
+    /**
+     * @return rules of the report of the violation returned by last call of {@link #next()},
+     * <code>null</code> if iteration has not started
+     */
+    public RulesImportHandler getCurrentRulesImportHandler() {
+        return (_currentViolations != null) ? _currentViolations.getRulesImportHandler() : null;
+    }
+
+    /**
+     * @return the detector of skipped duplicated violations, <code>null</code> if violations are not deduplicated
+     */
+    public ViolationsDeduplicator getDeduplicator() {
+        return _deduplicator;
+    }
+
+    /**
+     * Cancels imports which have not started yet and closes imported results, including
+     * results of running imports once they finish.
+     */
+    @Override
+    public void close() {
+        for (int i = Math.max(_currentReportIdx, 0); i < _imports.size(); i++) {
+            FutureTask<XmlReportViolations> task = _imports.get(i);
+            if (task != null) {
+                task.cancel(false);
+                _imports.set(i, null);
+            }
+        }
+        List<XmlReportViolations> openResults;
+        synchronized (_openResults) {
+            _bClosed = true;
+            openResults = new ArrayList<XmlReportViolations>(_openResults);
+            _openResults.clear();
+        }
+        for (XmlReportViolations violations : openResults) {
+            violations.close();
+        }
+        _currentReportIdx = _imports.size();
+        _currentViolations = null;
+        _nextViolation = null;
+    }
+
+    /**
+     * Called on the import thread, so results finished after {@link #close()} are closed as well.
+     *
+     * @return the result or <code>null</code> if this iterator is closed
+     */
+    private XmlReportViolations register(XmlReportViolations violations) {
+        if (violations == null) {
+            return null;
+        }
+        synchronized (_openResults) {
+            if (!_bClosed) {
+                _openResults.add(violations);
+                return violations;
+            }
+        }
+        violations.close();
+        return null;
+    }
+
+    private void closeCurrentReport() {
+        if (_currentViolations == null) {
+            return;
+        }
+        _currentViolations.close();
+        synchronized (_openResults) {
+            _openResults.remove(_currentViolations);
+        }
+        _currentViolations = null;
+    }
+
+    private boolean hasNextInReports() {
+        while ((_currentViolations == null) || !_currentViolations.hasNext()) {
+            if (!moveToNextReport()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean moveToNextReport() {
+        closeCurrentReport();
+        while ((_currentReportIdx + 1) < _imports.size()) {
+            _currentReportIdx++;
+            FutureTask<XmlReportViolations> task = _imports.get(_currentReportIdx);
+            _imports.set(_currentReportIdx, null);
+            XmlReportViolations violations = getImportResult(task, _reports.get(_currentReportIdx));
+            if (violations != null) {
+                _currentViolations = violations;
+                return true;
+            }
+        }
+        _currentViolations = null;
+        return false;
+    }
+
+    private static XmlReportViolations getImportResult(FutureTask<XmlReportViolations> task, File report) {
+        if (task == null) {
+            return null;
+        }
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            Logger.getLogger().error("Failed to import report: " + report.getAbsolutePath(), e.getCause()); //$NON-NLS-1$
+        } catch (CancellationException e) {
+            // import cancelled on close
+        }
+        return null;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2023 Parasoft Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.parasoft.findings.utils.results.violations;
+
+import com.parasoft.findings.utils.results.testableinput.TestableInputCache;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.Executor;
+
+/**
+ * Importer of many xml reports at once.
+ * <p>
+ * Reports are parsed concurrently on the given executor. Each report is parsed with
+ * its own reader and location matcher, only testable inputs resolved from report paths
+ * are shared between reports through a thread safe cache.
+ * Violations are returned in the order of given reports, and in document order within
+ * each report. When {@link #DEDUPLICATE_KEY} is enabled, violations repeated in many reports
+ * are returned once, from the first report they appear in.
+ */
+public final class MultiReportViolationsImporter {
+    private final XmlReportViolationsImporter _importer;
+
+    private final Executor _executor;
+
+    private final boolean _bDeduplicate;
+
+    /**
+     * Constructor.
+     *
+     * @param properties the import properties
+     * @param executor   the executor to parse reports on
+     * @pre properties != null
+     * @pre executor != null
+     */
+    public MultiReportViolationsImporter(Properties properties, Executor executor) {
+        _importer = new XmlReportViolationsImporter(properties, new TestableInputCache());
+        _executor = executor;
+        _bDeduplicate = Boolean.parseBoolean(properties.getProperty(DEDUPLICATE_KEY));
+    }
+
+    /**
+     * Imports results from given xml files. Not existing files are skipped.
+     *
+     * @param files source xml files
+     * @return the merged import result
+     * @pre files != null
+     */
+    public MultiReportViolations performImport(Collection<File> files) {
+        _importer.logProperties();
+        List<File> existingFiles = new ArrayList<File>(files.size());
+        for (File file : files) {
+            if (file.exists()) {
+                existingFiles.add(file);
+            } else {
+                Logger.getLogger().warn("Report file is not existing: " + file.getAbsolutePath()); //$NON-NLS-1$
+            }
+        }
+        ViolationsDeduplicator deduplicator = _bDeduplicate ? new ViolationsDeduplicator() : null;
+        return new MultiReportViolations(_importer, existingFiles, _executor, deduplicator);
+    }
+
+    /**
+     * The property enabling skipping of violations repeated in many reports, i.e. with the same rule,
+     * location and line hash. Disabled by default.
+     */
+    public static final String DEDUPLICATE_KEY = "report.import.deduplicate"; //$NON-NLS-1$
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright 2023 Parasoft Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.parasoft.findings.utils.results.violations;
+
+import com.parasoft.findings.utils.results.xml.RulesImportHandler;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * On-disk cache of imported reports.
+ * <p>
+ * Each report has a single entry keyed by its absolute path, which is valid as long as the size
+ * and SHA-256 hash of the report content are the same as when the entry was written. Entries
+ * keep the imported violations and rules in the form written by {@link ViolationsBinaryWriter},
+ * so reading an entry is much cheaper than parsing the report again. The total size of entries
+ * is bounded, least recently used entries are removed first.
+ */
+final class ReportCache {
+    private final File _cacheDir;
+
+    private final long _maxSize;
+
+    /**
+     * @param cacheDir the directory holding cache entries, created when missing
+     * @param maxSize  the maximum total size of cache entries in bytes
+     * @pre cacheDir != null
+     */
+    ReportCache(File cacheDir, long maxSize) {
+        _cacheDir = cacheDir;
+        _maxSize = maxSize;
+    }
+
+    /**
+     * Computes the key identifying the current content of given report.
+     *
+     * @param report the report file
+     * @return the key or <code>null</code> if the report cannot be read
+     */
+    Key createKey(File report) {
+        long size = report.length();
+        long lastModified = report.lastModified();
+        try {
+            MessageDigest digest = MessageDigest.getInstance(HASH_ALGORITHM);
+            try (InputStream is = new FileInputStream(report)) {
+                byte[] aBuffer = new byte[BUFFER_SIZE];
+                int read;
+                while ((read = is.read(aBuffer)) != -1) {
+                    digest.update(aBuffer, 0, read);
+                }
+            }
+            return new Key(report.getAbsolutePath(), size, lastModified, digest.digest());
+        } catch (IOException | NoSuchAlgorithmException e) {
+            Logger.getLogger().warn("Cannot compute cache key of report: " + report.getAbsolutePath(), e); //$NON-NLS-1$
+            return null;
+        }
+    }
+
+    /**
+     * Reads the violations of report from the cache.
+     *
+     * @param key the key of report
+     * @return the cached violations or <code>null</code> if there is no valid entry for the key
+     * @pre key != null
+     */
+    XmlReportViolations get(Key key) {
+        File entry = getEntryFile(key);
+        if (!entry.isFile()) {
+            return null;
+        }
+        List<IViolation> violations;
+        RulesImportHandler rules;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(entry), BUFFER_SIZE))) {
+            if ((in.readInt() != MAGIC) || (in.readInt() != FORMAT_VERSION)
+                    || !key._sPath.equals(in.readUTF()) || (key._size != in.readLong())) {
+                return null;
+            }
+            byte[] aHash = new byte[in.readUnsignedByte()];
+            in.readFully(aHash);
+            if (!Arrays.equals(key._aHash, aHash)) {
+                return null;
+            }
+            ViolationsBinaryReader reader = new ViolationsBinaryReader(in, entry.length());
+            violations = reader.readAll();
+            rules = reader.getRulesImportHandler();
+        } catch (IOException | RuntimeException e) {
+            Logger.getLogger().warn("Removing unreadable cache entry: " + entry, e); //$NON-NLS-1$
+            delete(entry);
+            return null;
+        }
+        // the entry is closed, so its access time can be updated on all platforms
+        if (!entry.setLastModified(System.currentTimeMillis())) {
+            Logger.getLogger().debug("Cannot update access time of cache entry: " + entry); //$NON-NLS-1$
+        }
+        Logger.getLogger().info("Report read from cache: " + key._sPath); //$NON-NLS-1$
+        return new XmlReportViolations(violations, rules);
+    }
+
+    /**
+     * Stores the violations of report in the cache, removing least recently used
+     * entries if the cache exceeds its maximum size.
+     *
+     * @param key        the key of report computed before it was parsed
+     * @param report     the report file
+     * @param violations the violations imported from the report
+     * @param rules      the rules imported from the report
+     * @pre key != null
+     * @pre violations != null
+     * @pre rules != null
+     */
+    void put(Key key, File report, List<IViolation> violations, RulesImportHandler rules) {
+        if ((report.length() != key._size) || (report.lastModified() != key._lastModified)) {
+            Logger.getLogger().debug("Report changed during import, skipping cache: " + key._sPath); //$NON-NLS-1$
+            return;
+        }
+        if (!_cacheDir.isDirectory() && !_cacheDir.mkdirs()) {
+            Logger.getLogger().warn("Cannot create cache directory: " + _cacheDir); //$NON-NLS-1$
+            return;
+        }
+        File entry = getEntryFile(key);
+        File tmpEntry = null;
+        try {
+            tmpEntry = File.createTempFile(entry.getName(), TMP_SUFFIX, _cacheDir);
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmpEntry), BUFFER_SIZE))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeUTF(key._sPath);
+                out.writeLong(key._size);
+                out.writeByte(key._aHash.length);
+                out.write(key._aHash);
+                ViolationsBinaryWriter writer = new ViolationsBinaryWriter(out);
+                writer.writeRules(rules);
+                writer.write(violations);
+                writer.finish();
+            }
+            try {
+                Files.move(tmpEntry.toPath(), entry.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmpEntry.toPath(), entry.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+            tmpEntry = null;
+        } catch (IOException | RuntimeException e) {
+            Logger.getLogger().warn("Cannot write cache entry for report: " + key._sPath, e); //$NON-NLS-1$
+        } finally {
+            if (tmpEntry != null) {
+                delete(tmpEntry);
+            }
+        }
+        evict();
+    }
+
+    /**
+     * Removes least recently used entries until the total size of entries does not exceed the limit.
+     */
+    void evict() {
+        File[] aEntries = _cacheDir.listFiles((dir, sName) -> sName.endsWith(ENTRY_SUFFIX));
+        if (aEntries == null) {
+            return;
+        }
+        long totalSize = 0L;
+        long[] aLastModified = new long[aEntries.length];
+        Integer[] aOrder = new Integer[aEntries.length];
+        for (int i = 0; i < aEntries.length; i++) {
+            totalSize += aEntries[i].length();
+            aLastModified[i] = aEntries[i].lastModified();
+            aOrder[i] = i;
+        }
+        Arrays.sort(aOrder, Comparator.comparingLong(i -> aLastModified[i]));
+        for (int i = 0; (i < aOrder.length) && (totalSize > _maxSize); i++) {
+            File entry = aEntries[aOrder[i]];
+            long size = entry.length();
+            if (delete(entry)) {
+                totalSize -= size;
+            }
+        }
+    }
+
+    File getEntryFile(Key key) {
+        byte[] aPathHash;
+        try {
+            aPathHash = MessageDigest.getInstance(HASH_ALGORITHM).digest(key._sPath.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < ENTRY_NAME_BYTES; i++) {
+            sb.append(Character.forDigit((aPathHash[i] >> 4) & 0xF, 16));
+            sb.append(Character.forDigit(aPathHash[i] & 0xF, 16));
+        }
+        return new File(_cacheDir, sb.append(ENTRY_SUFFIX).toString());
+    }
+
+    private static boolean delete(File file) {
+        try {
+            Files.deleteIfExists(file.toPath());
+            return true;
+        } catch (IOException e) {
+            Logger.getLogger().warn("Cannot delete cache file: " + file, e); //$NON-NLS-1$
+            return false;
+        }
+    }
+
+    /**
+     * Identifies the content of report at the time it was read.
+     */
+    static final class Key {
+        private final String _sPath;
+
+        private final long _size;
+
+        private final long _lastModified;
+
+        private final byte[] _aHash;
+
+        private Key(String sPath, long size, long lastModified, byte[] aHash) {
+            _sPath = sPath;
+            _size = size;
+            _lastModified = lastModified;
+            _aHash = aHash;
+        }
+    }
+
+    private static final int MAGIC = 0x50524331; // PRC1
+
+    private static final int FORMAT_VERSION = 2;
+
+    private static final String HASH_ALGORITHM = "SHA-256"; //$NON-NLS-1$
+
+    private static final String ENTRY_SUFFIX = ".rcache"; //$NON-NLS-1$
+
+    private static final String TMP_SUFFIX = ".tmp"; //$NON-NLS-1$
+
+    private static final int ENTRY_NAME_BYTES = 16;
+
+    private static final int BUFFER_SIZE = 65536;
+}
@@ -35,8 +35,8 @@ public class RuleViolation
     }
 
     @Override
-    public int hashCode() {
-        int result = super.hashCode();
+    protected int computeHashCode() {
+        int result = super.computeHashCode();
         result = result * 31 + ((getRuleId() == null) ? 0 : getRuleId().hashCode());
         return result;
     }
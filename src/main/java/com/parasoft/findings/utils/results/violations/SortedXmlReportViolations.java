@@ -0,0 +1,294 @@
+/*
+ * Copyright 2023 Parasoft Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.parasoft.findings.utils.results.violations;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+import com.parasoft.findings.utils.results.xml.RulesImportHandler;
+import com.parasoft.findings.utils.results.xml.ViolationsSpillFile;
+import com.parasoft.findings.utils.results.xml.XmlReportReader;
+
+/**
+ * Violations of a report in order of given comparator, sorted with bounded memory.
+ * <p>
+ * Source violations are collected into runs, each one limited by the memory budget. Every run
+ * is sorted in memory and, unless it is the only run, moved to a temporary file in compact binary
+ * encoding. Sorted runs are then merged while this iterator is consumed. When there are more runs
+ * than can be merged at once, groups of runs are first merged into longer runs. Violations equal
+ * according to the comparator keep the order of source violations.
+ * <p>
+ * Comparators of {@link ViolationComparators} are recommended, since they use sort keys kept by violations.
+ */
+public class SortedXmlReportViolations
+        extends XmlReportViolations {
+    private final XmlReportViolations _source;
+
+    private final Comparator<? super IViolation> _comparator;
+
+    private final List<ViolationsSpillFile> _runFiles = new ArrayList<ViolationsSpillFile>();
+
+    private Iterator<IViolation> _sortedIter = null;
+
+    /**
+     * Reads all source violations and sorts them. The source is closed when it is read.
+     *
+     * @param source       the violations to sort
+     * @param comparator   the comparator defining order of violations
+     * @param memoryBudget the estimated size of memory used by violations of one run in bytes,
+     *                     <code>0</code> to sort all violations in memory
+     * @throws IOException if source violations cannot be read or sorted runs cannot be written to temporary files
+     * @pre source != null
+     * @pre comparator != null
+     * @pre memoryBudget >= 0
+     */
+    public SortedXmlReportViolations(XmlReportViolations source, Comparator<? super IViolation> comparator,
+                                     long memoryBudget)
+            throws IOException {
+        super(Collections.<IViolation>emptyList(), null);
+        _source = source;
+        _comparator = comparator;
+        try {
+            _sortedIter = sort(memoryBudget);
+        } catch (UncheckedIOException e) {
+            // failure of streamed source
+            close();
+            throw e.getCause();
+        } catch (IOException | RuntimeException e) {
+            close();
+            throw e;
+        } finally {
+            _source.close();
+        }
+    }
+
+    @Override
+    public RulesImportHandler getRulesImportHandler() {
+        return _source.getRulesImportHandler();
+    }
+
+    /**
+     * @return the number of sorted runs written to temporary files, <code>0</code> if violations were sorted in memory
+     */
+    public int getRunsCount() {
+        return _runFiles.size();
+    }
+
+    /**
+     * Reading failures of temporary files are reported with {@link UncheckedIOException}.
+     */
+    @Override
+    public boolean hasNext() {
+        return (_sortedIter != null) && _sortedIter.hasNext();
+    }
+
+    @Override
+    public IViolation next() {
+        if (_sortedIter == null) {
+            throw new NoSuchElementException();
+        }
+        return _sortedIter.next();
+    }
+
+    /**
+     * Releases violations which were not yet read and deletes temporary files.
+     */
+    @Override
+    public void close() {
+        _sortedIter = null;
+        for (ViolationsSpillFile runFile : _runFiles) {
+            runFile.close();
+        }
+        _runFiles.clear();
+        super.close();
+    }
+
+    private Iterator<IViolation> sort(long memoryBudget)
+            throws IOException {
+        List<IViolation> run = new ArrayList<IViolation>();
+        long runSize = 0L;
+        while (_source.hasNext()) {
+            IViolation violation = _source.next();
+            run.add(violation);
+            if (memoryBudget > 0L) {
+                runSize += XmlReportReader.estimateSize(violation);
+                if (runSize > memoryBudget) {
+                    _runFiles.add(writeRun(run));
+                    run.clear();
+                    runSize = 0L;
+                }
+            }
+        }
+        if (_runFiles.isEmpty()) {
+            run.sort(_comparator);
+            return run.iterator();
+        }
+        if (!run.isEmpty()) {
+            _runFiles.add(writeRun(run));
+            run.clear();
+        }
+        while (_runFiles.size() > MAX_MERGED_RUNS) {
+            mergeRuns();
+        }
+        List<Iterator<IViolation>> runs = new ArrayList<Iterator<IViolation>>(_runFiles.size());
+        for (ViolationsSpillFile runFile : _runFiles) {
+            runs.add(runFile.iterator());
+        }
+        return new MergingIterator(runs, _comparator);
+    }
+
+    private ViolationsSpillFile writeRun(List<IViolation> run)
+            throws IOException {
+        run.sort(_comparator);
+        ViolationsSpillFile runFile = new ViolationsSpillFile();
+        try {
+            runFile.write(run);
+        } catch (IOException e) {
+            runFile.close();
+            throw e;
+        }
+        Logger.getLogger().debug("Sorted violations run written: " + run.size()); //$NON-NLS-1$
+        return runFile;
+    }
+
+    /**
+     * Merges groups of consecutive runs into single runs, so the order of equal violations is kept.
+     */
+    private void mergeRuns()
+            throws IOException {
+        List<ViolationsSpillFile> mergedRuns = new ArrayList<ViolationsSpillFile>();
+        try {
+            for (int groupStart = 0; groupStart < _runFiles.size(); groupStart += MAX_MERGED_RUNS) {
+                List<ViolationsSpillFile> group = _runFiles.subList(groupStart,
+                        Math.min(groupStart + MAX_MERGED_RUNS, _runFiles.size()));
+                if (group.size() == 1) {
+                    mergedRuns.add(group.get(0));
+                } else {
+                    ViolationsSpillFile mergedFile = new ViolationsSpillFile();
+                    mergedRuns.add(mergedFile);
+                    writeMerged(group, mergedFile);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            for (ViolationsSpillFile runFile : mergedRuns) {
+                if (!_runFiles.contains(runFile)) {
+                    runFile.close();
+                }
+            }
+            throw e;
+        }
+        for (ViolationsSpillFile runFile : _runFiles) {
+            if (!mergedRuns.contains(runFile)) {
+                runFile.close();
+            }
+        }
+        _runFiles.clear();
+        _runFiles.addAll(mergedRuns);
+    }
+
+    private void writeMerged(List<ViolationsSpillFile> runFiles, ViolationsSpillFile mergedFile)
+            throws IOException {
+        List<Iterator<IViolation>> runs = new ArrayList<Iterator<IViolation>>(runFiles.size());
+        for (ViolationsSpillFile runFile : runFiles) {
+            runs.add(runFile.iterator());
+        }
+        MergingIterator merged = new MergingIterator(runs, _comparator);
+        List<IViolation> chunk = new ArrayList<IViolation>(MERGE_CHUNK_SIZE);
+        while (merged.hasNext()) {
+            chunk.add(merged.next());
+            if (chunk.size() == MERGE_CHUNK_SIZE) {
+                mergedFile.write(chunk);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            mergedFile.write(chunk);
+        }
+    }
+
+    /**
+     * Merges sorted iterators, taking equal violations from iterators in their list order.
+     */
+    private static final class MergingIterator
+            implements Iterator<IViolation> {
+        private final PriorityQueue<RunCursor> _cursors;
+
+        MergingIterator(List<Iterator<IViolation>> runs, final Comparator<? super IViolation> comparator) {
+            _cursors = new PriorityQueue<RunCursor>(Math.max(1, runs.size()), (c1, c2) -> {
+                int result = comparator.compare(c1._current, c2._current);
+                return (result != 0) ? result : Integer.compare(c1._runIndex, c2._runIndex);
+            });
+            for (int i = 0; i < runs.size(); i++) {
+                Iterator<IViolation> run = runs.get(i);
+                if (run.hasNext()) {
+                    _cursors.add(new RunCursor(run, i));
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !_cursors.isEmpty();
+        }
+
+        @Override
+        public IViolation next() {
+            RunCursor cursor = _cursors.poll();
+            if (cursor == null) {
+                throw new NoSuchElementException();
+            }
+            IViolation violation = cursor._current;
+            if (cursor._run.hasNext()) {
+                cursor._current = cursor._run.next();
+                _cursors.add(cursor);
+            }
+            return violation;
+        }
+    }
+
+    private static final class RunCursor {
+        private final Iterator<IViolation> _run;
+
+        private final int _runIndex;
+
+        private IViolation _current;
+
+        RunCursor(Iterator<IViolation> run, int runIndex) {
+            _run = run;
+            _runIndex = runIndex;
+            _current = run.next();
+        }
+    }
+
+    /**
+     * maximal number of runs merged at once, limits the number of open temporary files
+     */
+    private static final int MAX_MERGED_RUNS = 64;
+
+    /**
+     * number of violations written at once to a run merged from other runs
+     */
+    private static final int MERGE_CHUNK_SIZE = 4096;
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2023 Parasoft Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.parasoft.findings.utils.results.violations;
+
+import com.parasoft.findings.utils.common.util.IOUtils;
+import com.parasoft.findings.utils.results.testableinput.ITestableInputLocationMatcher;
+import com.parasoft.findings.utils.results.xml.FileImportPreferences;
+import com.parasoft.findings.utils.results.xml.XmlReportReader;
+import org.xml.sax.SAXException;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Iterator over report violations which parses the report while it is being consumed.
+ * <p>
+ * The report is parsed on a separate thread which hands violations over through
+ * a bounded queue, so at most <code>capacity</code> violations (plus the locations
+ * table of the report) are held in memory at any time. The parse is suspended
+ * while the queue is full and resumed as the consumer calls {@link #next()}.
+ * <p>
+ * Call {@link #close()} when the iteration is abandoned before the end of report
+ * to stop the parsing thread.
+ * <p>
+ * A failure to read or parse the report is handed over through the queue as well, so
+ * {@link #hasNext()} reports it with {@link UncheckedIOException} after the violations
+ * parsed before the failure are consumed.
+ * <p>
+ * The rules are read by the parsing thread while the report is parsed, so the handler
+ * returned by {@link #getRulesImportHandler()} is complete only after {@link #hasNext()}
+ * has returned <code>false</code>. Reading it earlier is not safe.
+ */
+public class StreamingXmlReportViolations
+        extends XmlReportViolations {
+    private final BlockingQueue<Object> _queue;
+
+    private final Thread _producer;
+
+    private volatile boolean _bClosed = false;
+
+    private IViolation _nextViolation = null;
+
+    private boolean _bFinished = false;
+
+    private IOException _failure = null;
+
+    /**
+     * Creates the iterator and starts parsing of the report.
+     *
+     * @param reportURL       the report to parse
+     * @param preferences     the import preferences
+     * @param locationMatcher the location matcher
+     * @param capacity        the maximum number of parsed violations waiting for the consumer
+     * @pre reportURL != null
+     * @pre preferences != null
+     * @pre capacity > 0
+     */
+    protected StreamingXmlReportViolations(URL reportURL, FileImportPreferences preferences,
+                                           ITestableInputLocationMatcher locationMatcher, int capacity) {
+        this(reportURL, new ArrayBlockingQueue<Object>(capacity), preferences, locationMatcher);
+    }
+
+    private StreamingXmlReportViolations(URL reportURL, BlockingQueue<Object> queue, FileImportPreferences preferences,
+                                         ITestableInputLocationMatcher locationMatcher) {
+        super(new HandOffReportReader(preferences, locationMatcher, queue));
+        _queue = queue;
+        _producer = new Thread(new ReportParser(reportURL, (HandOffReportReader) getReportReader()),
+                "Report import: " + reportURL); //$NON-NLS-1$
+        _producer.setDaemon(true);
+        _producer.start();
+    }
+
+    /**
+     * @throws UncheckedIOException if the report could not be read or parsed, or the waiting
+     *                              for parsed violations was interrupted
+     */
+    @Override
+    public boolean hasNext() {
+        if (_nextViolation != null) {
+            return true;
+        }
+        if (_failure != null) {
+            throw new UncheckedIOException(_failure);
+        }
+        if (_bFinished || _bClosed) {
+            return false;
+        }
+        try {
+            Object item = _queue.take();
+            if (item == END_OF_REPORT) {
+                _bFinished = true;
+                return false;
+            }
+            if (item instanceof ReportFailure) {
+                _bFinished = true;
+                _failure = ((ReportFailure) item)._exception;
+                throw new UncheckedIOException(_failure);
+            }
+            _nextViolation = (IViolation) item;
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UncheckedIOException(new InterruptedIOException("Interrupted while waiting for report violations.")); //$NON-NLS-1$
+        }
+    }
+
+    @Override
+    public IViolation next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        IViolation violation = _nextViolation;
+        _nextViolation = null;
+        return violation;
+    }
+
+    /**
+     * @return the failure of report reading or parsing reported by {@link #hasNext()},
+     *         or <code>null</code> if there was none
+     */
+    public IOException getFailure() {
+        return _failure;
+    }
+
+    /**
+     * Stops the parsing thread and drops violations not yet consumed.
+     */
+    @Override
+    public void close() {
+        if (_bClosed) {
+            return;
+        }
+        _bClosed = true;
+        _producer.interrupt();
+        _queue.clear();
+        _nextViolation = null;
+    }
+
+    private final class ReportParser
+            implements Runnable {
+        private final URL _reportURL;
+
+        private final HandOffReportReader _reader;
+
+        ReportParser(URL reportURL, HandOffReportReader reader) {
+            _reportURL = reportURL;
+            _reader = reader;
+        }
+
+        @Override
+        public void run() {
+            InputStream is = null;
+            // reported if the parse ends with an error, so the report never looks complete
+            Object lastItem = new ReportFailure(new IOException("Report parsing aborted: " + _reportURL)); //$NON-NLS-1$
+            try {
+                is = _reportURL.openStream();
+                _reader.parse(is);
+                lastItem = END_OF_REPORT;
+            } catch (IOException ex) {
+                lastItem = new ReportFailure(ex);
+            } catch (ParserConfigurationException | SAXException ex) {
+                lastItem = new ReportFailure(new IOException("Failed to parse report: " + _reportURL, ex)); //$NON-NLS-1$
+            } catch (ImportCancelledException ice) {
+                // iterator closed by the consumer
+            } catch (RuntimeException ex) {
+                lastItem = new ReportFailure(new IOException("Failed to import report: " + _reportURL, ex)); //$NON-NLS-1$
+            } finally {
+                IOUtils.close(is);
+                if (!_bClosed) {
+                    putUninterruptibly(lastItem);
+                }
+            }
+        }
+
+        private void putUninterruptibly(Object item) {
+            boolean bInterrupted = false;
+            while (!_bClosed) {
+                try {
+                    _queue.put(item);
+                    break;
+                } catch (InterruptedException e) {
+                    bInterrupted = true;
+                }
+            }
+            if (bInterrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Report reader which passes read violations to the queue instead of collecting them.
+     */
+    private static final class HandOffReportReader
+            extends XmlReportReader {
+        private final BlockingQueue<Object> _queue;
+
+        HandOffReportReader(FileImportPreferences preferences, ITestableInputLocationMatcher locationMatcher,
+                            BlockingQueue<Object> queue) {
+            super(preferences, locationMatcher);
+            _queue = queue;
+        }
+
+        @Override
+        protected void collectViolation(IViolation violation) {
+            try {
+                _queue.put(violation);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ImportCancelledException();
+            }
+        }
+    }
+
+    /**
+     * Failure of the parsing thread passed to the consumer instead of the end of report.
+     */
+    private static final class ReportFailure {
+        private final IOException _exception;
+
+        ReportFailure(IOException exception) {
+            _exception = exception;
+        }
+    }
+
+    /**
+     * Thrown from the parsing thread to abort the parse once the iterator is closed.
+     */
+    private static final class ImportCancelledException
+            extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+    }
+
+    private static final Object END_OF_REPORT = new Object();
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2023 Parasoft Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.parasoft.findings.utils.results.violations;
+
+import java.util.Comparator;
+
+import com.parasoft.findings.utils.common.util.IntegerUtil;
+
+/**
+ * Factories of violation comparators. Comparators use sort keys kept by {@link AbstractViolation}
+ * since its construction and compute them only for other violations, so sorting large numbers
+ * of violations does not parse attributes on each comparison.
+ * <p>
+ * Comparators may be combined with {@link Comparator#thenComparing(Comparator)}.
+ */
+public final class ViolationComparators {
+    private ViolationComparators() {
+    }
+
+    /**
+     * @return comparator ordering violations from the highest severity, violations without valid severity are last
+     */
+    public static Comparator<IViolation> bySeverity() {
+        return BY_SEVERITY;
+    }
+
+    /**
+     * @return comparator ordering violations by path of the file of their location,
+     * violations without location are first
+     */
+    public static Comparator<IViolation> byFile() {
+        return BY_FILE;
+    }
+
+    /**
+     * @return comparator ordering violations by start line of their location
+     */
+    public static Comparator<IViolation> byLine() {
+        return BY_LINE;
+    }
+
+    /**
+     * @return comparator ordering violations by rule id, violations without rule are first
+     */
+    public static Comparator<IViolation> byRule() {
+        return BY_RULE;
+    }
+
+    /**
+     * @param location the violation location, may be <code>null</code>
+     * @return the start line of location, <code>0</code> if it has no source range
+     */
+    static int getLine(ResultLocation location) {
+        SourceRange sourceRange = (location != null) ? location.getSourceRange() : null;
+        return (sourceRange != null) ? sourceRange.getStartLine() : 0;
+    }
+
+    private static int getSeverityKey(IViolation violation) {
+        int severity = ViolationRuleUtil.getSeverity(violation);
+        // invalid severity is negative, move it after the lowest one
+        return (severity < 0) ? Integer.MAX_VALUE : severity;
+    }
+
+    private static int getLine(IViolation violation) {
+        if (violation instanceof AbstractViolation) {
+            return ((AbstractViolation) violation).getLine();
+        }
+        return getLine(violation.getResultLocation());
+    }
+
+    private static String getRuleId(IViolation violation) {
+        return (violation instanceof IRuleViolation) ? ((IRuleViolation) violation).getRuleId() : null;
+    }
+
+    private static int compareNullFirst(String s1, String s2) {
+        if (s1 == s2) {
+            return 0;
+        }
+        if (s1 == null) {
+            return -1;
+        }
+        if (s2 == null) {
+            return 1;
+        }
+        return s1.compareTo(s2);
+    }
+
+    private static final Comparator<IViolation> BY_SEVERITY =
+            (v1, v2) -> IntegerUtil.compare(getSeverityKey(v1), getSeverityKey(v2));
+
+    private static final Comparator<IViolation> BY_FILE = (v1, v2) -> compareNullFirst(ViolationPathUtil.getFilePath(v1), ViolationPathUtil.getFilePath(v2));
+
+    private static final Comparator<IViolation> BY_LINE = (v1, v2) -> IntegerUtil.compare(getLine(v1), getLine(v2));
+
+    private static final Comparator<IViolation> BY_RULE = (v1, v2) -> compareNullFirst(getRuleId(v1), getRuleId(v2));
+}
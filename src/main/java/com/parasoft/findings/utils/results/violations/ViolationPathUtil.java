@@ -0,0 +1,144 @@
+/*
+ * Copyright 2023 Parasoft Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.parasoft.findings.utils.results.violations;
+
+import java.io.File;
+
+import com.parasoft.findings.utils.results.testableinput.IFileTestableInput;
+import com.parasoft.findings.utils.results.testableinput.IProjectTestableInput;
+import com.parasoft.findings.utils.results.testableinput.ITestableInput;
+import com.parasoft.findings.utils.results.testableinput.PathInput;
+import com.parasoft.findings.utils.results.xml.IXmlTagsAndAttributes;
+
+/**
+ * Paths of files of violations, used to sort, index, match and deduplicate violations.
+ */
+final public class ViolationPathUtil {
+
+    private ViolationPathUtil() {
+    }
+
+    /**
+     * @param violation the violation
+     * @return the path of violation file, the name of testable input if it is not a file,
+     * <code>null</code> for no location
+     * @pre violation != null
+     */
+    public static String getFilePath(IViolation violation) {
+        if (violation instanceof AbstractViolation) {
+            return ((AbstractViolation) violation).getFilePath();
+        }
+        return getFilePath(violation.getResultLocation());
+    }
+
+    /**
+     * @param location the violation location, may be <code>null</code>
+     * @return the path of location file, the name of testable input if it is not a file,
+     * <code>null</code> for no location
+     */
+    public static String getFilePath(ResultLocation location) {
+        ITestableInput input = (location != null) ? location.getTestableInput() : null;
+        if (input == null) {
+            return null;
+        }
+        if (input instanceof IFileTestableInput) {
+            File file = ((IFileTestableInput) input).getFileLocation();
+            if (file != null) {
+                return file.getPath();
+            }
+        }
+        return input.getName();
+    }
+
+    /**
+     * Returns the path identifying file of violation, the same in reports of different runs
+     * for files inside projects.
+     *
+     * @param violation the violation
+     * @return the path of violation file in its project, the path of file outside projects,
+     * <code>null</code> for no location
+     * @pre violation != null
+     */
+    public static String getPath(IViolation violation) {
+        ITestableInput input = getTestableInput(violation);
+        if (input == null) {
+            return null;
+        }
+        String sProjectPath = getProjectPath(input);
+        if (sProjectPath != null) {
+            return sProjectPath;
+        }
+        if (input instanceof IFileTestableInput) {
+            File file = ((IFileTestableInput) input).getFileLocation();
+            if (file != null) {
+                return file.getPath();
+            }
+        }
+        return input.getName();
+    }
+
+    /**
+     * @param violation the violation
+     * @return the path of file of violation relative to its project or workspace, or the file name
+     * if the file is outside projects and its workspace path is not known, <code>null</code> for no location
+     * @pre violation != null
+     */
+    public static String getRelativePath(IViolation violation) {
+        ITestableInput input = getTestableInput(violation);
+        if (input == null) {
+            return null;
+        }
+        String sProjectPath = getProjectPath(input);
+        if (sProjectPath != null) {
+            return sProjectPath;
+        }
+        if (input instanceof IAttributedEntity) {
+            String sLoc = ((IAttributedEntity) input).getAttribute(IXmlTagsAndAttributes.LOC_ATTR);
+            if (sLoc != null) {
+                return sLoc;
+            }
+        }
+        if (input instanceof IFileTestableInput) {
+            File file = ((IFileTestableInput) input).getFileLocation();
+            if (file != null) {
+                return file.getName();
+            }
+        }
+        return input.getName();
+    }
+
+    private static ITestableInput getTestableInput(IViolation violation) {
+        ResultLocation location = violation.getResultLocation();
+        return (location != null) ? location.getTestableInput() : null;
+    }
+
+    /**
+     * @return the path of input in its project or workspace, <code>null</code> if it is not known
+     */
+    private static String getProjectPath(ITestableInput input) {
+        if (input instanceof PathInput) {
+            return ((PathInput) input).getPath();
+        }
+        if (input instanceof IProjectTestableInput) {
+            IProjectTestableInput projectInput = (IProjectTestableInput) input;
+            if (projectInput.getProjectRelativePath() != null) {
+                return projectInput.getProjectPath() + IProjectTestableInput.PATH_SEPARATOR + projectInput.getProjectRelativePath();
+            }
+        }
+        return null;
+    }
+}
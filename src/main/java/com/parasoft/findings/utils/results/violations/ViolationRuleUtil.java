@@ -53,11 +53,21 @@ final public class ViolationRuleUtil {
     }
 
     public static int getSeverity(IViolation violation) {
-        int severity = INVALID_SEVERITY;
         if (violation == null) {
-            return severity;
+            return INVALID_SEVERITY;
+        }
+        if (violation instanceof AbstractViolation) {
+            return ((AbstractViolation) violation).getSeverity();
         }
-        String sSeverity = violation.getAttribute(IXmlTagsAndAttributes.SEVERITY_ATTR);
+        return parseSeverity(violation.getAttribute(IXmlTagsAndAttributes.SEVERITY_ATTR));
+    }
+
+    /**
+     * @param sSeverity the value of severity attribute, may be <code>null</code>
+     * @return the severity or {@link #INVALID_SEVERITY} if the value is not a valid severity
+     */
+    static int parseSeverity(String sSeverity) {
+        int severity = INVALID_SEVERITY;
         if ((sSeverity != null) && (sSeverity.trim().length() > 0)) {
             try {
                 severity = Integer.parseInt(sSeverity);
@@ -0,0 +1,386 @@
+/*
+ * Copyright 2023 Parasoft Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.parasoft.findings.utils.results.violations;
+
+import com.parasoft.findings.utils.results.testableinput.FileTestableInput;
+import com.parasoft.findings.utils.results.testableinput.ITestableInput;
+import com.parasoft.findings.utils.results.testableinput.PathInput;
+import com.parasoft.findings.utils.results.testableinput.ProjectFileTestableInput;
+import com.parasoft.findings.utils.results.testableinput.RemoteTestableInput;
+import com.parasoft.findings.utils.results.xml.RuleAttributes;
+import com.parasoft.findings.utils.results.xml.RulesImportHandler;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static com.parasoft.findings.utils.results.violations.ViolationsBinaryWriter.*;
+
+/**
+ * Reads violations written with {@link ViolationsBinaryWriter}.
+ * <p>
+ * Rules and categories found in the stream are collected in {@link #getRulesImportHandler()}
+ * while violations are read. This class is not thread safe.
+ */
+public final class ViolationsBinaryReader
+        implements Closeable {
+    private final InputStream _in;
+
+    private final List<String> _strings = new ArrayList<String>();
+
+    private final List<ITestableInput> _inputs = new ArrayList<ITestableInput>();
+
+    private final RulesImportHandler _rules = new RulesImportHandler();
+
+    private final long _limit;
+
+    private long _bytesRead = 0L;
+
+    private boolean _bFinished = false;
+
+    /**
+     * Creates reader and reads the header of stream.
+     *
+     * @param in the stream to read from, should be buffered
+     * @throws IOException if the header cannot be read or the stream has unsupported format version
+     * @pre in != null
+     */
+    public ViolationsBinaryReader(InputStream in)
+            throws IOException {
+        this(in, Long.MAX_VALUE);
+    }
+
+    /**
+     * Creates reader of stream with known size and reads the header of stream. Counts and lengths
+     * read from the stream are checked against the size, so malformed stream is reported
+     * with {@link IOException} instead of allocating large arrays.
+     *
+     * @param in    the stream to read from, should be buffered
+     * @param limit the maximum number of bytes which can be read from the stream, e.g. the file size
+     * @throws IOException if the header cannot be read or the stream has unsupported format version
+     * @pre in != null
+     * @pre limit >= 0
+     */
+    public ViolationsBinaryReader(InputStream in, long limit)
+            throws IOException {
+        _in = in;
+        _limit = limit;
+        if (readInt() != MAGIC) {
+            throw new IOException("Not a violations stream."); //$NON-NLS-1$
+        }
+        int version = readVarInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported format version of violations stream: " + version); //$NON-NLS-1$
+        }
+    }
+
+    /**
+     * @return the rules and categories read so far
+     */
+    public RulesImportHandler getRulesImportHandler() {
+        return _rules;
+    }
+
+    /**
+     * Reads the next violation.
+     *
+     * @return the violation or <code>null</code> if the end of stream was reached
+     * @throws IOException if reading fails or the stream is malformed
+     */
+    public IViolation read()
+            throws IOException {
+        while (!_bFinished) {
+            int record = readByte();
+            switch (record) {
+                case END_RECORD:
+                    _bFinished = true;
+                    break;
+                case RULE_RECORD:
+                    String sRuleId = readString();
+                    _rules.addRule(sRuleId, new RuleAttributes(readString(), readString(), readString()));
+                    break;
+                case CATEGORY_RECORD:
+                    _rules.addCategory(readString(), readString());
+                    break;
+                default:
+                    return readViolation(record);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reads all remaining violations.
+     *
+     * @return the violations read
+     * @throws IOException if reading fails or the stream is malformed
+     */
+    public List<IViolation> readAll()
+            throws IOException {
+        List<IViolation> violations = new ArrayList<IViolation>();
+        IViolation violation;
+        while ((violation = read()) != null) {
+            violations.add(violation);
+        }
+        return violations;
+    }
+
+    @Override
+    public void close()
+            throws IOException {
+        _in.close();
+    }
+
+    private IViolation readViolation(int record)
+            throws IOException {
+        String sRuleId = readString();
+        String sAnalyzerId = readString();
+        String sLanguageId = readString();
+        String sMessage = readString();
+        String sPackage = readString();
+        ResultLocation location = readLocation();
+        CompactAttributeMap attributes = readAttributes();
+        AbstractViolation violation;
+        switch (record) {
+            case RULE_VIOLATION_RECORD:
+                violation = new RuleViolation(sAnalyzerId, sLanguageId, location, sMessage, sRuleId, sPackage);
+                break;
+            case FLOW_ANALYSIS_VIOLATION_RECORD:
+                violation = new FlowAnalysisViolation(sRuleId, sAnalyzerId, sLanguageId, location, sMessage, sPackage,
+                        readFlowAnalysisElements());
+                break;
+            case DUP_CODE_VIOLATION_RECORD:
+                IPathElement[] aElements = new IPathElement[readCount()];
+                for (int i = 0; i < aElements.length; i++) {
+                    DupCodePathElement element = new DupCodePathElement(readString(), readLocation());
+                    addAttributes(element, readAttributes());
+                    aElements[i] = element;
+                }
+                violation = new DupCodeViolation(sRuleId, sAnalyzerId, location, sMessage, sLanguageId, aElements);
+                break;
+            case METRICS_VIOLATION_RECORD:
+                violation = new MetricsViolation(sRuleId, sAnalyzerId, location, sMessage, sLanguageId);
+                break;
+            default:
+                throw new IOException("Unknown record type: " + record); //$NON-NLS-1$
+        }
+        violation.setPackage(sPackage);
+        addAttributes(violation, attributes);
+        return violation;
+    }
+
+    private IFlowAnalysisPathElement[] readFlowAnalysisElements()
+            throws IOException {
+        int count = readCount() - 1;
+        if (count < 0) {
+            return null;
+        }
+        IFlowAnalysisPathElement[] aElements = new IFlowAnalysisPathElement[count];
+        for (int i = 0; i < count; i++) {
+            String sDescription = readString();
+            ResultLocation location = readLocation();
+            CompactAttributeMap attributes = readAttributes();
+            String sType = readString();
+            String sThrownTypes = readString();
+            String sThrowingMethod = readString();
+            int annotationsCount = readCount();
+            List<PathElementAnnotation> annotations = new ArrayList<PathElementAnnotation>(annotationsCount);
+            for (int j = 0; j < annotationsCount; j++) {
+                annotations.add(new PathElementAnnotation(readString(), readString()));
+            }
+            IFlowAnalysisPathElement[] aChildren = readFlowAnalysisElements();
+            aElements[i] = new FlowAnalysisPathElement(sDescription, location, attributes, aChildren,
+                    (sType != null) ? new FlowAnalysisPathElement.TypeImpl(sType) : null, sThrownTypes, sThrowingMethod, annotations);
+        }
+        return aElements;
+    }
+
+    private ResultLocation readLocation()
+            throws IOException {
+        int kind = readByte();
+        if (kind == NO_LOCATION) {
+            return null;
+        }
+        ITestableInput input = readTestableInput();
+        SourceRange range = null;
+        if (kind == LOCATION_WITH_RANGE) {
+            int startLine = decodeZigZag(readVarInt());
+            int startLineOffset = decodeZigZag(readVarInt());
+            int endLine = startLine + decodeZigZag(readVarInt());
+            range = new SourceRange(startLine, startLineOffset, endLine, decodeZigZag(readVarInt()));
+        }
+        return new ResultLocation(input, range);
+    }
+
+    private ITestableInput readTestableInput()
+            throws IOException {
+        int reference = readVarInt();
+        if (reference > 0) {
+            return get(_inputs, reference - 1);
+        }
+        int type = readByte();
+        ITestableInput input;
+        switch (type) {
+            case PROJECT_FILE_INPUT:
+                ProjectFileTestableInput projectInput = new ProjectFileTestableInput(new File(readString()), readString(),
+                        readString(), readString(), readString());
+                for (Map.Entry<String, String> attribute : readAttributes().entrySet()) {
+                    projectInput.addAttribute(attribute.getKey(), attribute.getValue());
+                }
+                input = projectInput;
+                break;
+            case FILE_INPUT:
+                FileTestableInput fileInput = new FileTestableInput(new File(readString()));
+                for (Map.Entry<String, String> attribute : readAttributes().entrySet()) {
+                    fileInput.addAttribute(attribute.getKey(), attribute.getValue());
+                }
+                input = fileInput;
+                break;
+            case REMOTE_INPUT:
+                RemoteTestableInput remoteInput = new RemoteTestableInput(readString(), readString());
+                for (Map.Entry<String, String> attribute : readAttributes().entrySet()) {
+                    remoteInput.addAttribute(attribute.getKey(), attribute.getValue());
+                }
+                input = remoteInput;
+                break;
+            case PATH_INPUT:
+                input = new PathInput(readString(), readString(), readString(), readString());
+                break;
+            default:
+                throw new IOException("Unknown testable input type: " + type); //$NON-NLS-1$
+        }
+        _inputs.add(input);
+        return input;
+    }
+
+    private CompactAttributeMap readAttributes()
+            throws IOException {
+        int count = readCount();
+        CompactAttributeMap attributes = new CompactAttributeMap(count);
+        for (int i = 0; i < count; i++) {
+            attributes.put(readString(), readString());
+        }
+        return attributes;
+    }
+
+    private static void addAttributes(IAttributedEntity entity, Map<String, String> attributes) {
+        for (Map.Entry<String, String> attribute : attributes.entrySet()) {
+            entity.addAttribute(attribute.getKey(), attribute.getValue());
+        }
+    }
+
+    private String readString()
+            throws IOException {
+        int reference = readVarInt();
+        if (reference == 0) {
+            return null;
+        }
+        if (reference > 1) {
+            return get(_strings, reference - 2);
+        }
+        int length = readVarInt();
+        if ((length < 0) || (length > MAX_STRING_LENGTH) || (length > getRemaining())) {
+            throw new IOException("Malformed string length: " + length); //$NON-NLS-1$
+        }
+        byte[] aBytes = new byte[length];
+        readFully(aBytes);
+        String sValue = new String(aBytes, StandardCharsets.UTF_8);
+        _strings.add(sValue);
+        return sValue;
+    }
+
+    private static <T> T get(List<T> list, int index)
+            throws IOException {
+        if (index >= list.size()) {
+            throw new IOException("Invalid reference in violations stream: " + index); //$NON-NLS-1$
+        }
+        return list.get(index);
+    }
+
+    /**
+     * Reads the number of elements which follow in the stream. Each element takes at least
+     * one byte, so the count cannot exceed the number of remaining bytes.
+     */
+    private int readCount()
+            throws IOException {
+        int count = readVarInt();
+        if ((count < 0) || (count > MAX_COUNT) || (count > getRemaining())) {
+            throw new IOException("Malformed count in violations stream: " + count); //$NON-NLS-1$
+        }
+        return count;
+    }
+
+    private long getRemaining() {
+        return _limit - _bytesRead;
+    }
+
+    private int readVarInt()
+            throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable length integer."); //$NON-NLS-1$
+    }
+
+    private int readInt()
+            throws IOException {
+        return (readByte() << 24) | (readByte() << 16) | (readByte() << 8) | readByte();
+    }
+
+    private int readByte()
+            throws IOException {
+        int b = _in.read();
+        if (b < 0) {
+            throw new EOFException();
+        }
+        _bytesRead++;
+        return b;
+    }
+
+    private void readFully(byte[] aBytes)
+            throws IOException {
+        int offset = 0;
+        while (offset < aBytes.length) {
+            int read = _in.read(aBytes, offset, aBytes.length - offset);
+            if (read < 0) {
+                throw new EOFException();
+            }
+            offset += read;
+        }
+        _bytesRead += offset;
+    }
+
+    private static int decodeZigZag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static final int MAX_COUNT = 1 << 20;
+
+    private static final int MAX_STRING_LENGTH = 1 << 26;
+}
@@ -0,0 +1,342 @@
+/*
+ * Copyright 2023 Parasoft Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.parasoft.findings.utils.results.violations;
+
+import com.parasoft.findings.utils.results.testableinput.FileTestableInput;
+import com.parasoft.findings.utils.results.testableinput.ITestableInput;
+import com.parasoft.findings.utils.results.testableinput.PathInput;
+import com.parasoft.findings.utils.results.testableinput.ProjectFileTestableInput;
+import com.parasoft.findings.utils.results.testableinput.RemoteTestableInput;
+import com.parasoft.findings.utils.results.xml.RuleAttributes;
+import com.parasoft.findings.utils.results.xml.RulesImportHandler;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes violations in compact binary form readable with {@link ViolationsBinaryReader}.
+ * <p>
+ * The stream starts with a header holding the format version followed by records of rules,
+ * categories and violations. Strings are dictionary encoded, each distinct string is written once
+ * and later referred by its index, the same applies to testable inputs. Integers are written as
+ * variable length quantities, so typical source ranges take a few bytes. Supported are
+ * {@link RuleViolation}, {@link FlowAnalysisViolation}, {@link DupCodeViolation} and {@link MetricsViolation}.
+ * This class is not thread safe.
+ */
+public final class ViolationsBinaryWriter
+        implements Closeable {
+    private final OutputStream _out;
+
+    private final Map<String, Integer> _strings = new HashMap<String, Integer>();
+
+    private final Map<ITestableInput, Integer> _inputs = new IdentityHashMap<ITestableInput, Integer>();
+
+    private boolean _bClosed = false;
+
+    /**
+     * Creates writer and writes the header of stream.
+     *
+     * @param out the stream to write to, should be buffered
+     * @throws IOException if the header cannot be written
+     * @pre out != null
+     */
+    public ViolationsBinaryWriter(OutputStream out)
+            throws IOException {
+        _out = out;
+        writeInt(MAGIC);
+        writeVarInt(FORMAT_VERSION);
+    }
+
+    /**
+     * Writes all rules and categories of given handler.
+     *
+     * @param rules the rules to write
+     * @throws IOException if writing fails
+     * @pre rules != null
+     */
+    public void writeRules(RulesImportHandler rules)
+            throws IOException {
+        for (Map.Entry<String, RuleAttributes> rule : rules.getRules().entrySet()) {
+            _out.write(RULE_RECORD);
+            writeString(rule.getKey());
+            writeString(rule.getValue().getRuleCategory());
+            writeString(rule.getValue().getRuleHeader());
+            writeString(rule.getValue().getRuleScope());
+        }
+        for (Map.Entry<String, String> category : rules.getCategories().entrySet()) {
+            _out.write(CATEGORY_RECORD);
+            writeString(category.getKey());
+            writeString(category.getValue());
+        }
+    }
+
+    /**
+     * Writes all given violations.
+     *
+     * @param violations the violations to write
+     * @throws IOException if writing fails or some violation is of unsupported type
+     * @pre violations != null
+     */
+    public void write(List<? extends IViolation> violations)
+            throws IOException {
+        for (IViolation violation : violations) {
+            write(violation);
+        }
+    }
+
+    /**
+     * Writes given violation.
+     *
+     * @param violation the violation to write
+     * @throws IOException if writing fails or the violation is of unsupported type
+     * @pre violation != null
+     */
+    public void write(IViolation violation)
+            throws IOException {
+        if (violation instanceof RuleViolation) {
+            _out.write(RULE_VIOLATION_RECORD);
+        } else if (violation instanceof FlowAnalysisViolation) {
+            _out.write(FLOW_ANALYSIS_VIOLATION_RECORD);
+        } else if (violation instanceof DupCodeViolation) {
+            _out.write(DUP_CODE_VIOLATION_RECORD);
+        } else if (violation instanceof MetricsViolation) {
+            _out.write(METRICS_VIOLATION_RECORD);
+        } else {
+            throw new IOException("Unsupported violation type: " + violation.getClass().getName()); //$NON-NLS-1$
+        }
+        AbstractViolation abstractViolation = (AbstractViolation) violation;
+        writeString(abstractViolation.getRuleId());
+        writeString(abstractViolation.getAnalyzerId());
+        writeString(abstractViolation.getLanguageId());
+        writeString(abstractViolation.getMessage());
+        writeString(abstractViolation.getNamespace());
+        writeLocation(abstractViolation.getResultLocation());
+        writeAttributes(abstractViolation.getAttributes());
+        if (violation instanceof FlowAnalysisViolation) {
+            writeFlowAnalysisElements(((FlowAnalysisViolation) violation).getPathElements());
+        } else if (violation instanceof DupCodeViolation) {
+            IPathElement[] aElements = ((DupCodeViolation) violation).getPathElements();
+            writeVarInt(aElements.length);
+            for (IPathElement element : aElements) {
+                if (!(element instanceof DupCodePathElement)) {
+                    throw new IOException("Unsupported path element type: " + element.getClass().getName()); //$NON-NLS-1$
+                }
+                DupCodePathElement dupCodeElement = (DupCodePathElement) element;
+                writeString(dupCodeElement.getDescription());
+                writeLocation(dupCodeElement.getLocation());
+                writeAttributes(dupCodeElement.getAttributes());
+            }
+        }
+    }
+
+    /**
+     * Writes the end of stream marker and flushes the stream. The underlying stream is not closed.
+     *
+     * @throws IOException if writing fails
+     */
+    public void finish()
+            throws IOException {
+        if (!_bClosed) {
+            _bClosed = true;
+            _out.write(END_RECORD);
+            _out.flush();
+        }
+    }
+
+    /**
+     * Finishes writing and closes the underlying stream.
+     */
+    @Override
+    public void close()
+            throws IOException {
+        try {
+            finish();
+        } finally {
+            _out.close();
+        }
+    }
+
+    private void writeFlowAnalysisElements(IFlowAnalysisPathElement[] aElements)
+            throws IOException {
+        if (aElements == null) {
+            writeVarInt(0);
+            return;
+        }
+        writeVarInt(aElements.length + 1);
+        for (IFlowAnalysisPathElement element : aElements) {
+            if (!(element instanceof FlowAnalysisPathElement)) {
+                throw new IOException("Unsupported path element type: " + element.getClass().getName()); //$NON-NLS-1$
+            }
+            FlowAnalysisPathElement flowElement = (FlowAnalysisPathElement) element;
+            writeString(flowElement.getDescription());
+            writeLocation(flowElement.getLocation());
+            writeAttributes(flowElement.getAttributes());
+            writeString((flowElement.getType() != null) ? flowElement.getType().getIdentifier() : null);
+            writeString(flowElement.getThrownTypes());
+            writeString(flowElement.getThrowingMethod());
+            List<PathElementAnnotation> annotations = flowElement.getAnnotations();
+            writeVarInt(annotations.size());
+            for (PathElementAnnotation annotation : annotations) {
+                writeString(annotation.getMessage());
+                writeString(annotation.getKind());
+            }
+            writeFlowAnalysisElements(flowElement.getChildren());
+        }
+    }
+
+    private void writeLocation(ResultLocation location)
+            throws IOException {
+        if (location == null) {
+            _out.write(NO_LOCATION);
+            return;
+        }
+        SourceRange range = location.getSourceRange();
+        _out.write((range != null) ? LOCATION_WITH_RANGE : LOCATION_WITHOUT_RANGE);
+        writeTestableInput(location.getTestableInput());
+        if (range != null) {
+            writeVarInt(encodeZigZag(range.getStartLine()));
+            writeVarInt(encodeZigZag(range.getStartLineOffset()));
+            // end line is usually the start line or close to it
+            writeVarInt(encodeZigZag(range.getEndLine() - range.getStartLine()));
+            writeVarInt(encodeZigZag(range.getEndLineOffset()));
+        }
+    }
+
+    private void writeTestableInput(ITestableInput input)
+            throws IOException {
+        Integer index = _inputs.get(input);
+        if (index != null) {
+            writeVarInt(index + 1);
+            return;
+        }
+        writeVarInt(0);
+        if (input instanceof ProjectFileTestableInput) {
+            ProjectFileTestableInput projectInput = (ProjectFileTestableInput) input;
+            _out.write(PROJECT_FILE_INPUT);
+            writeString(projectInput.getFileLocation().getPath());
+            writeString(projectInput.getProjectId());
+            writeString(projectInput.getProjectName());
+            writeString(projectInput.getProjectPath());
+            writeString(projectInput.getProjectRelativePath());
+            writeAttributes(projectInput.getAttributes());
+        } else if (input instanceof FileTestableInput) {
+            FileTestableInput fileInput = (FileTestableInput) input;
+            _out.write(FILE_INPUT);
+            writeString(fileInput.getFileLocation().getPath());
+            writeAttributes(fileInput.getAttributes());
+        } else if (input instanceof RemoteTestableInput) {
+            RemoteTestableInput remoteInput = (RemoteTestableInput) input;
+            _out.write(REMOTE_INPUT);
+            writeString(remoteInput.getName());
+            writeString(remoteInput.getProjectName());
+            writeAttributes(remoteInput.getAttributes());
+        } else if (input instanceof PathInput) {
+            PathInput pathInput = (PathInput) input;
+            _out.write(PATH_INPUT);
+            writeString(pathInput.getPath());
+            writeString(pathInput.getFileSystemPath());
+            writeString(pathInput.getProjectName());
+            writeString(pathInput.getProjectPath());
+        } else {
+            throw new IOException("Unsupported testable input type: " + input.getClass().getName()); //$NON-NLS-1$
+        }
+        _inputs.put(input, _inputs.size());
+    }
+
+    private void writeAttributes(Map<String, String> attributes)
+            throws IOException {
+        writeVarInt(attributes.size());
+        for (Map.Entry<String, String> attribute : attributes.entrySet()) {
+            writeString(attribute.getKey());
+            writeString(attribute.getValue());
+        }
+    }
+
+    /**
+     * Writes <code>0</code> for <code>null</code>, <code>1</code> followed by UTF-8 bytes for string
+     * seen for the first time or index of already written string shifted by <code>2</code>.
+     */
+    private void writeString(String sValue)
+            throws IOException {
+        if (sValue == null) {
+            writeVarInt(0);
+            return;
+        }
+        Integer index = _strings.get(sValue);
+        if (index != null) {
+            writeVarInt(index + 2);
+            return;
+        }
+        byte[] aBytes = sValue.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(1);
+        writeVarInt(aBytes.length);
+        _out.write(aBytes);
+        _strings.put(sValue, _strings.size());
+    }
+
+    private void writeVarInt(int value)
+            throws IOException {
+        while ((value & ~0x7F) != 0) {
+            _out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        _out.write(value);
+    }
+
+    private void writeInt(int value)
+            throws IOException {
+        _out.write(value >>> 24);
+        _out.write(value >>> 16);
+        _out.write(value >>> 8);
+        _out.write(value);
+    }
+
+    private static int encodeZigZag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    static final int MAGIC = 0x50465642; // PFVB
+
+    /**
+     * Version of format, readers reject streams of other versions.
+     */
+    public static final int FORMAT_VERSION = 1;
+
+    static final int END_RECORD = 0;
+    static final int RULE_RECORD = 1;
+    static final int CATEGORY_RECORD = 2;
+    static final int RULE_VIOLATION_RECORD = 3;
+    static final int FLOW_ANALYSIS_VIOLATION_RECORD = 4;
+    static final int DUP_CODE_VIOLATION_RECORD = 5;
+    static final int METRICS_VIOLATION_RECORD = 6;
+
+    static final int NO_LOCATION = 0;
+    static final int LOCATION_WITHOUT_RANGE = 1;
+    static final int LOCATION_WITH_RANGE = 2;
+
+    static final int FILE_INPUT = 1;
+    static final int PROJECT_FILE_INPUT = 2;
+    static final int REMOTE_INPUT = 3;
+    static final int PATH_INPUT = 4;
+}
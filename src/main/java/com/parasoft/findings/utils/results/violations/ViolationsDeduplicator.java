@@ -0,0 +1,278 @@
+/*
+ * Copyright 2023 Parasoft Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.parasoft.findings.utils.results.violations;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.parasoft.findings.utils.common.util.ObjectUtil;
+import com.parasoft.findings.utils.common.util.StringUtil;
+import com.parasoft.findings.utils.results.xml.IXmlTagsAndAttributes;
+
+/**
+ * Detector of violations repeated in merged results of many reports, like reports of
+ * overlapping runs on the same sources.
+ * <p>
+ * Violations are duplicates when they have the same rule, file, source range and line hash.
+ * Only 64-bit hashes of these values are kept, in an open addressing table of primitive values,
+ * so memory used does not depend on the size of violations. To detect hash collisions, first
+ * seen violations are kept up to the given limit and compared with later violations of the
+ * same hash. Identities of colliding violations are kept in a separate set, so their repeats
+ * are detected as well. Violations of the same hash which cannot be compared are assumed
+ * duplicates. This class is not thread safe.
+ */
+public final class ViolationsDeduplicator {
+    private long[] _aHashes = new long[INITIAL_CAPACITY];
+
+    private int _size = 0;
+
+    private final Map<Long, IViolation> _verifiedViolations = new HashMap<Long, IViolation>();
+
+    private final int _maxVerifiedViolations;
+
+    private final Set<Identity> _collidingViolations = new HashSet<Identity>();
+
+    private long _duplicatesCount = 0L;
+
+    private long _collisionsCount = 0L;
+
+    /**
+     * Constructor.
+     */
+    public ViolationsDeduplicator() {
+        this(DEFAULT_MAX_VERIFIED_VIOLATIONS);
+    }
+
+    /**
+     * @param maxVerifiedViolations the maximum number of violations kept to detect hash collisions
+     * @pre maxVerifiedViolations >= 0
+     */
+    public ViolationsDeduplicator(int maxVerifiedViolations) {
+        _maxVerifiedViolations = maxVerifiedViolations;
+    }
+
+    /**
+     * Records given violation.
+     *
+     * @param violation the violation
+     * @return <code>true</code> if the violation was not seen before, <code>false</code> for duplicate
+     * @pre violation != null
+     */
+    public boolean add(IViolation violation) {
+        long hash = computeHash(violation);
+        int slot = findSlot(_aHashes, hash);
+        if (_aHashes[slot] == hash) {
+            IViolation verifiedViolation = _verifiedViolations.get(hash);
+            if ((verifiedViolation != null) && !isSameViolation(verifiedViolation, violation)) {
+                if (_collidingViolations.add(new Identity(violation))) {
+                    _collisionsCount++;
+                    return true;
+                }
+            }
+            _duplicatesCount++;
+            return false;
+        }
+        _aHashes[slot] = hash;
+        _size++;
+        if (_verifiedViolations.size() < _maxVerifiedViolations) {
+            _verifiedViolations.put(hash, violation);
+        }
+        if (_size > (_aHashes.length >>> 2) * 3) {
+            rehash();
+        }
+        return true;
+    }
+
+    /**
+     * @return the number of distinct violations
+     */
+    public int size() {
+        return _size + _collidingViolations.size();
+    }
+
+    /**
+     * @return the number of violations detected as duplicates
+     */
+    public long getDuplicatesCount() {
+        return _duplicatesCount;
+    }
+
+    /**
+     * @return the number of distinct violations found with hash of other violation
+     */
+    public long getCollisionsCount() {
+        return _collisionsCount;
+    }
+
+    @Override
+    public String toString() {
+        return "ViolationsDeduplicator[size=" + size() + ", duplicates=" + _duplicatesCount //$NON-NLS-1$ //$NON-NLS-2$
+                + ", collisions=" + _collisionsCount + ']'; //$NON-NLS-1$
+    }
+
+    /**
+     * Computes hash of values identifying duplicated violations, never <code>0</code>.
+     *
+     * @param violation the violation
+     * @return the 64-bit hash
+     */
+    static long computeHash(IViolation violation) {
+        long hash = FNV_OFFSET_BASIS;
+        hash = hash(hash, getRuleId(violation));
+        hash = hash(hash, ViolationPathUtil.getFilePath(violation));
+        SourceRange sourceRange = getSourceRange(violation);
+        if (sourceRange != null) {
+            hash = hash(hash, sourceRange.getStartLine());
+            hash = hash(hash, sourceRange.getStartLineOffset());
+            hash = hash(hash, sourceRange.getEndLine());
+            hash = hash(hash, sourceRange.getEndLineOffset());
+        }
+        hash = hash(hash, violation.getAttribute(IXmlTagsAndAttributes.LINE_HASH_ATTR));
+        hash = mix(hash);
+        return (hash == 0L) ? 1L : hash;
+    }
+
+    /**
+     * Compares values identifying duplicated violations. Locations are compared by content,
+     * since testable inputs of different reports are different objects.
+     */
+    private static boolean isSameViolation(IViolation violation1, IViolation violation2) {
+        SourceRange sourceRange1 = getSourceRange(violation1);
+        SourceRange sourceRange2 = getSourceRange(violation2);
+        return StringUtil.equals(getRuleId(violation1), getRuleId(violation2))
+                && StringUtil.equals(ViolationPathUtil.getFilePath(violation1), ViolationPathUtil.getFilePath(violation2))
+                && ((sourceRange1 == null) ? (sourceRange2 == null) : sourceRange1.equals(sourceRange2))
+                && StringUtil.equals(violation1.getAttribute(IXmlTagsAndAttributes.LINE_HASH_ATTR),
+                violation2.getAttribute(IXmlTagsAndAttributes.LINE_HASH_ATTR));
+    }
+
+    /**
+     * Values identifying duplicated violations, kept for violations with hash of other violation.
+     */
+    private static final class Identity {
+        private final String _sRuleId;
+
+        private final String _sFilePath;
+
+        private final SourceRange _sourceRange;
+
+        private final String _sLineHash;
+
+        Identity(IViolation violation) {
+            _sRuleId = getRuleId(violation);
+            _sFilePath = ViolationPathUtil.getFilePath(violation);
+            _sourceRange = getSourceRange(violation);
+            _sLineHash = violation.getAttribute(IXmlTagsAndAttributes.LINE_HASH_ATTR);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = ObjectUtil.hashCode(_sRuleId);
+            result = 31 * result + ObjectUtil.hashCode(_sFilePath);
+            result = 31 * result + ObjectUtil.hashCode(_sourceRange);
+            return 31 * result + ObjectUtil.hashCode(_sLineHash);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Identity)) {
+                return false;
+            }
+            Identity identity = (Identity) obj;
+            return StringUtil.equals(_sRuleId, identity._sRuleId)
+                    && StringUtil.equals(_sFilePath, identity._sFilePath)
+                    && ObjectUtil.equals(_sourceRange, identity._sourceRange)
+                    && StringUtil.equals(_sLineHash, identity._sLineHash);
+        }
+    }
+
+    private void rehash() {
+        long[] aHashes = new long[_aHashes.length << 1];
+        for (long hash : _aHashes) {
+            if (hash != 0L) {
+                aHashes[findSlot(aHashes, hash)] = hash;
+            }
+        }
+        _aHashes = aHashes;
+    }
+
+    /**
+     * @return the slot of given hash or the empty slot where it should be placed
+     */
+    private static int findSlot(long[] aHashes, long hash) {
+        int mask = aHashes.length - 1;
+        int slot = (int) hash & mask;
+        while ((aHashes[slot] != 0L) && (aHashes[slot] != hash)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static String getRuleId(IViolation violation) {
+        return (violation instanceof IRuleViolation) ? ((IRuleViolation) violation).getRuleId() : null;
+    }
+
+    private static SourceRange getSourceRange(IViolation violation) {
+        ResultLocation location = violation.getResultLocation();
+        return (location != null) ? location.getSourceRange() : null;
+    }
+
+    private static long hash(long hash, String sValue) {
+        if (sValue == null) {
+            return (hash ^ NULL_MARKER) * FNV_PRIME;
+        }
+        for (int i = 0; i < sValue.length(); i++) {
+            hash = (hash ^ sValue.charAt(i)) * FNV_PRIME;
+        }
+        // separate values, so different splits of the same characters differ
+        return (hash ^ SEPARATOR) * FNV_PRIME;
+    }
+
+    private static long hash(long hash, int value) {
+        return (hash ^ value) * FNV_PRIME;
+    }
+
+    /**
+     * Final mixing of bits, so lower bits used as table slots depend on all hashed values.
+     */
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private static final int DEFAULT_MAX_VERIFIED_VIOLATIONS = 1 << 16;
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private static final long SEPARATOR = 0x10000L;
+
+    private static final long NULL_MARKER = 0x10001L;
+}
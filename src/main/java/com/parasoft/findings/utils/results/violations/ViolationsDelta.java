@@ -0,0 +1,332 @@
+/*
+ * Copyright 2023 Parasoft Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.parasoft.findings.utils.results.violations;
+
+import com.parasoft.findings.utils.common.util.LongIntHashMap;
+import com.parasoft.findings.utils.common.util.ObjectUtil;
+import com.parasoft.findings.utils.common.util.StringUtil;
+import com.parasoft.findings.utils.results.xml.IXmlTagsAndAttributes;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Difference between violations of two reports.
+ * <p>
+ * Violations are matched by rule id, file and line hash, so a violation is found in both reports
+ * even if lines were added or removed above it. Violations without line hash are matched by their
+ * start line instead, which is reliable only while the file is unchanged, so the location hash
+ * of file is also compared for them. Files are identified by their project or workspace relative
+ * paths, so reports created in different checkouts can be compared. Matched violations with the
+ * same source range are unchanged, the others are moved. Previous violations are indexed by 64-bit
+ * fingerprint of these attributes, so the comparison takes linear time.
+ */
+public final class ViolationsDelta {
+    private final List<IViolation> _newViolations;
+
+    private final List<MovedViolation> _movedViolations;
+
+    private final List<IViolation> _fixedViolations;
+
+    private final int _unchangedCount;
+
+    private ViolationsDelta(List<IViolation> newViolations, List<MovedViolation> movedViolations,
+                            List<IViolation> fixedViolations, int unchangedCount) {
+        _newViolations = Collections.unmodifiableList(newViolations);
+        _movedViolations = Collections.unmodifiableList(movedViolations);
+        _fixedViolations = Collections.unmodifiableList(fixedViolations);
+        _unchangedCount = unchangedCount;
+    }
+
+    /**
+     * Compares violations of current report to violations of previous one.
+     *
+     * @param previousViolations the violations of previous report
+     * @param currentViolations  the violations of current report, consumed by this method
+     * @return the difference between the reports
+     * @pre previousViolations != null
+     * @pre currentViolations != null
+     */
+    public static ViolationsDelta compute(List<? extends IViolation> previousViolations,
+                                          Iterator<? extends IViolation> currentViolations) {
+        Matcher matcher = new Matcher(previousViolations.iterator());
+        matcher.match(currentViolations);
+        return matcher.getDelta(previousViolations.iterator());
+    }
+
+    /**
+     * @return the violations of current report not found in previous one
+     */
+    public List<IViolation> getNewViolations() {
+        return _newViolations;
+    }
+
+    /**
+     * @return the violations found in both reports at different source ranges
+     */
+    public List<MovedViolation> getMovedViolations() {
+        return _movedViolations;
+    }
+
+    /**
+     * @return the violations of previous report not found in current one
+     */
+    public List<IViolation> getFixedViolations() {
+        return _fixedViolations;
+    }
+
+    /**
+     * @return the number of violations found in both reports at the same source range
+     */
+    public int getUnchangedCount() {
+        return _unchangedCount;
+    }
+
+    private static long fingerprint(long hash, String sValue) {
+        if (sValue != null) {
+            for (byte b : sValue.getBytes(StandardCharsets.UTF_8)) {
+                hash = (hash ^ (b & 0xFF)) * FNV_PRIME;
+            }
+        }
+        // separator, so the values are not ambiguous when concatenated
+        return (hash ^ 0xFF) * FNV_PRIME;
+    }
+
+    private static String getRuleId(IViolation violation) {
+        return (violation instanceof IRuleViolation) ? ((IRuleViolation) violation).getRuleId() : null;
+    }
+
+    /**
+     * Matches violations of current report to violations of previous one, keeping only the attributes
+     * used for matching of previous violations. Previous violations are iterated twice: first to index
+     * them and then to collect the fixed and moved ones, so they need not be kept in memory while
+     * current violations are matched.
+     */
+    static final class Matcher {
+        private final LongIntHashMap _heads = new LongIntHashMap(INITIAL_CAPACITY, NONE);
+
+        private final LongIntHashMap _tails = new LongIntHashMap(INITIAL_CAPACITY, NONE);
+
+        private int[] _aNext = new int[INITIAL_CAPACITY];
+
+        private List<Key> _previousKeys = new ArrayList<Key>();
+
+        private final BitSet _matched = new BitSet();
+
+        private final List<IViolation> _newViolations = new ArrayList<IViolation>();
+
+        private final List<IViolation> _movedViolations = new ArrayList<IViolation>();
+
+        // indexes of previous violations of moved ones mapped to their positions in moved violations
+        private final LongIntHashMap _movedPositions = new LongIntHashMap(INITIAL_CAPACITY, NONE);
+
+        private int _unchangedCount = 0;
+
+        /**
+         * Indexes violations of previous report.
+         *
+         * @param previousViolations the violations of previous report, consumed by this constructor
+         * @pre previousViolations != null
+         */
+        Matcher(Iterator<? extends IViolation> previousViolations) {
+            while (previousViolations.hasNext()) {
+                Key key = new Key(previousViolations.next());
+                int index = _previousKeys.size();
+                _previousKeys.add(key);
+                if (index == _aNext.length) {
+                    _aNext = Arrays.copyOf(_aNext, index << 1);
+                }
+                // previous violations with the same fingerprint are chained in report order
+                _aNext[index] = NONE;
+                int tail = _tails.put(key._fingerprint, index);
+                if (tail == NONE) {
+                    _heads.put(key._fingerprint, index);
+                } else {
+                    _aNext[tail] = index;
+                }
+            }
+        }
+
+        /**
+         * Matches violations of current report to the indexed violations.
+         *
+         * @param currentViolations the violations of current report, consumed by this method
+         * @pre currentViolations != null
+         * @pre {@link #getDelta(Iterator)} was not called
+         */
+        void match(Iterator<? extends IViolation> currentViolations) {
+            while (currentViolations.hasNext()) {
+                IViolation violation = currentViolations.next();
+                Key key = new Key(violation);
+                int candidate = NONE;
+                for (int i = _heads.get(key._fingerprint); i != NONE; i = _aNext[i]) {
+                    Key previous = _previousKeys.get(i);
+                    if (_matched.get(i) || !previous.isSameViolation(key)) {
+                        continue;
+                    }
+                    if (previous.isSameRange(key)) {
+                        candidate = i;
+                        break;
+                    }
+                    if (candidate == NONE) {
+                        candidate = i;
+                    }
+                }
+                if (candidate == NONE) {
+                    _newViolations.add(violation);
+                    continue;
+                }
+                _matched.set(candidate);
+                if (_previousKeys.get(candidate).isSameRange(key)) {
+                    _unchangedCount++;
+                } else {
+                    _movedPositions.put(candidate, _movedViolations.size());
+                    _movedViolations.add(violation);
+                }
+            }
+        }
+
+        /**
+         * Collects the fixed and moved violations of previous report.
+         *
+         * @param previousViolations the violations of previous report in the same order as indexed ones,
+         *                           consumed by this method
+         * @return the difference between the reports
+         * @pre previousViolations != null
+         */
+        ViolationsDelta getDelta(Iterator<? extends IViolation> previousViolations) {
+            int previousCount = _previousKeys.size();
+            _previousKeys = null;
+            List<IViolation> fixedViolations = new ArrayList<IViolation>(previousCount - _matched.cardinality());
+            IViolation[] aMovedPrevious = new IViolation[_movedViolations.size()];
+            for (int i = 0; (i < previousCount) && previousViolations.hasNext(); i++) {
+                IViolation previous = previousViolations.next();
+                if (!_matched.get(i)) {
+                    fixedViolations.add(previous);
+                    continue;
+                }
+                int position = _movedPositions.get(i);
+                if (position != NONE) {
+                    aMovedPrevious[position] = previous;
+                }
+            }
+            List<MovedViolation> movedViolations = new ArrayList<MovedViolation>(aMovedPrevious.length);
+            for (int i = 0; i < aMovedPrevious.length; i++) {
+                movedViolations.add(new MovedViolation(aMovedPrevious[i], _movedViolations.get(i)));
+            }
+            return new ViolationsDelta(_newViolations, movedViolations, fixedViolations, _unchangedCount);
+        }
+    }
+
+    /**
+     * Attributes of violation used for matching.
+     */
+    private static final class Key {
+        private final String _sRuleId;
+
+        private final String _sPath;
+
+        private final String _sLineHash;
+
+        private final String _sLocationHash;
+
+        private final SourceRange _sourceRange;
+
+        private final long _fingerprint;
+
+        private Key(IViolation violation) {
+            _sRuleId = getRuleId(violation);
+            _sPath = ViolationPathUtil.getRelativePath(violation);
+            _sLineHash = violation.getAttribute(IXmlTagsAndAttributes.LINE_HASH_ATTR);
+            // location hash and start line identify violations without line hash only
+            _sLocationHash = (_sLineHash == null) ? violation.getAttribute(IXmlTagsAndAttributes.LOCATION_HASH_ATTR) : null;
+            ResultLocation location = violation.getResultLocation();
+            _sourceRange = (location != null) ? location.getSourceRange() : null;
+            long hash = fingerprint(FNV_OFFSET_BASIS, _sRuleId);
+            hash = fingerprint(hash, _sPath);
+            if (_sLineHash != null) {
+                _fingerprint = fingerprint(hash, _sLineHash);
+            } else {
+                hash = fingerprint(hash, _sLocationHash);
+                _fingerprint = fingerprint(hash, String.valueOf(getStartLine()));
+            }
+        }
+
+        /**
+         * Compares the attributes used for fingerprints, as different violations may have the same fingerprint.
+         */
+        private boolean isSameViolation(Key key) {
+            if (!StringUtil.equals(_sRuleId, key._sRuleId)
+                    || !StringUtil.equals(_sPath, key._sPath)
+                    || !StringUtil.equals(_sLineHash, key._sLineHash)) {
+                return false;
+            }
+            return (_sLineHash != null)
+                    || (StringUtil.equals(_sLocationHash, key._sLocationHash) && (getStartLine() == key.getStartLine()));
+        }
+
+        private boolean isSameRange(Key key) {
+            return ObjectUtil.equals(_sourceRange, key._sourceRange);
+        }
+
+        private int getStartLine() {
+            return (_sourceRange != null) ? _sourceRange.getStartLine() : -1;
+        }
+    }
+
+    /**
+     * Violation found in both reports at different source ranges.
+     */
+    public static final class MovedViolation {
+        private final IViolation _previousViolation;
+
+        private final IViolation _violation;
+
+        private MovedViolation(IViolation previousViolation, IViolation violation) {
+            _previousViolation = previousViolation;
+            _violation = violation;
+        }
+
+        /**
+         * @return the violation of previous report
+         */
+        public IViolation getPreviousViolation() {
+            return _previousViolation;
+        }
+
+        /**
+         * @return the violation of current report
+         */
+        public IViolation getViolation() {
+            return _violation;
+        }
+    }
+
+    private static final int NONE = -1;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private static final long FNV_OFFSET_BASIS = 0xCBF29CE484222325L;
+
+    private static final long FNV_PRIME = 0x100000001B3L;
+}
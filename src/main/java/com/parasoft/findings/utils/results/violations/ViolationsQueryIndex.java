@@ -0,0 +1,290 @@
+/*
+ * Copyright 2023 Parasoft Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.parasoft.findings.utils.results.violations;
+
+import com.parasoft.findings.utils.results.xml.RulesImportHandler;
+import com.parasoft.findings.utils.results.xml.XmlReportReader;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * In-memory index of imported violations answering lookups by rule id, analyzer, file,
+ * severity and rule category.
+ * <p>
+ * Violations are kept in import order and each indexed value maps to a posting list of
+ * violation positions held in a primitive int array, so a lookup takes constant time and
+ * returns a list view of the matching violations. The index is filled while the report is
+ * imported, see {@link XmlReportViolationsImporter#performQueryImport(java.io.File)}.
+ * This class is not thread safe while violations are added.
+ */
+public final class ViolationsQueryIndex
+        implements XmlReportReader.IImportResultCollector {
+    private final List<IViolation> _violations = new ArrayList<IViolation>();
+
+    private final Map<String, PostingList> _ruleIds = new HashMap<String, PostingList>();
+
+    private final Map<String, PostingList> _analyzerIds = new HashMap<String, PostingList>();
+
+    private final Map<String, PostingList> _filePaths = new HashMap<String, PostingList>();
+
+    private final Map<String, PostingList> _categories = new HashMap<String, PostingList>();
+
+    // index 0 holds violations with invalid severity
+    private final PostingList[] _aSeverities = new PostingList[ViolationRuleUtil.SEVERITY_LOWEST + 1];
+
+    private RulesImportHandler _rulesImportHandler = null;
+
+    @Override
+    public void collect(IViolation[] aViolations) {
+        for (IViolation violation : aViolations) {
+            add(violation);
+        }
+    }
+
+    /**
+     * Adds violation to the index.
+     *
+     * @param violation the violation to add
+     * @pre violation != null
+     */
+    public void add(IViolation violation) {
+        int position = _violations.size();
+        _violations.add(violation);
+        if (violation instanceof IRuleViolation) {
+            add(_ruleIds, ((IRuleViolation) violation).getRuleId(), position);
+        }
+        add(_analyzerIds, violation.getAnalyzerId(), position);
+        add(_filePaths, ViolationPathUtil.getPath(violation), position);
+        add(_categories, ViolationRuleUtil.getRuleCategory(violation), position);
+        int severity = ViolationRuleUtil.getSeverity(violation);
+        int severityIndex = ((severity >= ViolationRuleUtil.SEVERITY_HIGHEST) && (severity <= ViolationRuleUtil.SEVERITY_LOWEST))
+                ? severity : 0;
+        if (_aSeverities[severityIndex] == null) {
+            _aSeverities[severityIndex] = new PostingList();
+        }
+        _aSeverities[severityIndex].add(position);
+    }
+
+    /**
+     * @return the number of indexed violations
+     */
+    public int size() {
+        return _violations.size();
+    }
+
+    /**
+     * @return all indexed violations in import order
+     */
+    public List<IViolation> getViolations() {
+        return Collections.unmodifiableList(_violations);
+    }
+
+    /**
+     * @param sRuleId the rule id
+     * @return the violations of given rule
+     */
+    public List<IViolation> findByRuleId(String sRuleId) {
+        return find(_ruleIds, sRuleId);
+    }
+
+    /**
+     * @param sAnalyzerId the analyzer id
+     * @return the violations reported by given analyzer
+     */
+    public List<IViolation> findByAnalyzerId(String sAnalyzerId) {
+        return find(_analyzerIds, sAnalyzerId);
+    }
+
+    /**
+     * @param sFilePath the project path of file followed by project relative path, or the file path
+     *                  for files outside projects, see {@link #getFilePaths()}
+     * @return the violations located in given file
+     */
+    public List<IViolation> findByFilePath(String sFilePath) {
+        return find(_filePaths, sFilePath);
+    }
+
+    /**
+     * @param sCategory the rule category
+     * @return the violations of rules from given category
+     */
+    public List<IViolation> findByCategory(String sCategory) {
+        return find(_categories, sCategory);
+    }
+
+    /**
+     * @param severity the severity, {@link ViolationRuleUtil#INVALID_SEVERITY} for violations without valid severity
+     * @return the violations of given severity
+     */
+    public List<IViolation> findBySeverity(int severity) {
+        int severityIndex;
+        if (severity == ViolationRuleUtil.INVALID_SEVERITY) {
+            severityIndex = 0;
+        } else if ((severity >= ViolationRuleUtil.SEVERITY_HIGHEST) && (severity <= ViolationRuleUtil.SEVERITY_LOWEST)) {
+            severityIndex = severity;
+        } else {
+            return Collections.emptyList();
+        }
+        return toList(_aSeverities[severityIndex]);
+    }
+
+    /**
+     * @return the rule ids of indexed violations
+     */
+    public Set<String> getRuleIds() {
+        return Collections.unmodifiableSet(_ruleIds.keySet());
+    }
+
+    /**
+     * @return the analyzer ids of indexed violations
+     */
+    public Set<String> getAnalyzerIds() {
+        return Collections.unmodifiableSet(_analyzerIds.keySet());
+    }
+
+    /**
+     * @return the paths of files with indexed violations
+     */
+    public Set<String> getFilePaths() {
+        return Collections.unmodifiableSet(_filePaths.keySet());
+    }
+
+    /**
+     * @return the rule categories of indexed violations
+     */
+    public Set<String> getCategories() {
+        return Collections.unmodifiableSet(_categories.keySet());
+    }
+
+    /**
+     * @return the rules of imported report or <code>null</code> if the index was not filled by import
+     */
+    public RulesImportHandler getRulesImportHandler() {
+        return _rulesImportHandler;
+    }
+
+    void setRulesImportHandler(RulesImportHandler rulesImportHandler) {
+        _rulesImportHandler = rulesImportHandler;
+    }
+
+    /**
+     * Releases memory reserved for growth of posting lists, to be called after all violations were added.
+     */
+    public void trimToSize() {
+        ((ArrayList<IViolation>) _violations).trimToSize();
+        trimToSize(_ruleIds);
+        trimToSize(_analyzerIds);
+        trimToSize(_filePaths);
+        trimToSize(_categories);
+        for (PostingList postings : _aSeverities) {
+            if (postings != null) {
+                postings.trimToSize();
+            }
+        }
+    }
+
+    private static void add(Map<String, PostingList> index, String sKey, int position) {
+        if (sKey == null) {
+            return;
+        }
+        PostingList postings = index.get(sKey);
+        if (postings == null) {
+            postings = new PostingList();
+            index.put(sKey, postings);
+        }
+        postings.add(position);
+    }
+
+    private List<IViolation> find(Map<String, PostingList> index, String sKey) {
+        return toList((sKey != null) ? index.get(sKey) : null);
+    }
+
+    private List<IViolation> toList(PostingList postings) {
+        if (postings == null) {
+            return Collections.emptyList();
+        }
+        return new PostingListView(postings._aPositions, postings._size);
+    }
+
+    private static void trimToSize(Map<String, PostingList> index) {
+        for (PostingList postings : index.values()) {
+            postings.trimToSize();
+        }
+    }
+
+    /**
+     * Growable array of violation positions.
+     */
+    private static final class PostingList {
+        private int[] _aPositions = new int[INITIAL_CAPACITY];
+
+        private int _size = 0;
+
+        void add(int position) {
+            if (_size == _aPositions.length) {
+                _aPositions = Arrays.copyOf(_aPositions, _size << 1);
+            }
+            _aPositions[_size++] = position;
+        }
+
+        void trimToSize() {
+            if (_size < _aPositions.length) {
+                _aPositions = Arrays.copyOf(_aPositions, _size);
+            }
+        }
+    }
+
+    /**
+     * Read only view of violations at positions of posting list taken when the view was created.
+     */
+    private final class PostingListView
+            extends AbstractList<IViolation>
+            implements RandomAccess {
+        private final int[] _aPositions;
+
+        private final int _size;
+
+        PostingListView(int[] aPositions, int size) {
+            _aPositions = aPositions;
+            _size = size;
+        }
+
+        @Override
+        public IViolation get(int index) {
+            if ((index < 0) || (index >= _size)) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", size: " + _size); //$NON-NLS-1$ //$NON-NLS-2$
+            }
+            return _violations.get(_aPositions[index]);
+        }
+
+        @Override
+        public int size() {
+            return _size;
+        }
+    }
+
+    private static final int INITIAL_CAPACITY = 4;
+}
@@ -0,0 +1,852 @@
+/*
+ * Copyright 2023 Parasoft Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.parasoft.findings.utils.results.violations;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.xml.sax.SAXException;
+
+import com.parasoft.findings.utils.results.xml.IViolationXmlStorage;
+import com.parasoft.findings.utils.results.xml.IXmlTagsAndAttributes;
+import com.parasoft.findings.utils.results.xml.RulesImportHandler;
+import com.parasoft.findings.utils.results.xml.XmlReportReader;
+import com.parasoft.findings.utils.results.xml.factory.UResults;
+
+/**
+ * Index of violation elements of memory mapped xml report, giving random access to violations
+ * without parsing the whole report.
+ * <p>
+ * The report is mapped in regions of up to 1GB and scanned once for byte offsets of violation
+ * elements. Data which violations depend on (versions, locations and rules) is read on first
+ * access from the report with violation elements left out. Each requested violation is then
+ * parsed from a small document made of the report prolog, start tags of elements enclosing the
+ * violation, the violation element and matching end tags.
+ * <p>
+ * All violations may be also read in two phases: data which violations depend on is read once,
+ * then chunks of consecutive violation elements are parsed concurrently by readers sharing this
+ * data, see {@link #readViolations(ForkJoinPool)}.
+ * <p>
+ * Only reports in encodings compatible with ASCII (like UTF-8) are supported.
+ * Methods of this class are synchronized, since the report reader is not thread safe.
+ */
+public final class XmlReportIndex
+        implements Closeable {
+    private final File _report;
+
+    private final XmlReportReader _reportReader;
+
+    private MappedByteBuffer[] _aRegions;
+
+    private final long _size;
+
+    /**
+     * offset of the root element, bytes before it are the prolog of the report
+     */
+    private long _prologEnd = -1L;
+
+    private long[] _aStarts = new long[INITIAL_CAPACITY];
+
+    private long[] _aEnds = new long[INITIAL_CAPACITY];
+
+    /**
+     * ids of contexts, i.e. enclosing elements, of violations
+     */
+    private int[] _aContextIds = new int[INITIAL_CAPACITY];
+
+    /**
+     * ids of location references of violations, <code>-1</code> for none
+     */
+    private int[] _aLocRefIds = new int[INITIAL_CAPACITY];
+
+    private int _count = 0;
+
+    /**
+     * start tag ranges of enclosing elements for each context, as start and end offset pairs
+     */
+    private final List<long[]> _contexts = new ArrayList<long[]>();
+
+    /**
+     * name ranges of enclosing elements for each context, as start and end offset pairs
+     */
+    private final List<long[]> _contextNames = new ArrayList<long[]>();
+
+    private final List<String> _locRefs = new ArrayList<String>();
+
+    private final Map<String, Integer> _locRefIds = new HashMap<String, Integer>();
+
+    private boolean _bPrimed = false;
+
+    private XmlReportIndex(File report, XmlReportReader reportReader, MappedByteBuffer[] aRegions, long size) {
+        _report = report;
+        _reportReader = reportReader;
+        _aRegions = aRegions;
+        _size = size;
+    }
+
+    /**
+     * Maps the report into memory and indexes its violation elements.
+     *
+     * @param report       the report file
+     * @param reportReader the reader used to read violations, not used to read any other report
+     * @return the index
+     * @throws IOException if the report cannot be mapped or has unsupported format
+     * @pre report != null
+     * @pre reportReader != null
+     */
+    static XmlReportIndex create(File report, XmlReportReader reportReader)
+            throws IOException {
+        XmlReportIndex index;
+        try (RandomAccessFile file = new RandomAccessFile(report, "r"); //$NON-NLS-1$
+             FileChannel channel = file.getChannel()) {
+            long size = channel.size();
+            int regionsCount = (int) ((size + REGION_SIZE - 1) >>> REGION_SHIFT);
+            MappedByteBuffer[] aRegions = new MappedByteBuffer[regionsCount];
+            for (int i = 0; i < regionsCount; i++) {
+                long position = (long) i << REGION_SHIFT;
+                aRegions[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(REGION_SIZE, size - position));
+            }
+            index = new XmlReportIndex(report, reportReader, aRegions, size);
+        }
+        index.scan();
+        return index;
+    }
+
+    /**
+     * @return the indexed report
+     */
+    public File getReport() {
+        return _report;
+    }
+
+    /**
+     * @return the number of indexed violation elements
+     */
+    public int getViolationsCount() {
+        return _count;
+    }
+
+    /**
+     * @param index the index of violation element
+     * @return the byte offset of violation element in the report
+     * @pre (index >= 0) && (index < getViolationsCount())
+     */
+    public long getViolationOffset(int index) {
+        checkIndex(index);
+        return _aStarts[index];
+    }
+
+    /**
+     * Returns the location reference of violation element, which is the value of <code>locRef</code>
+     * attribute, or the value of <code>locFile</code> attribute for reports in legacy format.
+     *
+     * @param index the index of violation element
+     * @return the location reference of violation element or <code>null</code> if it has none
+     * @pre (index >= 0) && (index < getViolationsCount())
+     */
+    public String getLocationRef(int index) {
+        checkIndex(index);
+        int locRefId = _aLocRefIds[index];
+        return (locRefId < 0) ? null : _locRefs.get(locRefId);
+    }
+
+    /**
+     * Reads single violation.
+     *
+     * @param index the index of violation element
+     * @return the violation or <code>null</code> if it could not be read, like violations skipped by regular import
+     * @pre (index >= 0) && (index < getViolationsCount())
+     */
+    public synchronized IViolation readViolation(int index) {
+        checkIndex(index);
+        List<IViolation> violations = readViolations(new int[]{index});
+        return violations.isEmpty() ? null : violations.get(0);
+    }
+
+    /**
+     * Reads violations of elements with given location reference.
+     *
+     * @param sLocRef the location reference, see {@link #getLocationRef(int)}
+     * @return read violations in the report order
+     * @pre sLocRef != null
+     * @post $result != null
+     */
+    public synchronized List<IViolation> readViolations(String sLocRef) {
+        Integer locRefId = _locRefIds.get(sLocRef);
+        if (locRefId == null) {
+            return Collections.emptyList();
+        }
+        int[] aIndexes = new int[INITIAL_CAPACITY];
+        int indexesCount = 0;
+        for (int i = 0; i < _count; i++) {
+            if (_aLocRefIds[i] == locRefId.intValue()) {
+                if (indexesCount == aIndexes.length) {
+                    aIndexes = Arrays.copyOf(aIndexes, indexesCount * 2);
+                }
+                aIndexes[indexesCount++] = i;
+            }
+        }
+        return readViolations(Arrays.copyOf(aIndexes, indexesCount));
+    }
+
+    /**
+     * Reads all violations, parsing chunks of violation elements concurrently in given pool.
+     * Each chunk is parsed with a separate reader sharing versions, locations and rules read
+     * from the report before chunks are parsed.
+     *
+     * @param pool the pool parsing chunks of violation elements
+     * @return read violations in the report order or <code>null</code> if some of them could not be read
+     * @pre pool != null
+     */
+    public synchronized List<IViolation> readViolations(ForkJoinPool pool) {
+        if (!prime()) {
+            return null;
+        }
+        int[] aChunkStarts = createChunks();
+        List<List<IViolation>> chunksViolations = new ArrayList<List<IViolation>>(aChunkStarts.length - 1);
+        for (int i = 1; i < aChunkStarts.length; i++) {
+            chunksViolations.add(null);
+        }
+        pool.invoke(new ChunksParser(aChunkStarts, 0, aChunkStarts.length - 1, chunksViolations));
+
+        List<IViolation> result = new ArrayList<IViolation>(_count);
+        for (List<IViolation> chunkViolations : chunksViolations) {
+            if (chunkViolations == null) {
+                Logger.getLogger().warn("Failed to read violations from report: " + _report); //$NON-NLS-1$
+                return null;
+            }
+            result.addAll(chunkViolations);
+        }
+        return result;
+    }
+
+    /**
+     * Returns rules read from the report.
+     *
+     * @return the rules import handler
+     * @post $result != null
+     */
+    public synchronized RulesImportHandler getRulesImportHandler() {
+        prime();
+        return _reportReader.getRulesImportHandler();
+    }
+
+    /**
+     * Releases the mapped report. The index cannot be used to read violations after it is closed.
+     */
+    @Override
+    public synchronized void close() {
+        _aRegions = null;
+    }
+
+    private List<IViolation> readViolations(int[] aIndexes) {
+        if (!prime()) {
+            return Collections.emptyList();
+        }
+        List<IViolation> result = new ArrayList<IViolation>(aIndexes.length);
+        int groupStart = 0;
+        while (groupStart < aIndexes.length) {
+            int contextId = _aContextIds[aIndexes[groupStart]];
+            int groupEnd = groupStart + 1;
+            while ((groupEnd < aIndexes.length) && (_aContextIds[aIndexes[groupEnd]] == contextId)) {
+                groupEnd++;
+            }
+            List<Segment> segments = createFragment(contextId, aIndexes, groupStart, groupEnd);
+            if (parse(segments.iterator(), _reportReader)) {
+                result.addAll(_reportReader.getImportedViolations());
+            }
+            _reportReader.getImportedViolations().clear();
+            groupStart = groupEnd;
+        }
+        return result;
+    }
+
+    /**
+     * Reads versions, locations and rules from the report with violation elements left out.
+     *
+     * @return <code>true</code> on success
+     */
+    private boolean prime() {
+        checkOpen();
+        if (!_bPrimed) {
+            _bPrimed = parse(new SkeletonIterator(), _reportReader);
+            _reportReader.getImportedViolations().clear();
+            if (!_bPrimed) {
+                Logger.getLogger().warn("Failed to read report data required to read violations: " + _report); //$NON-NLS-1$
+            }
+        }
+        return _bPrimed;
+    }
+
+    private boolean parse(Iterator<Segment> segments, XmlReportReader reportReader) {
+        try (InputStream is = new SegmentsInputStream(segments)) {
+            reportReader.parse(is);
+            return true;
+        } catch (ParserConfigurationException | SAXException | IOException e) {
+            Logger.getLogger().error(e);
+        }
+        return false;
+    }
+
+    /**
+     * Splits violation elements into chunks of consecutive elements with the same context.
+     *
+     * @return start indexes of chunks followed by the number of violation elements
+     */
+    private int[] createChunks() {
+        int[] aChunkStarts = new int[INITIAL_CAPACITY];
+        int chunksCount = 0;
+        int chunkStart = 0;
+        while (chunkStart < _count) {
+            if (chunksCount == aChunkStarts.length) {
+                aChunkStarts = Arrays.copyOf(aChunkStarts, chunksCount * 2);
+            }
+            aChunkStarts[chunksCount++] = chunkStart;
+            int contextId = _aContextIds[chunkStart];
+            int chunkEnd = chunkStart + 1;
+            while ((chunkEnd < _count) && (chunkEnd - chunkStart < CHUNK_SIZE) && (_aContextIds[chunkEnd] == contextId)) {
+                chunkEnd++;
+            }
+            chunkStart = chunkEnd;
+        }
+        aChunkStarts = Arrays.copyOf(aChunkStarts, chunksCount + 1);
+        aChunkStarts[chunksCount] = _count;
+        return aChunkStarts;
+    }
+
+    /**
+     * @return violations of the chunk or <code>null</code> if they could not be read
+     */
+    private List<IViolation> parseChunk(int from, int to) {
+        int[] aIndexes = new int[to - from];
+        for (int i = 0; i < aIndexes.length; i++) {
+            aIndexes[i] = from + i;
+        }
+        XmlReportReader reportReader = _reportReader.createFragmentReader();
+        if (!parse(createFragment(_aContextIds[from], aIndexes, 0, aIndexes.length).iterator(), reportReader)) {
+            return null;
+        }
+        return reportReader.getImportedViolations();
+    }
+
+    private List<Segment> createFragment(int contextId, int[] aIndexes, int from, int to) {
+        long[] aContext = _contexts.get(contextId);
+        long[] aContextNames = _contextNames.get(contextId);
+        List<Segment> segments = new ArrayList<Segment>();
+        segments.add(new Segment(0L, _prologEnd));
+        for (int i = 0; i < aContext.length; i += 2) {
+            segments.add(new Segment(aContext[i], aContext[i + 1]));
+        }
+        for (int i = from; i < to; i++) {
+            segments.add(new Segment(_aStarts[aIndexes[i]], _aEnds[aIndexes[i]]));
+        }
+        for (int i = aContextNames.length - 2; i >= 0; i -= 2) {
+            segments.add(new Segment(END_TAG_START));
+            segments.add(new Segment(aContextNames[i], aContextNames[i + 1]));
+            segments.add(new Segment(TAG_END));
+        }
+        return segments;
+    }
+
+    private void scan()
+            throws IOException {
+        if ((_size >= 2) && (((byteAt(0) == (byte) 0xFE) && (byteAt(1) == (byte) 0xFF))
+                || ((byteAt(0) == (byte) 0xFF) && (byteAt(1) == (byte) 0xFE)))) {
+            throw new IOException("Unsupported report encoding: " + _report); //$NON-NLS-1$
+        }
+        byte[][] aViolationTags = getViolationTags();
+        // offsets of start tag start, start tag end, name end of open elements
+        long[] aStack = new long[3 * 16];
+        int depth = 0;
+        int violationDepth = -1;
+        int contextDepth = -1;
+        long pos = 0L;
+        while (pos < _size) {
+            if (byteAt(pos) != '<') {
+                pos++;
+                continue;
+            }
+            byte next = byteAtOrZero(pos + 1);
+            if (next == '?') {
+                pos = indexOf(PI_END, pos + 2) + PI_END.length;
+            } else if (next == '!') {
+                if (startsWith(COMMENT_START, pos)) {
+                    pos = indexOf(COMMENT_END, pos + COMMENT_START.length) + COMMENT_END.length;
+                } else if (startsWith(CDATA_START, pos)) {
+                    pos = indexOf(CDATA_END, pos + CDATA_START.length) + CDATA_END.length;
+                } else {
+                    pos = skipDeclaration(pos + 2);
+                }
+            } else if (next == '/') {
+                pos = findTagEnd(pos + 2);
+                if (depth == 0) {
+                    throw new IOException("Unexpected end tag at offset " + pos); //$NON-NLS-1$
+                }
+                depth--;
+                if (depth == violationDepth) {
+                    _aEnds[_count - 1] = pos;
+                    violationDepth = -1;
+                } else if ((violationDepth < 0) && (depth < contextDepth)) {
+                    contextDepth = -1;
+                }
+            } else {
+                long nameEnd = findNameEnd(pos + 1);
+                long tagEnd = findTagEnd(nameEnd);
+                boolean bEmpty = byteAt(tagEnd - 2) == '/';
+                if (_prologEnd < 0) {
+                    _prologEnd = pos;
+                }
+                if ((violationDepth < 0) && (depth >= MIN_VIOLATION_DEPTH) && isViolationTag(aViolationTags, pos + 1, nameEnd)) {
+                    if (contextDepth != depth) {
+                        addContext(aStack, depth);
+                        contextDepth = depth;
+                    }
+                    addViolation(pos, tagEnd, nameEnd);
+                    if (!bEmpty) {
+                        violationDepth = depth;
+                    }
+                }
+                if (!bEmpty) {
+                    if ((3 * depth) == aStack.length) {
+                        aStack = Arrays.copyOf(aStack, aStack.length * 2);
+                    }
+                    aStack[3 * depth] = pos;
+                    aStack[(3 * depth) + 1] = tagEnd;
+                    aStack[(3 * depth) + 2] = nameEnd;
+                    depth++;
+                }
+                pos = tagEnd;
+            }
+        }
+        if ((depth != 0) || (_prologEnd < 0)) {
+            throw new IOException("Incomplete report: " + _report); //$NON-NLS-1$
+        }
+        Logger.getLogger().debug("Indexed " + _count + " violations of report " + _report); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    private void addContext(long[] aStack, int depth) {
+        long[] aContext = new long[2 * depth];
+        long[] aContextNames = new long[2 * depth];
+        for (int i = 0; i < depth; i++) {
+            aContext[2 * i] = aStack[3 * i];
+            aContext[(2 * i) + 1] = aStack[(3 * i) + 1];
+            aContextNames[2 * i] = aStack[3 * i] + 1;
+            aContextNames[(2 * i) + 1] = aStack[(3 * i) + 2];
+        }
+        _contexts.add(aContext);
+        _contextNames.add(aContextNames);
+    }
+
+    private void addViolation(long start, long tagEnd, long nameEnd)
+            throws IOException {
+        if (_count == _aStarts.length) {
+            int newCapacity = _count * 2;
+            _aStarts = Arrays.copyOf(_aStarts, newCapacity);
+            _aEnds = Arrays.copyOf(_aEnds, newCapacity);
+            _aContextIds = Arrays.copyOf(_aContextIds, newCapacity);
+            _aLocRefIds = Arrays.copyOf(_aLocRefIds, newCapacity);
+        }
+        _aStarts[_count] = start;
+        _aEnds[_count] = tagEnd;
+        _aContextIds[_count] = _contexts.size() - 1;
+        String sLocRef = readAttribute(nameEnd, tagEnd, LOC_REF_ATTR);
+        if (sLocRef == null) {
+            sLocRef = readAttribute(nameEnd, tagEnd, LEGACY_LOC_FILE_ATTR);
+        }
+        _aLocRefIds[_count] = getLocRefId(sLocRef);
+        _count++;
+    }
+
+    private int getLocRefId(String sLocRef) {
+        if (sLocRef == null) {
+            return -1;
+        }
+        Integer id = _locRefIds.get(sLocRef);
+        if (id == null) {
+            id = Integer.valueOf(_locRefs.size());
+            _locRefs.add(sLocRef);
+            _locRefIds.put(sLocRef, id);
+        }
+        return id.intValue();
+    }
+
+    /**
+     * Reads raw value of attribute from start tag.
+     *
+     * @return the value or <code>null</code> if there is no such attribute
+     */
+    private String readAttribute(long pos, long tagEnd, byte[] aName)
+            throws IOException {
+        while (pos < tagEnd) {
+            byte b = byteAt(pos);
+            if ((b == '"') || (b == '\'')) {
+                long valueEnd = indexOf(b, pos + 1);
+                if (isAttributeName(aName, pos)) {
+                    return readString(pos + 1, valueEnd);
+                }
+                pos = valueEnd + 1;
+            } else {
+                pos++;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Tells if the value starting with quote at given offset belongs to attribute with given name.
+     */
+    private boolean isAttributeName(byte[] aName, long quotePos) {
+        long pos = quotePos - 1;
+        while (isWhitespace(byteAt(pos))) {
+            pos--;
+        }
+        if (byteAt(pos) != '=') {
+            return false;
+        }
+        pos--;
+        while (isWhitespace(byteAt(pos))) {
+            pos--;
+        }
+        long nameStart = pos - aName.length + 1;
+        return isWhitespace(byteAt(nameStart - 1)) && startsWith(aName, nameStart);
+    }
+
+    private String readString(long start, long end) {
+        byte[] aBytes = new byte[(int) (end - start)];
+        for (int i = 0; i < aBytes.length; i++) {
+            aBytes[i] = byteAt(start + i);
+        }
+        String sValue = new String(aBytes, StandardCharsets.UTF_8);
+        return (sValue.indexOf('&') < 0) ? sValue : sValue.replace("&lt;", "<").replace("&gt;", ">") //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+                .replace("&quot;", "\"").replace("&apos;", "'").replace("&amp;", "&"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$
+    }
+
+    private boolean isViolationTag(byte[][] aViolationTags, long nameStart, long nameEnd) {
+        for (byte[] aTag : aViolationTags) {
+            if ((aTag.length == (nameEnd - nameStart)) && startsWith(aTag, nameStart)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private long findNameEnd(long pos) {
+        while (pos < _size) {
+            byte b = byteAt(pos);
+            if (isWhitespace(b) || (b == '/') || (b == '>')) {
+                return pos;
+            }
+            pos++;
+        }
+        return pos;
+    }
+
+    /**
+     * @return the offset after <code>'&gt;'</code> ending the tag, skipping quoted attribute values
+     */
+    private long findTagEnd(long pos)
+            throws IOException {
+        while (pos < _size) {
+            byte b = byteAt(pos);
+            if ((b == '"') || (b == '\'')) {
+                pos = indexOf(b, pos + 1);
+            } else if (b == '>') {
+                return pos + 1;
+            }
+            pos++;
+        }
+        throw new IOException("Unterminated tag in report: " + _report); //$NON-NLS-1$
+    }
+
+    private long skipDeclaration(long pos)
+            throws IOException {
+        int nesting = 0;
+        while (pos < _size) {
+            byte b = byteAt(pos);
+            if (b == '[') {
+                nesting++;
+            } else if (b == ']') {
+                nesting--;
+            } else if ((b == '>') && (nesting <= 0)) {
+                return pos + 1;
+            }
+            pos++;
+        }
+        throw new IOException("Unterminated declaration in report: " + _report); //$NON-NLS-1$
+    }
+
+    private long indexOf(byte b, long pos)
+            throws IOException {
+        while (pos < _size) {
+            if (byteAt(pos) == b) {
+                return pos;
+            }
+            pos++;
+        }
+        throw new IOException("Unexpected end of report: " + _report); //$NON-NLS-1$
+    }
+
+    private long indexOf(byte[] aBytes, long pos)
+            throws IOException {
+        while (pos < _size) {
+            pos = indexOf(aBytes[0], pos);
+            if (startsWith(aBytes, pos)) {
+                return pos;
+            }
+            pos++;
+        }
+        throw new IOException("Unexpected end of report: " + _report); //$NON-NLS-1$
+    }
+
+    private boolean startsWith(byte[] aBytes, long pos) {
+        if ((pos < 0) || ((pos + aBytes.length) > _size)) {
+            return false;
+        }
+        for (int i = 0; i < aBytes.length; i++) {
+            if (byteAt(pos + i) != aBytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private byte byteAtOrZero(long pos) {
+        return (pos < _size) ? byteAt(pos) : 0;
+    }
+
+    private byte byteAt(long pos) {
+        return _aRegions[(int) (pos >>> REGION_SHIFT)].get((int) (pos & REGION_MASK));
+    }
+
+    private void checkIndex(int index) {
+        if ((index < 0) || (index >= _count)) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + _count); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+    }
+
+    private void checkOpen() {
+        if (_aRegions == null) {
+            throw new IllegalStateException("Report index is closed: " + _report); //$NON-NLS-1$
+        }
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return (b == ' ') || (b == '\t') || (b == '\n') || (b == '\r');
+    }
+
+    private static byte[][] getViolationTags() {
+        IViolationXmlStorage[] aStorages = UResults.getResultFactoriesManager().getResultFactory().getViolationStorages();
+        byte[][] aTags = new byte[aStorages.length][];
+        for (int i = 0; i < aStorages.length; i++) {
+            aTags[i] = aStorages[i].getTagName(aStorages[i].getVersion()).getBytes(StandardCharsets.UTF_8);
+        }
+        return aTags;
+    }
+
+    /**
+     * Part of parsed document, either range of mapped report or literal bytes.
+     */
+    private static final class Segment {
+        private final byte[] _aLiteral;
+
+        private final long _start;
+
+        private final long _end;
+
+        Segment(long start, long end) {
+            _aLiteral = null;
+            _start = start;
+            _end = end;
+        }
+
+        Segment(byte[] aLiteral) {
+            _aLiteral = aLiteral;
+            _start = 0L;
+            _end = aLiteral.length;
+        }
+    }
+
+    /**
+     * Iterates over ranges of the report between violation elements.
+     */
+    private final class SkeletonIterator
+            implements Iterator<Segment> {
+        private int _nextViolation = 0;
+
+        private long _pos = 0L;
+
+        @Override
+        public boolean hasNext() {
+            return _pos < _size;
+        }
+
+        @Override
+        public Segment next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            long end = (_nextViolation < _count) ? _aStarts[_nextViolation] : _size;
+            Segment segment = new Segment(_pos, end);
+            _pos = (_nextViolation < _count) ? _aEnds[_nextViolation] : _size;
+            _nextViolation++;
+            return segment;
+        }
+    }
+
+    /**
+     * Parses range of chunks, splitting it until single chunks remain.
+     */
+    private final class ChunksParser
+            extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] _aChunkStarts;
+
+        private final int _from;
+
+        private final int _to;
+
+        private final List<List<IViolation>> _chunksViolations;
+
+        ChunksParser(int[] aChunkStarts, int from, int to, List<List<IViolation>> chunksViolations) {
+            _aChunkStarts = aChunkStarts;
+            _from = from;
+            _to = to;
+            _chunksViolations = chunksViolations;
+        }
+
+        @Override
+        protected void compute() {
+            if (_to - _from > 1) {
+                int middle = (_from + _to) >>> 1;
+                invokeAll(new ChunksParser(_aChunkStarts, _from, middle, _chunksViolations),
+                        new ChunksParser(_aChunkStarts, middle, _to, _chunksViolations));
+            } else if (_to > _from) {
+                _chunksViolations.set(_from, parseChunk(_aChunkStarts[_from], _aChunkStarts[_from + 1]));
+            }
+        }
+    }
+
+    private final class SegmentsInputStream
+            extends InputStream {
+        private final Iterator<Segment> _segments;
+
+        private Segment _segment = null;
+
+        private long _pos = 0L;
+
+        SegmentsInputStream(Iterator<Segment> segments) {
+            _segments = segments;
+        }
+
+        @Override
+        public int read()
+                throws IOException {
+            byte[] aByte = new byte[1];
+            int read = read(aByte, 0, 1);
+            return (read < 0) ? -1 : (aByte[0] & 0xFF);
+        }
+
+        @Override
+        public int read(byte[] aBuffer, int offset, int length)
+                throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            while ((_segment == null) || (_pos >= _segment._end)) {
+                if (!_segments.hasNext()) {
+                    return -1;
+                }
+                _segment = _segments.next();
+                _pos = _segment._start;
+            }
+            int count = (int) Math.min(length, _segment._end - _pos);
+            if (_segment._aLiteral != null) {
+                System.arraycopy(_segment._aLiteral, (int) _pos, aBuffer, offset, count);
+            } else {
+                MappedByteBuffer[] aRegions = _aRegions;
+                if (aRegions == null) {
+                    throw new IOException("Report index is closed: " + _report); //$NON-NLS-1$
+                }
+                int regionOffset = (int) (_pos & REGION_MASK);
+                count = Math.min(count, REGION_SIZE - regionOffset);
+                ByteBuffer region = aRegions[(int) (_pos >>> REGION_SHIFT)].duplicate();
+                region.position(regionOffset);
+                region.get(aBuffer, offset, count);
+            }
+            _pos += count;
+            return count;
+        }
+    }
+
+    private static final int REGION_SHIFT = 30;
+
+    private static final int REGION_SIZE = 1 << REGION_SHIFT;
+
+    private static final long REGION_MASK = REGION_SIZE - 1;
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * maximal number of violation elements parsed by one reader in {@link #readViolations(ForkJoinPool)}
+     */
+    private static final int CHUNK_SIZE = 1024;
+
+    /**
+     * minimal depth of violation elements: root element and section element enclose them
+     */
+    private static final int MIN_VIOLATION_DEPTH = 2;
+
+    private static final byte[] LOC_REF_ATTR = IXmlTagsAndAttributes.LOC_REF_ATTR.getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] LEGACY_LOC_FILE_ATTR = (IXmlTagsAndAttributes.LOCATION_ATTR_V2_PREFIX
+            + IXmlTagsAndAttributes.FILE_TAG).getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] PI_END = "?>".getBytes(StandardCharsets.UTF_8); //$NON-NLS-1$
+
+    private static final byte[] COMMENT_START = "<!--".getBytes(StandardCharsets.UTF_8); //$NON-NLS-1$
+
+    private static final byte[] COMMENT_END = "-->".getBytes(StandardCharsets.UTF_8); //$NON-NLS-1$
+
+    private static final byte[] CDATA_START = "<![CDATA[".getBytes(StandardCharsets.UTF_8); //$NON-NLS-1$
+
+    private static final byte[] CDATA_END = "]]>".getBytes(StandardCharsets.UTF_8); //$NON-NLS-1$
+
+    private static final byte[] END_TAG_START = "</".getBytes(StandardCharsets.UTF_8); //$NON-NLS-1$
+
+    private static final byte[] TAG_END = ">".getBytes(StandardCharsets.UTF_8); //$NON-NLS-1$
+}
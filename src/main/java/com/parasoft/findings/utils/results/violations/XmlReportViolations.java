@@ -1,42 +1,111 @@
 package com.parasoft.findings.utils.results.violations;
 
 import com.parasoft.findings.utils.results.xml.RulesImportHandler;
+import com.parasoft.findings.utils.results.xml.ViolationsSpillFile;
 import com.parasoft.findings.utils.results.xml.XmlReportReader;
 import com.parasoft.findings.utils.common.util.IOUtils;
-import com.parasoft.findings.utils.common.util.XMLUtil;
 import org.xml.sax.SAXException;
 
 import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.parsers.SAXParser;
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 
-public class XmlReportViolations implements Iterator<IViolation> {
+public class XmlReportViolations implements Iterator<IViolation>, Closeable {
 
     private XmlReportReader _reportReader = null;
 
+    private RulesImportHandler _rulesImportHandler = null;
+
     private Iterator<IViolation> _violationsIter;
 
+    private ViolationsSpillFile _spillFile = null;
+
     protected XmlReportViolations(URL reportURL, XmlReportReader reportReader) {
         _reportReader = reportReader;
+        boolean bParsed = parse(reportURL, _reportReader);
+        _spillFile = _reportReader.getSpillFile();
+        if (!bParsed) {
+            close();
+        } else if (_spillFile == null) {
+            _violationsIter = _reportReader.getImportedViolations().iterator();
+        } else {
+            try {
+                _violationsIter = new SpilledViolationsIterator(_spillFile.iterator(),
+                        _reportReader.getImportedViolations().iterator());
+            } catch (IOException e) {
+                Logger.getLogger().error(e);
+                close();
+            }
+        }
+    }
+
+    /**
+     * Constructor for subclasses which deliver violations on their own.
+     *
+     * @param reportReader the reader used to import the report
+     * @pre reportReader != null
+     */
+    protected XmlReportViolations(XmlReportReader reportReader) {
+        _reportReader = reportReader;
+    }
+
+    /**
+     * Constructor for violations restored without parsing the report.
+     *
+     * @param violations         the restored violations
+     * @param rulesImportHandler the rules of the report
+     * @pre violations != null
+     * @pre rulesImportHandler != null
+     * @see ReportCache
+     */
+    XmlReportViolations(List<IViolation> violations, RulesImportHandler rulesImportHandler) {
+        _rulesImportHandler = rulesImportHandler;
+        _violationsIter = violations.iterator();
+    }
+
+    /**
+     * Parses the report with given reader.
+     *
+     * @param reportURL    the report to parse
+     * @param reportReader the reader receiving parsed data
+     * @return <code>true</code> if the report was parsed, <code>false</code> on failure
+     */
+    static boolean parse(URL reportURL, XmlReportReader reportReader) {
         InputStream is = null;
         try {
             is = reportURL.openStream();
-            SAXParser parser = XMLUtil.createSAXParser();
-            parser.parse(is, _reportReader);
-            _violationsIter = _reportReader.getImportedViolations().iterator();
+            reportReader.parse(is);
+            return true;
         } catch (ParserConfigurationException | SAXException | IOException ex) {
             Logger.getLogger().error(ex);
         } finally {
             IOUtils.close(is);
         }
+        return false;
+    }
+
+    protected XmlReportReader getReportReader() {
+        return _reportReader;
     }
 
     public RulesImportHandler getRulesImportHandler() {
-        return _reportReader.getRulesImportHandler();
+        return (_rulesImportHandler != null) ? _rulesImportHandler : _reportReader.getRulesImportHandler();
+    }
+
+    /**
+     * @return all violations parsed from the report or <code>null</code> if the report was not parsed
+     * or some violations were moved out of memory
+     */
+    List<IViolation> getParsedViolations() {
+        if ((_violationsIter == null) || (_reportReader == null) || (_spillFile != null)) {
+            return null;
+        }
+        return _reportReader.getImportedViolations();
     }
 
     @Override
@@ -57,4 +126,49 @@ public class XmlReportViolations implements Iterator<IViolation> {
     public void remove() {
         throw new UnsupportedOperationException();
     }
+
+    /**
+     * Releases resources held by this iterator. Violations which were not yet
+     * read are no longer available after this call.
+     */
+    @Override
+    public void close() {
+        _violationsIter = null;
+        if (_spillFile != null) {
+            _spillFile.close();
+            _spillFile = null;
+        }
+    }
+
+    /**
+     * Iterates over violations moved out of memory during import followed by violations kept in memory.
+     */
+    private static final class SpilledViolationsIterator
+            implements Iterator<IViolation> {
+        private Iterator<IViolation> _current;
+
+        private Iterator<IViolation> _remaining;
+
+        SpilledViolationsIterator(Iterator<IViolation> spilledViolations, Iterator<IViolation> retainedViolations) {
+            _current = spilledViolations;
+            _remaining = retainedViolations;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!_current.hasNext() && (_remaining != null)) {
+                _current = _remaining;
+                _remaining = null;
+            }
+            return _current.hasNext();
+        }
+
+        @Override
+        public IViolation next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return _current.next();
+        }
+    }
 }
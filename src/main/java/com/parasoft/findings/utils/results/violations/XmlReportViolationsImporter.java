@@ -17,22 +17,45 @@
 package com.parasoft.findings.utils.results.violations;
 
 import com.parasoft.findings.utils.results.testableinput.FindingsLocationMatcher;
+import com.parasoft.findings.utils.results.testableinput.ITestableInputCache;
 import com.parasoft.findings.utils.results.testableinput.ITestableInputLocationMatcher;
+import com.parasoft.findings.utils.results.xml.RulesImportHandler;
 import com.parasoft.findings.utils.results.xml.XmlReportReader;
 import com.parasoft.findings.utils.results.xml.FileImportPreferences;
+import com.parasoft.findings.utils.results.xml.IViolationFilter;
+import com.parasoft.findings.utils.results.xml.ViolationFilters;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.ForkJoinPool;
 
 public final class XmlReportViolationsImporter {
     private final Properties _properties;
 
+    private final ITestableInputCache _inputsCache;
+
     /**
      * Just to prevent doing instances.
      **/
     public XmlReportViolationsImporter(Properties properties) {
+        this(properties, null);
+    }
+
+    /**
+     * @param properties  the import properties
+     * @param inputsCache the cache of testable inputs resolved from report paths, shared by all imports
+     *                    of this importer, or <code>null</code> to resolve inputs separately for each import
+     */
+    public XmlReportViolationsImporter(Properties properties, ITestableInputCache inputsCache) {
         _properties = properties;
+        _inputsCache = inputsCache;
     }
 
     /**
@@ -47,12 +70,268 @@ public final class XmlReportViolationsImporter {
             return null;
         }
         logProperties();
+        ReportCache cache = createCache();
+        if (cache == null) {
+            return importReport(file);
+        }
+        ReportCache.Key key = cache.createKey(file);
+        if (key == null) {
+            return importReport(file);
+        }
+        XmlReportViolations cachedViolations = cache.get(key);
+        if (cachedViolations != null) {
+            return cachedViolations;
+        }
+        XmlReportViolations violations = importReport(file);
+        List<IViolation> parsedViolations = (violations != null) ? violations.getParsedViolations() : null;
+        if (parsedViolations != null) {
+            cache.put(key, file, parsedViolations, violations.getRulesImportHandler());
+        }
+        return violations;
+    }
 
-        FileImportPreferences prefs = new FileImportPreferences(file);
-        ITestableInputLocationMatcher matcher = new FindingsLocationMatcher();
+    /**
+     * Imports results from given existing xml file, using import state not shared with other imports.
+     *
+     * @param file source xml file
+     * @return import result or null if import cannot be performed.
+     */
+    XmlReportViolations importReport(File file) {
+        FileImportPreferences prefs = createPreferences(file);
+        ITestableInputLocationMatcher matcher = createLocationMatcher();
         return importViolations(prefs, matcher);
     }
 
+    /**
+     * Imports results from given xml file passing violations to the collector as they are parsed.
+     * Violations are not accumulated, so the memory used does not depend on the size of report.
+     *
+     * @param file      source xml file
+     * @param collector the collector of violations
+     * @param batchSize the maximum number of violations passed to the collector at once
+     * @return the rules of imported report or null if import cannot be performed.
+     * @pre collector != null
+     * @pre batchSize > 0
+     */
+    public RulesImportHandler performImport(File file, XmlReportReader.IImportResultCollector collector, int batchSize) {
+        if (!file.exists()) {
+            Logger.getLogger().warn("Report file is not existing: " + file.getAbsolutePath()); //$NON-NLS-1$
+            return null;
+        }
+        logProperties();
+
+        FileImportPreferences prefs = createPreferences(file);
+        URL reportURL = prefs.getReportURL();
+        if (reportURL == null) {
+            Logger.getLogger().warn("No report url in preferences."); //$NON-NLS-1$
+            return null;
+        }
+        XmlReportReader reader = new XmlReportReader(prefs, createLocationMatcher(), collector, batchSize);
+        if (!XmlReportViolations.parse(reportURL, reader)) {
+            return null;
+        }
+        return reader.getRulesImportHandler();
+    }
+
+    /**
+     * Imports results from given xml file into an index answering lookups of violations
+     * by rule, analyzer, file, severity and category.
+     *
+     * @param file source xml file
+     * @return the index of imported violations or null if import cannot be performed.
+     * @see ViolationsQueryIndex
+     */
+    public ViolationsQueryIndex performQueryImport(File file) {
+        ViolationsQueryIndex index = new ViolationsQueryIndex();
+        RulesImportHandler rules = performImport(file, index, QUERY_IMPORT_BATCH_SIZE);
+        if (rules == null) {
+            return null;
+        }
+        index.setRulesImportHandler(rules);
+        index.trimToSize();
+        return index;
+    }
+
+    /**
+     * Imports results from given xml file in streaming mode. The report is parsed
+     * while the returned iterator is consumed, so only a small number of violations
+     * is held in memory at a time.
+     *
+     * @param file source xml file
+     * @return import result or null if import cannot be performed.
+     * @see StreamingXmlReportViolations
+     */
+    public XmlReportViolations performStreamingImport(File file) {
+        return performStreamingImport(file, DEFAULT_STREAMING_CAPACITY);
+    }
+
+    /**
+     * Imports results from given xml file in streaming mode.
+     *
+     * @param file     source xml file
+     * @param capacity the maximum number of parsed violations waiting for the consumer
+     * @return import result or null if import cannot be performed.
+     * @pre capacity > 0
+     */
+    public XmlReportViolations performStreamingImport(File file, int capacity) {
+        if (!file.exists()) {
+            Logger.getLogger().warn("Report file is not existing: " + file.getAbsolutePath()); //$NON-NLS-1$
+            return null;
+        }
+        logProperties();
+
+        FileImportPreferences prefs = createPreferences(file);
+        URL reportURL = prefs.getReportURL();
+        if (reportURL == null) {
+            Logger.getLogger().warn("No report url in preferences."); //$NON-NLS-1$
+            return null;
+        }
+        return new StreamingXmlReportViolations(reportURL, prefs, createLocationMatcher(), capacity);
+    }
+
+    /**
+     * Imports results from given xml file sorted in order of given comparator. The report is
+     * imported in streaming mode and violations exceeding the budget set with {@link #MEMORY_BUDGET_KEY}
+     * are sorted in temporary files, so the whole report does not need to fit in memory.
+     *
+     * @param file       source xml file
+     * @param comparator the comparator defining order of violations
+     * @return sorted import result or null if import cannot be performed.
+     * @pre comparator != null
+     * @see SortedXmlReportViolations
+     * @see ViolationComparators
+     */
+    public XmlReportViolations performSortedImport(File file, Comparator<? super IViolation> comparator) {
+        XmlReportViolations violations = performStreamingImport(file);
+        if (violations == null) {
+            return null;
+        }
+        try {
+            return new SortedXmlReportViolations(violations, comparator, getMemoryBudget());
+        } catch (IOException e) {
+            Logger.getLogger().error(e);
+            return null;
+        }
+    }
+
+    /**
+     * Memory maps given xml file and indexes its violations, so they can be read on demand
+     * without parsing the whole report.
+     *
+     * @param file source xml file
+     * @return the index of violations or null if the report cannot be indexed.
+     * @see XmlReportIndex
+     */
+    public XmlReportIndex performIndexedImport(File file) {
+        if (!file.isFile()) {
+            Logger.getLogger().warn("Report file is not existing: " + file.getAbsolutePath()); //$NON-NLS-1$
+            return null;
+        }
+        logProperties();
+
+        FileImportPreferences prefs = createPreferences(file);
+        XmlReportReader reader = new XmlReportReader(prefs, createLocationMatcher());
+        try {
+            return XmlReportIndex.create(file, reader);
+        } catch (IOException e) {
+            Logger.getLogger().error(e);
+            return null;
+        }
+    }
+
+    /**
+     * Imports results from given xml file in two phases: versions, locations and rules are read
+     * first together with offsets of violation elements, then chunks of violation elements are
+     * parsed concurrently in the common fork-join pool.
+     *
+     * @param file source xml file
+     * @return import result or null if import cannot be performed.
+     * @see XmlReportIndex#readViolations(ForkJoinPool)
+     */
+    public XmlReportViolations performParallelImport(File file) {
+        return performParallelImport(file, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Imports results from given xml file in two phases, parsing chunks of violation elements
+     * concurrently in given pool.
+     *
+     * @param file source xml file
+     * @param pool the pool parsing chunks of violation elements
+     * @return import result or null if import cannot be performed.
+     * @pre pool != null
+     */
+    public XmlReportViolations performParallelImport(File file, ForkJoinPool pool) {
+        XmlReportIndex index = performIndexedImport(file);
+        if (index == null) {
+            return null;
+        }
+        try {
+            List<IViolation> violations = index.readViolations(pool);
+            if (violations == null) {
+                return null;
+            }
+            return new XmlReportViolations(violations, index.getRulesImportHandler());
+        } finally {
+            index.close();
+        }
+    }
+
+    /**
+     * Compares results of given xml file to results of previous report, so only changed violations
+     * need to be processed. Both reports are imported in streaming mode, the previous one twice:
+     * first to index its violations and then to collect the fixed and moved ones. Only the attributes
+     * used for matching of previous violations and the new or moved current violations are kept in memory.
+     *
+     * @param previousFile previous source xml file
+     * @param file         current source xml file
+     * @return the difference between the reports or null if import cannot be performed.
+     * @see ViolationsDelta
+     */
+    public ViolationsDelta performDeltaImport(File previousFile, File file) {
+        try {
+            return computeDelta(previousFile, file);
+        } catch (UncheckedIOException e) {
+            Logger.getLogger().error(e.getCause());
+            return null;
+        }
+    }
+
+    private ViolationsDelta computeDelta(File previousFile, File file) {
+        XmlReportViolations previousViolations = performStreamingImport(previousFile);
+        if (previousViolations == null) {
+            return null;
+        }
+        ViolationsDelta.Matcher matcher;
+        try {
+            matcher = new ViolationsDelta.Matcher(previousViolations);
+        } finally {
+            previousViolations.close();
+        }
+        XmlReportViolations currentViolations = performStreamingImport(file);
+        if (currentViolations == null) {
+            return null;
+        }
+        try {
+            matcher.match(currentViolations);
+        } finally {
+            currentViolations.close();
+        }
+        previousViolations = performStreamingImport(previousFile);
+        if (previousViolations == null) {
+            return null;
+        }
+        try {
+            return matcher.getDelta(previousViolations);
+        } finally {
+            previousViolations.close();
+        }
+    }
+
+    private FindingsLocationMatcher createLocationMatcher() {
+        return (_inputsCache != null) ? new FindingsLocationMatcher(_inputsCache) : new FindingsLocationMatcher();
+    }
+
     private XmlReportViolations importViolations(FileImportPreferences preferences, ITestableInputLocationMatcher locationMatcher) {
         return importData(preferences, locationMatcher);
     }
@@ -65,10 +344,118 @@ public final class XmlReportViolationsImporter {
             return null;
         }
         XmlReportReader reader = new XmlReportReader(preferences, locationFinder);
+        reader.setMemoryBudget(getMemoryBudget());
         return new XmlReportViolations(reportURL, reader);
     }
 
-    private void logProperties() {
+    /**
+     * @return the memory budget of imported violations in bytes or <code>0</code> for no limit
+     */
+    private long getMemoryBudget() {
+        String sMemoryBudget = _properties.getProperty(MEMORY_BUDGET_KEY);
+        if ((sMemoryBudget == null) || sMemoryBudget.trim().isEmpty()) {
+            return 0L;
+        }
+        try {
+            return Math.max(0L, Long.parseLong(sMemoryBudget.trim())) * 1024L * 1024L;
+        } catch (NumberFormatException e) {
+            Logger.getLogger().warn("Invalid value of " + MEMORY_BUDGET_KEY + ": " + sMemoryBudget); //$NON-NLS-1$ //$NON-NLS-2$
+            return 0L;
+        }
+    }
+
+    /**
+     * @return the cache of imported reports or <code>null</code> if caching is not enabled
+     */
+    private ReportCache createCache() {
+        String sCacheDir = _properties.getProperty(CACHE_DIR_KEY);
+        if ((sCacheDir == null) || sCacheDir.trim().isEmpty()) {
+            return null;
+        }
+        if ((createViolationFilter() != null) || (getListProperty(RESULT_TYPES_KEY) != null)) {
+            // cache entries are keyed by report content only, filtered imports would be mixed up
+            return null;
+        }
+        long maxSize = DEFAULT_CACHE_MAX_SIZE;
+        String sMaxSize = _properties.getProperty(CACHE_MAX_SIZE_KEY);
+        if (sMaxSize != null) {
+            try {
+                maxSize = Long.parseLong(sMaxSize.trim());
+            } catch (NumberFormatException e) {
+                Logger.getLogger().warn("Invalid value of " + CACHE_MAX_SIZE_KEY + ": " + sMaxSize); //$NON-NLS-1$ //$NON-NLS-2$
+            }
+        }
+        return new ReportCache(new File(sCacheDir.trim()), maxSize);
+    }
+
+    private FileImportPreferences createPreferences(File file) {
+        FileImportPreferences prefs = new FileImportPreferences(file);
+        prefs.setStaxParserEnabled(Boolean.parseBoolean(_properties.getProperty(STAX_PARSER_ENABLED_KEY)));
+        prefs.setLazyPathElementsEnabled(Boolean.parseBoolean(_properties.getProperty(LAZY_PATH_ELEMENTS_ENABLED_KEY)));
+        prefs.setPathElementsSharingEnabled(Boolean.parseBoolean(_properties.getProperty(PATH_ELEMENTS_SHARING_ENABLED_KEY)));
+        prefs.setViolationFilter(createViolationFilter());
+        String[] resultTypes = getListProperty(RESULT_TYPES_KEY);
+        if (resultTypes != null) {
+            prefs.setResultTypes(Arrays.asList(resultTypes));
+        }
+        return prefs;
+    }
+
+    /**
+     * @return the filter combining all filter properties or <code>null</code> if none is set
+     */
+    private IViolationFilter createViolationFilter() {
+        List<IViolationFilter> filters = new ArrayList<IViolationFilter>();
+        String[] ruleIds = getListProperty(FILTER_RULES_KEY);
+        if (ruleIds != null) {
+            filters.add(ViolationFilters.byRuleIds(ruleIds));
+        }
+        String[] severities = getListProperty(FILTER_SEVERITIES_KEY);
+        if (severities != null) {
+            int[] aSeverities = new int[severities.length];
+            for (int i = 0; i < severities.length; i++) {
+                try {
+                    aSeverities[i] = Integer.parseInt(severities[i]);
+                } catch (NumberFormatException e) {
+                    Logger.getLogger().warn("Invalid severity in " + FILTER_SEVERITIES_KEY + ": " + severities[i]); //$NON-NLS-1$ //$NON-NLS-2$
+                    aSeverities[i] = ViolationRuleUtil.INVALID_SEVERITY;
+                }
+            }
+            filters.add(ViolationFilters.bySeverities(aSeverities));
+        }
+        String[] analyzerIds = getListProperty(FILTER_ANALYZERS_KEY);
+        if (analyzerIds != null) {
+            filters.add(ViolationFilters.byAnalyzerIds(analyzerIds));
+        }
+        String[] pathPrefixes = getListProperty(FILTER_PATHS_KEY);
+        if (pathPrefixes != null) {
+            filters.add(ViolationFilters.byPathPrefixes(pathPrefixes));
+        }
+        if (filters.isEmpty()) {
+            return null;
+        }
+        return (filters.size() == 1) ? filters.get(0) : ViolationFilters.and(filters.toArray(new IViolationFilter[0]));
+    }
+
+    /**
+     * @return trimmed non-empty items of comma separated property or <code>null</code> if there are none
+     */
+    private String[] getListProperty(String sKey) {
+        String sValue = _properties.getProperty(sKey);
+        if (sValue == null) {
+            return null;
+        }
+        List<String> items = new ArrayList<String>();
+        for (String sItem : sValue.split(",")) { //$NON-NLS-1$
+            String sTrimmed = sItem.trim();
+            if (!sTrimmed.isEmpty()) {
+                items.add(sTrimmed);
+            }
+        }
+        return items.isEmpty() ? null : items.toArray(new String[0]);
+    }
+
+    void logProperties() {
         Properties result = new Properties();
         for (Object sKey : _properties.keySet()) {
             String sKeyString = String.valueOf(sKey);
@@ -95,4 +482,79 @@ public final class XmlReportViolationsImporter {
         return (key != null) &&
                 (key.endsWith(".password") || key.endsWith(".secret") || key.endsWith(".proxyPassword"));
     }
+
+    /**
+     * The property enabling StAX based reading of reports, see {@link com.parasoft.findings.utils.results.xml.XmlReportStaxReader}.
+     * SAX parser is used by default.
+     */
+    public static final String STAX_PARSER_ENABLED_KEY = "report.import.stax.enabled"; //$NON-NLS-1$
+
+    /**
+     * The property enabling creation of flow analysis path elements on first access of
+     * {@link FlowAnalysisViolation#getPathElements()}. Path elements are created during import by default.
+     */
+    public static final String LAZY_PATH_ELEMENTS_ENABLED_KEY = "report.import.lazy.path.elements.enabled"; //$NON-NLS-1$
+
+    /**
+     * The property enabling sharing of identical flow analysis path elements by all violations of a report,
+     * see {@link FlowAnalysisPathElementInterner}. The table of shared elements is kept for the whole import,
+     * so it is not recommended for streaming imports. Path elements are not shared by default.
+     */
+    public static final String PATH_ELEMENTS_SHARING_ENABLED_KEY = "report.import.path.elements.sharing.enabled"; //$NON-NLS-1$
+
+    /**
+     * The property enabling on-disk cache of imported reports, the value is the cache directory.
+     * Cached violations are returned by {@link #performImport(File)} while the report content is unchanged.
+     */
+    public static final String CACHE_DIR_KEY = "report.import.cache.dir"; //$NON-NLS-1$
+
+    /**
+     * The property defining the maximum total size in bytes of entries kept in the cache,
+     * least recently used entries are removed first.
+     */
+    public static final String CACHE_MAX_SIZE_KEY = "report.import.cache.max.size"; //$NON-NLS-1$
+
+    /**
+     * The property limiting memory used by violations imported with {@link #performImport(File)}, in megabytes.
+     * Violations exceeding the budget are moved to a temporary file and read back while iterating.
+     * It also limits violations sorted in memory by {@link #performSortedImport(File, Comparator)}.
+     * There is no limit by default.
+     */
+    public static final String MEMORY_BUDGET_KEY = "report.import.memory.budget.mb"; //$NON-NLS-1$
+
+    /**
+     * The property limiting imported violations to these of given rules, the value is comma separated list of rule ids.
+     * Filter properties are combined, only violations accepted by all set filters are imported.
+     */
+    public static final String FILTER_RULES_KEY = "report.import.filter.rules"; //$NON-NLS-1$
+
+    /**
+     * The property limiting imported violations to these with given severities, the value is comma separated list
+     * of severities from <code>1</code> (highest) to <code>5</code> (lowest).
+     */
+    public static final String FILTER_SEVERITIES_KEY = "report.import.filter.severities"; //$NON-NLS-1$
+
+    /**
+     * The property limiting imported violations to these of given analyzers, the value is comma separated list of analyzer ids.
+     */
+    public static final String FILTER_ANALYZERS_KEY = "report.import.filter.analyzers"; //$NON-NLS-1$
+
+    /**
+     * The property limiting imported violations to these located in given paths, the value is comma separated
+     * list of path prefixes, see {@link ViolationFilters#byPathPrefixes(String...)}.
+     */
+    public static final String FILTER_PATHS_KEY = "report.import.filter.paths"; //$NON-NLS-1$
+
+    /**
+     * The property limiting imported violations to given result types, the value is comma separated list of
+     * identifiers from {@link com.parasoft.findings.utils.results.xml.factory.IResultsIdentifiersConstants}.
+     * Report content of other result types is skipped while parsing.
+     */
+    public static final String RESULT_TYPES_KEY = "report.import.result.types"; //$NON-NLS-1$
+
+    private static final int DEFAULT_STREAMING_CAPACITY = 256;
+
+    private static final int QUERY_IMPORT_BATCH_SIZE = 256;
+
+    private static final long DEFAULT_CACHE_MAX_SIZE = 256L * 1024L * 1024L;
 }
@@ -37,7 +37,7 @@ public abstract class AbstractResultReader
     /**
      * the contents of the currently processed list
      */
-    private List<HashMap<String, String>> _processedList = null;
+    private List<Map<String, String>> _processedList = null;
 
     /**
      * current violation element descriptor
@@ -52,7 +52,7 @@ public abstract class AbstractResultReader
     /**
      * the current properties
      */
-    private LinkedHashMap<String, String> _curProperties = null;
+    private Map<String, String> _curProperties = null;
 
     /**
      * the current annotations
@@ -61,12 +61,39 @@ public abstract class AbstractResultReader
 
     private final Map<String, Object> _resultData = new HashMap<String, Object>();
 
+    /**
+     * the map to read attributes of result into, <code>null</code> to create a new one
+     */
+    private CompactAttributeMap _pooledAttributes = null;
+
+    /**
+     * whether the list of violation element descriptors should be recorded instead of read
+     */
+    private boolean _bDeferredDescriptors = false;
+
+    /**
+     * the recorded list of violation element descriptors
+     */
+    private RecordedElements _recordedDescriptors = null;
+
+    /**
+     * the depth of currently recorded element, <code>0</code> when not recording
+     */
+    private int _recordingDepth = 0;
+
     @Override
     @SuppressWarnings("unchecked")
     public void startElement(String sUri, String sLocalName, String sQName, Attributes attributes)
             throws SAXException {
-        if (sQName.equals(_sProcessedListName)) {
-            HashMap<String, String> map = new HashMap<String, String>();
+        if (_recordingDepth > 0) {
+            _recordedDescriptors.startElement(sQName, attributes);
+            _recordingDepth++;
+        } else if (_bDeferredDescriptors && _descriptorDataStack.isEmpty() && isDescriptorsListTag(sQName)) {
+            _recordedDescriptors = new RecordedElements();
+            _recordedDescriptors.startElement(sQName, attributes);
+            _recordingDepth = 1;
+        } else if (sQName.equals(_sProcessedListName)) {
+            Map<String, String> map = new CompactAttributeMap(attributes.getLength());
             XMLUtil.processAttributesToMap(attributes, map);
 
             if (_processedList == null) {
@@ -75,23 +102,23 @@ public abstract class AbstractResultReader
 
             _processedList.add(map);
         } else if (sQName.endsWith(IXmlTagsAndAttributes.LIST_POSTFIX)) { // begin list reading
-            if (sQName.startsWith(IXmlTagsAndAttributes.VIOLATION_ELEMENT_DESC_V2_TAG)) {
+            if (isDescriptorsListTag(sQName)) {
                 _violElemDescStack.addLast(new ArrayList<IPathElement>());
             } else {
                 if (_sProcessedListName != null) {
                     throw new SAXException("Invalid structure - nested list detected!"); //$NON-NLS-1$
                 }
                 _sProcessedListName = sQName.substring(0, (sQName.length() - IXmlTagsAndAttributes.LIST_POSTFIX.length()));
-                _processedList = new ArrayList<HashMap<String, String>>();
+                _processedList = new ArrayList<Map<String, String>>();
             }
         } else if (IXmlTagsAndAttributes.VIOLATION_ELEMENT_DESC_V2_TAG.equals(sQName)) {
             Map<String, Object> descriptorData = new HashMap<String, Object>();
-            Map<String, String> descriptorAttributes = new HashMap<String, String>();
+            Map<String, String> descriptorAttributes = new CompactAttributeMap(attributes.getLength());
             XMLUtil.processAttributesToMap(attributes, descriptorAttributes);
             descriptorData.put(_ATTRIBUTES_KEY, descriptorAttributes);
             _descriptorDataStack.addLast(descriptorData);
         } else if (IXmlTagsAndAttributes.PROPERTIES_V2_TAG.equals(sQName)) {
-            _curProperties = new LinkedHashMap<String, String>();
+            _curProperties = new CompactAttributeMap();
         } else if (IXmlTagsAndAttributes.PROPERTY_V2_TAG.equals(sQName)) {
             if (_curProperties == null) {
                 throw new SAXException(
@@ -121,7 +148,7 @@ public abstract class AbstractResultReader
         } else {
             Map<String, String> resultAttributes = (Map<String, String>) _resultData.get(_ATTRIBUTES_KEY);
             if (resultAttributes == null) {
-                resultAttributes = new HashMap<String, String>();
+                resultAttributes = (_pooledAttributes != null) ? _pooledAttributes : new CompactAttributeMap();
                 _resultData.put(_ATTRIBUTES_KEY, resultAttributes);
             }
             XMLUtil.processAttributesToMap(attributes, resultAttributes);
@@ -132,9 +159,15 @@ public abstract class AbstractResultReader
     @SuppressWarnings("unchecked")
     public void endElement(String uri, String localName, String sQName)
             throws SAXException {
-        if (sQName.equals(_sProcessedListName)) { // list element end - do nothing
+        if (_recordingDepth > 0) {
+            _recordedDescriptors.endElement(sQName);
+            _recordingDepth--;
+            if (_recordingDepth == 0) {
+                _recordedDescriptors.trimToSize();
+            }
+        } else if (sQName.equals(_sProcessedListName)) { // list element end - do nothing
             // do nothing
-        } else if (sQName.endsWith(IXmlTagsAndAttributes.LIST_POSTFIX) && sQName.startsWith(IXmlTagsAndAttributes.VIOLATION_ELEMENT_DESC_V2_TAG)) {
+        } else if (isDescriptorsListTag(sQName)) {
             List<IPathElement> descriptors = _violElemDescStack.removeLast();
             Map<String, Object> attributes = getCurrentData();
             attributes.put(IXmlTagsAndAttributes.VIOLATION_ELEMENT_DESC_V2_TAG, descriptors);
@@ -181,6 +214,7 @@ public abstract class AbstractResultReader
                 List<IPathElement> children = (List<IPathElement>) descriptorData.get(IXmlTagsAndAttributes.VIOLATION_ELEMENT_DESC_V2_TAG);
                 List<PathElementAnnotation> annotations = (List<PathElementAnnotation>) descriptorData.get(IXmlTagsAndAttributes.ANNOTATIONS_TAG);
                 IPathElement curDesc = createViolElemDesc(location, sSourcelessElemDesc, children, descriptorAttributes, annotations);
+                ((CompactAttributeMap) descriptorAttributes).trimToSize();
                 if (curDesc != null) {
                     List<IPathElement> descriptors = _violElemDescStack.getLast();
                     descriptors.add(curDesc);
@@ -296,6 +330,18 @@ public abstract class AbstractResultReader
         _locationsReader = locationsReader;
     }
 
+    /**
+     * Sets the map to read attributes of result into, instead of allocating a new map.
+     * The map is cleared and may be reused by the caller once the result is created, so
+     * it must not be retained by created result.
+     *
+     * @param attributes the map to reuse
+     */
+    public void setPooledAttributes(CompactAttributeMap attributes) {
+        attributes.clear();
+        _pooledAttributes = attributes;
+    }
+
     protected IResultLocationsReader getLocationsReader() {
         return _locationsReader;
     }
@@ -305,6 +351,59 @@ public abstract class AbstractResultReader
         return (List<IPathElement>) _resultData.get(IXmlTagsAndAttributes.VIOLATION_ELEMENT_DESC_V2_TAG);
     }
 
+    /**
+     * Enables recording of the list of violation element descriptors, so it can be read
+     * later with {@link #readDescriptors(RecordedElements)}. Has no effect for readers
+     * which do not support deferred descriptors.
+     *
+     * @param bEnabled <code>true</code> to record descriptors instead of reading them
+     */
+    public void setDeferredDescriptors(boolean bEnabled) {
+        _bDeferredDescriptors = bEnabled && isDeferredDescriptorsSupported();
+    }
+
+    /**
+     * Tells if this reader creates results able to read recorded descriptors on demand.
+     *
+     * @return <code>false</code> by default
+     */
+    protected boolean isDeferredDescriptorsSupported() {
+        return false;
+    }
+
+    /**
+     * Returns the recorded list of violation element descriptors.
+     *
+     * @return the recorded descriptors or <code>null</code> if descriptors were not recorded
+     */
+    protected RecordedElements getRecordedDescriptors() {
+        return (_recordingDepth == 0) ? _recordedDescriptors : null;
+    }
+
+    /**
+     * Reads violation element descriptors from recorded elements.
+     * This reader should be a new one, not used to read any other data.
+     *
+     * @param recordedDescriptors the recorded list of descriptors
+     * @return read descriptors or <code>null</code> when reading failed
+     * @pre recordedDescriptors != null
+     */
+    protected List<IPathElement> readDescriptors(RecordedElements recordedDescriptors) {
+        _bDeferredDescriptors = false;
+        try {
+            recordedDescriptors.replay(this);
+        } catch (SAXException e) {
+            Logger.getLogger().warn(e);
+            return null;
+        }
+        return getDescriptors();
+    }
+
+    private static boolean isDescriptorsListTag(String sQName) {
+        return sQName.endsWith(IXmlTagsAndAttributes.LIST_POSTFIX)
+                && sQName.startsWith(IXmlTagsAndAttributes.VIOLATION_ELEMENT_DESC_V2_TAG);
+    }
+
     protected IPathElement createViolElemDesc(ResultLocation sourceLocation, String sSourcelessElemDesc,
                                               List<IPathElement> children, Map<String, String> attributesMap, List<PathElementAnnotation> annotations) {
         throw new UnsupportedOperationException("Illegal call."); //$NON-NLS-1$
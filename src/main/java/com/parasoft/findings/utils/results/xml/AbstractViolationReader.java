@@ -16,15 +16,20 @@
 
 package com.parasoft.findings.utils.results.xml;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
+import com.parasoft.findings.utils.common.util.StringTable;
 import com.parasoft.findings.utils.common.util.StringUtil;
 import com.parasoft.findings.utils.common.util.XMLUtil;
 import com.parasoft.findings.utils.results.location.IResultLocationsReader;
 import com.parasoft.findings.utils.results.testableinput.ITestableInput;
 import com.parasoft.findings.utils.results.testableinput.ITestableInputLocationMatcher;
 import com.parasoft.findings.utils.results.testableinput.PathInput;
+import com.parasoft.findings.utils.results.violations.FlowAnalysisPathElementInterner;
 import com.parasoft.findings.utils.results.violations.IResult;
 import com.parasoft.findings.utils.results.violations.IViolation;
 import com.parasoft.findings.utils.results.violations.ResultLocation;
@@ -49,6 +54,10 @@ public abstract class AbstractViolationReader
 
     private boolean _bLegacySupport = false;
 
+    private StringTable _stringTable = null;
+
+    private FlowAnalysisPathElementInterner _pathElementInterner = null;
+
     protected AbstractViolationReader(boolean bLegacySupport) {
         _bLegacySupport = bLegacySupport;
     }
@@ -78,6 +87,14 @@ public abstract class AbstractViolationReader
      */
     private IViolation createViolation() {
         final Map<String, String> map = getMap();
+        if (_stringTable != null) {
+            for (String sName : REPEATED_VALUE_ATTRIBUTES) {
+                String sValue = map.get(sName);
+                if (sValue != null) {
+                    map.put(sName, _stringTable.intern(sValue));
+                }
+            }
+        }
 
         // analyzer identifier
         _sAnalyzerId = readAnalyzerId();
@@ -152,7 +169,7 @@ public abstract class AbstractViolationReader
             String sComment = getString(IXmlTagsAndAttributes.REVISION_COMMENT_ATTR);
 
             violation.addAttribute(IXmlTagsAndAttributes.REVISION_ATTR, sRevision);
-            violation.addAttribute(IXmlTagsAndAttributes.REVISION_TIME_ATTR, String.valueOf(lRevisionTime));
+            violation.addAttribute(IXmlTagsAndAttributes.REVISION_TIME_ATTR, intern(String.valueOf(lRevisionTime)));
             if (sComment != null) {
                 violation.addAttribute(IXmlTagsAndAttributes.REVISION_COMMENT_ATTR, sComment);
             }
@@ -168,7 +185,7 @@ public abstract class AbstractViolationReader
         int testConfigId = getInt(IXmlTagsAndAttributes.TEST_CONFIG_ATTR, 0);
         if (testConfigId > 0) {
             violation.addAttribute(IXmlTagsAndAttributes.TEST_CONFIG_ATTR,
-                    Integer.toString(testConfigId));
+                    intern(Integer.toString(testConfigId)));
         }
 
         return violation;
@@ -182,6 +199,13 @@ public abstract class AbstractViolationReader
         return;
     }
 
+    /**
+     * @return <code>true</code> if this reader reads legacy format of violations
+     */
+    protected boolean isLegacySupport() {
+        return _bLegacySupport;
+    }
+
     protected String readLineHash() {
         return _bLegacySupport ? getString(IXmlTagsAndAttributes.LINE_HASH_V1_ATTR)
                 : getString(IXmlTagsAndAttributes.LINE_HASH_ATTR);
@@ -261,6 +285,48 @@ public abstract class AbstractViolationReader
         _rulesImportHandler = rulesImportHandler;
     }
 
+    /**
+     * Sets the table used to deduplicate values repeated across violations.
+     *
+     * @param stringTable the string table or <code>null</code> for none
+     */
+    public void setStringTable(StringTable stringTable) {
+        _stringTable = stringTable;
+    }
+
+    /**
+     * Sets the table used to share path elements repeated across violations.
+     *
+     * @param pathElementInterner the table of path elements or <code>null</code> for none
+     */
+    public void setPathElementInterner(FlowAnalysisPathElementInterner pathElementInterner) {
+        _pathElementInterner = pathElementInterner;
+    }
+
+    /**
+     * @return the table of path elements or <code>null</code> if path elements are not shared
+     */
+    protected FlowAnalysisPathElementInterner getPathElementInterner() {
+        return _pathElementInterner;
+    }
+
+    private String intern(String sValue) {
+        return (_stringTable != null) ? _stringTable.intern(sValue) : sValue;
+    }
+
+    /**
+     * Tells if the attribute of violation element is used to create the violation.
+     * Other attributes of violation element may be skipped without changing read violation.
+     * Readers reading additional attributes should override this method.
+     *
+     * @param sName the attribute name
+     * @return <code>true</code> if the attribute is read
+     * @pre sName != null
+     */
+    protected boolean isReadAttribute(String sName) {
+        return READ_ATTRIBUTES.contains(sName);
+    }
+
     /**
      * Returns the qualified name of the element tag.
      *
@@ -291,4 +357,47 @@ public abstract class AbstractViolationReader
         }
         return defaultValue;
     }
-}
\ No newline at end of file
+
+    private static final Set<String> READ_ATTRIBUTES = new HashSet<String>(Arrays.asList(
+            IXmlTagsAndAttributes.ANALYZER_ATTR,
+            IXmlTagsAndAttributes.TOOL_ATTR,
+            IXmlTagsAndAttributes.LANGUAGE_ATTR,
+            IXmlTagsAndAttributes.LOC_REF_ATTR,
+            IXmlTagsAndAttributes.LOCATION_ATTR_V2_PREFIX + IXmlTagsAndAttributes.FILE_TAG,
+            IXmlTagsAndAttributes.LOCATION_ATTR_V2_PREFIX + IXmlTagsAndAttributes.LOCATION_START_LINE_V2_POSTFIX,
+            IXmlTagsAndAttributes.LOCATION_ATTR_V2_PREFIX + IXmlTagsAndAttributes.LOCATION_START_POSITION_V2_POSTFIX,
+            IXmlTagsAndAttributes.LOCATION_ATTR_V2_PREFIX + IXmlTagsAndAttributes.LOCATION_END_LINE_V2_POSTFIX,
+            IXmlTagsAndAttributes.LOCATION_ATTR_V2_PREFIX + IXmlTagsAndAttributes.LOCATION_END_POSITION_V2_POSTFIX,
+            IXmlTagsAndAttributes.LINE_NUMBER_V2_ATTR,
+            IXmlTagsAndAttributes.RESOURCE_HASH_ATTR,
+            IXmlTagsAndAttributes.LINE_HASH_ATTR,
+            IXmlTagsAndAttributes.LINE_HASH_V1_ATTR,
+            IXmlTagsAndAttributes.AUTHOR_V2_ATTR,
+            IXmlTagsAndAttributes.RULE_ATTR,
+            IXmlTagsAndAttributes.RULE_HEADER_ATTR,
+            IXmlTagsAndAttributes.RULE_SUBCATEGORY_ATTR,
+            IXmlTagsAndAttributes.MESSAGE_V2_ATTR,
+            IXmlTagsAndAttributes.PACKAGE_ATTR,
+            IXmlTagsAndAttributes.REVISION_ATTR,
+            IXmlTagsAndAttributes.REVISION_TIME_ATTR,
+            IXmlTagsAndAttributes.REVISION_COMMENT_ATTR,
+            IXmlTagsAndAttributes.SUPPRESSED_ATTR,
+            IXmlTagsAndAttributes.SEVERITY_SHORT_ATTR,
+            IXmlTagsAndAttributes.TEST_CONFIG_ATTR));
+
+    /**
+     * attributes of violation element whose values usually repeat across violations
+     */
+    private static final String[] REPEATED_VALUE_ATTRIBUTES = new String[]{
+            IXmlTagsAndAttributes.ANALYZER_ATTR,
+            IXmlTagsAndAttributes.TOOL_ATTR,
+            IXmlTagsAndAttributes.LANGUAGE_ATTR,
+            IXmlTagsAndAttributes.AUTHOR_V2_ATTR,
+            IXmlTagsAndAttributes.RULE_ATTR,
+            IXmlTagsAndAttributes.RULE_HEADER_ATTR,
+            IXmlTagsAndAttributes.RULE_SUBCATEGORY_ATTR,
+            IXmlTagsAndAttributes.PACKAGE_ATTR,
+            IXmlTagsAndAttributes.REVISION_ATTR,
+            IXmlTagsAndAttributes.REVISION_COMMENT_ATTR
+    };
+}
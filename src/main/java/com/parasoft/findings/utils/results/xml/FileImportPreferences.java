@@ -19,10 +19,24 @@ package com.parasoft.findings.utils.results.xml;
 import java.io.File;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 
 public class FileImportPreferences {
     private final URL _url;
 
+    private boolean _bStaxParser = false;
+
+    private boolean _bLazyPathElements = false;
+
+    private boolean _bPathElementsSharing = false;
+
+    private IViolationFilter _violationFilter = null;
+
+    private Set<String> _resultTypes = null;
+
     public FileImportPreferences(URL url) {
         _url = url;
     }
@@ -43,4 +57,90 @@ public class FileImportPreferences {
         return _url;
     }
 
-}
\ No newline at end of file
+    /**
+     * @return <code>true</code> if report should be read with {@link XmlReportStaxReader}
+     * instead of SAX parser
+     */
+    public boolean isStaxParserEnabled() {
+        return _bStaxParser;
+    }
+
+    /**
+     * @param bEnabled <code>true</code> to read report with {@link XmlReportStaxReader}
+     */
+    public void setStaxParserEnabled(boolean bEnabled) {
+        _bStaxParser = bEnabled;
+    }
+
+    /**
+     * @return <code>true</code> if path elements of flow analysis violations should be created
+     * when they are accessed for the first time, instead of during import
+     */
+    public boolean isLazyPathElementsEnabled() {
+        return _bLazyPathElements;
+    }
+
+    /**
+     * @param bEnabled <code>true</code> to create path elements of flow analysis violations on first access
+     */
+    public void setLazyPathElementsEnabled(boolean bEnabled) {
+        _bLazyPathElements = bEnabled;
+    }
+
+    /**
+     * @return <code>true</code> if identical path elements of flow analysis violations should be
+     * shared by all violations of the report
+     */
+    public boolean isPathElementsSharingEnabled() {
+        return _bPathElementsSharing;
+    }
+
+    /**
+     * @param bEnabled <code>true</code> to share identical path elements of flow analysis violations
+     */
+    public void setPathElementsSharingEnabled(boolean bEnabled) {
+        _bPathElementsSharing = bEnabled;
+    }
+
+    /**
+     * @return the filter of read violations or <code>null</code> if all violations are read
+     */
+    public IViolationFilter getViolationFilter() {
+        return _violationFilter;
+    }
+
+    /**
+     * @param filter the filter evaluated on violation elements before violations are created,
+     *               <code>null</code> to read all violations
+     */
+    public void setViolationFilter(IViolationFilter filter) {
+        _violationFilter = filter;
+    }
+
+    /**
+     * @return the identifiers of read result types or <code>null</code> if all result types are read
+     */
+    public Set<String> getResultTypes() {
+        return _resultTypes;
+    }
+
+    /**
+     * Limits the read violations to given result types. Report elements of other result types are
+     * skipped without creating their readers, sections with no read result type are skipped entirely.
+     *
+     * @param resultTypes the identifiers from {@link com.parasoft.findings.utils.results.xml.factory.IResultsIdentifiersConstants},
+     *                    <code>null</code> to read all result types
+     */
+    public void setResultTypes(Collection<String> resultTypes) {
+        _resultTypes = (resultTypes != null) ? Collections.unmodifiableSet(new HashSet<String>(resultTypes)) : null;
+    }
+
+    /**
+     * @param sResultId the result type identifier
+     * @return <code>true</code> if violations of given result type should be read
+     */
+    public boolean isResultTypeEnabled(String sResultId) {
+        return (_resultTypes == null) || _resultTypes.contains(sResultId);
+    }
+
+}
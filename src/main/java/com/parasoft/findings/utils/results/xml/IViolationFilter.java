@@ -0,0 +1,44 @@
+/*
+ * Copyright 2023 Parasoft Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.parasoft.findings.utils.results.xml;
+
+import com.parasoft.findings.utils.results.testableinput.StoredLocation;
+import org.xml.sax.Attributes;
+
+/**
+ * Predicate deciding which violations are read from the report. It is evaluated on raw
+ * attributes of violation element, before the violation and its location are created,
+ * so rejected violations are skipped at almost no cost.
+ *
+ * @see ViolationFilters
+ * @see FileImportPreferences#setViolationFilter(IViolationFilter)
+ */
+public interface IViolationFilter {
+
+    /**
+     * @param sQName         the tag of violation element
+     * @param attributes     the attributes of violation element
+     * @param storedLocation the location referenced by violation element or <code>null</code>
+     *                       if the report has no stored locations
+     * @return <code>true</code> if the violation should be read
+     * @pre sQName != null
+     * @pre attributes != null
+     */
+    boolean accept(String sQName, Attributes attributes, StoredLocation storedLocation);
+
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2023 Parasoft Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.parasoft.findings.utils.results.xml;
+
+import java.util.Arrays;
+
+import org.xml.sax.Attributes;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.AttributesImpl;
+
+/**
+ * Compact record of start and end element events of a report fragment, which can be
+ * replayed later to a content handler.
+ * <p>
+ * Events are kept in flat arrays without per event objects: element names, offsets of
+ * attributes and attribute names with values.
+ */
+public final class RecordedElements {
+    /**
+     * qualified names of elements of consecutive events
+     */
+    private String[] _aNames = new String[INITIAL_CAPACITY];
+
+    /**
+     * offsets of the first attribute of start events in {@link #_aAttributes},
+     * {@link #END_EVENT} for end events
+     */
+    private int[] _aAttributesOffsets = new int[INITIAL_CAPACITY];
+
+    /**
+     * names and values of attributes of all start events
+     */
+    private String[] _aAttributes = new String[INITIAL_CAPACITY * 2];
+
+    private int _eventsCount = 0;
+
+    private int _attributesLength = 0;
+
+    RecordedElements() {
+    }
+
+    /**
+     * Records the start element event.
+     *
+     * @param sQName     the qualified name of the element
+     * @param attributes the attributes of the element, copied by this method
+     * @pre sQName != null
+     * @pre attributes != null
+     */
+    void startElement(String sQName, Attributes attributes) {
+        int length = attributes.getLength();
+        ensureAttributesCapacity(_attributesLength + (2 * length));
+        addEvent(sQName, _attributesLength);
+        for (int i = 0; i < length; i++) {
+            _aAttributes[_attributesLength++] = attributes.getQName(i);
+            _aAttributes[_attributesLength++] = attributes.getValue(i);
+        }
+    }
+
+    /**
+     * Records the end element event.
+     *
+     * @param sQName the qualified name of the element
+     * @pre sQName != null
+     */
+    void endElement(String sQName) {
+        addEvent(sQName, END_EVENT);
+    }
+
+    /**
+     * Reduces the memory used by the record when no more events are going to be added.
+     */
+    void trimToSize() {
+        _aNames = Arrays.copyOf(_aNames, _eventsCount);
+        _aAttributesOffsets = Arrays.copyOf(_aAttributesOffsets, _eventsCount);
+        _aAttributes = Arrays.copyOf(_aAttributes, _attributesLength);
+    }
+
+    /**
+     * Passes recorded events to the handler, in the order they were recorded.
+     *
+     * @param handler the handler to pass events to
+     * @throws SAXException if the handler fails
+     * @pre handler != null
+     */
+    public void replay(ContentHandler handler)
+            throws SAXException {
+        AttributesImpl attributes = new AttributesImpl();
+        for (int i = 0; i < _eventsCount; i++) {
+            String sQName = _aNames[i];
+            int offset = _aAttributesOffsets[i];
+            if (offset == END_EVENT) {
+                handler.endElement(EMPTY_STRING, sQName, sQName);
+                continue;
+            }
+            int end = getAttributesEnd(i);
+            attributes.clear();
+            for (int j = offset; j < end; j += 2) {
+                attributes.addAttribute(EMPTY_STRING, _aAttributes[j], _aAttributes[j], CDATA_TYPE, _aAttributes[j + 1]);
+            }
+            handler.startElement(EMPTY_STRING, sQName, sQName, attributes);
+        }
+    }
+
+    /**
+     * @return the number of recorded events
+     */
+    public int getEventsCount() {
+        return _eventsCount;
+    }
+
+    private int getAttributesEnd(int startEventIdx) {
+        for (int i = startEventIdx + 1; i < _eventsCount; i++) {
+            if (_aAttributesOffsets[i] != END_EVENT) {
+                return _aAttributesOffsets[i];
+            }
+        }
+        return _attributesLength;
+    }
+
+    private void addEvent(String sQName, int attributesOffset) {
+        if (_eventsCount == _aNames.length) {
+            int newCapacity = Math.max(INITIAL_CAPACITY, _eventsCount * 2);
+            _aNames = Arrays.copyOf(_aNames, newCapacity);
+            _aAttributesOffsets = Arrays.copyOf(_aAttributesOffsets, newCapacity);
+        }
+        _aNames[_eventsCount] = sQName;
+        _aAttributesOffsets[_eventsCount] = attributesOffset;
+        _eventsCount++;
+    }
+
+    private void ensureAttributesCapacity(int capacity) {
+        if (capacity > _aAttributes.length) {
+            _aAttributes = Arrays.copyOf(_aAttributes, Math.max(capacity, _aAttributes.length * 2));
+        }
+    }
+
+    private static final int END_EVENT = -1;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private static final String EMPTY_STRING = ""; //$NON-NLS-1$
+
+    private static final String CDATA_TYPE = "CDATA"; //$NON-NLS-1$
+}
@@ -16,6 +16,7 @@
 
 package com.parasoft.findings.utils.results.xml;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -25,12 +26,29 @@ import org.xml.sax.SAXException;
 import org.xml.sax.helpers.DefaultHandler;
 
 import com.parasoft.findings.utils.common.util.IntegerUtil;
+import com.parasoft.findings.utils.common.util.StringTable;
 
 public class RulesImportHandler {
     private final Map<String, RuleAttributes> _rulesMap = new HashMap<String, RuleAttributes>();
 
     private final Map<String, String> _categoriesMap = new HashMap<String, String>();
 
+    private final StringTable _stringTable;
+
+    /**
+     * Constructor.
+     */
+    public RulesImportHandler() {
+        this(null);
+    }
+
+    /**
+     * @param stringTable the table used to deduplicate values of read rules or <code>null</code> for none
+     */
+    public RulesImportHandler(StringTable stringTable) {
+        _stringTable = stringTable;
+    }
+
     public RuleAttributes getRuleAttributes(String ruleId) {
         return _rulesMap.get(ruleId);
     }
@@ -39,6 +57,20 @@ public class RulesImportHandler {
         return _categoriesMap.get(categoryId);
     }
 
+    /**
+     * @return unmodifiable view of all rules, keyed by rule id
+     */
+    public Map<String, RuleAttributes> getRules() {
+        return Collections.unmodifiableMap(_rulesMap);
+    }
+
+    /**
+     * @return unmodifiable view of all category descriptions, keyed by category id
+     */
+    public Map<String, String> getCategories() {
+        return Collections.unmodifiableMap(_categoriesMap);
+    }
+
     public void addRule(String ruleId, RuleAttributes ruleAttributes) {
         _rulesMap.put(ruleId, ruleAttributes);
     }
@@ -51,6 +83,10 @@ public class RulesImportHandler {
         return new RulesReader();
     }
 
+    private String intern(String sValue) {
+        return (_stringTable != null) ? _stringTable.intern(sValue) : sValue;
+    }
+
     private final class RulesReader
             extends DefaultHandler {
 
@@ -71,8 +107,8 @@ public class RulesImportHandler {
                     throw new SAXException(IResultSAXReader.ATTRIBUTE_MISSING);
                 }
 
-                RuleAttributes ruleAttributes = new RuleAttributes(category, description, "line");
-                addRule(ruleId, ruleAttributes);
+                RuleAttributes ruleAttributes = new RuleAttributes(intern(category), description, "line");
+                addRule(intern(ruleId), ruleAttributes);
             } else if (IXmlTagsAndAttributes.CATEGORIES_LIST_TAG.equals(qName)) {
                 // nothing to do
             } else if (IXmlTagsAndAttributes.RULES_CATEGORY_TAG.equals(qName)) {
@@ -82,7 +118,7 @@ public class RulesImportHandler {
                 if ((categoryId == null) || (categoryDesc == null)) {
                     throw new SAXException(IResultSAXReader.ATTRIBUTE_MISSING);
                 }
-                addCategory(categoryId, categoryDesc);
+                addCategory(intern(categoryId), intern(categoryDesc));
             } else if (IXmlTagsAndAttributes.SEVERITY_LIST_TAG.equals(qName)) {
                 // nothing to do
             } else if (IXmlTagsAndAttributes.SEVERITY_TAG.equals(qName)) {
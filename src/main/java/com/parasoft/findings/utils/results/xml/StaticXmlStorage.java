@@ -38,7 +38,7 @@ public class StaticXmlStorage {
     public IViolationsSAXReader getViolationsReader(ResultVersionsManager versionsManager, FileImportPreferences importPreferences) {
         List<IViolationXmlStorage> storagesList = new ArrayList<IViolationXmlStorage>();
         List<String> tagsList = new ArrayList<String>();
-        collectCompatibleStorages(versionsManager, tagsList, storagesList);
+        collectCompatibleStorages(versionsManager, importPreferences, tagsList, storagesList);
 
         if (storagesList.size() <= 0) {
             return null;
@@ -56,9 +56,12 @@ public class StaticXmlStorage {
         return new RuleViolationsReader(aStorages, aVersions, aLegacyVersions, aViolationTags, importPreferences);
     }
 
-    private void collectCompatibleStorages(ResultVersionsManager versionsManager,
+    private void collectCompatibleStorages(ResultVersionsManager versionsManager, FileImportPreferences importPreferences,
                                            List<String> tagsList, List<IViolationXmlStorage> storagesList) {
         for (IViolationXmlStorage _aViolationsStorage : _aViolationsStorages) {
+            if ((importPreferences != null) && !importPreferences.isResultTypeEnabled(_aViolationsStorage.getResultId())) {
+                continue;
+            }
             if (versionsManager.isCompatible(_aViolationsStorage)) {
                 storagesList.add(_aViolationsStorage);
                 int version = versionsManager.getVersion(_aViolationsStorage);
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2023 Parasoft Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.parasoft.findings.utils.results.xml;
+
+import com.parasoft.findings.utils.common.IStringConstants;
+import org.xml.sax.Attributes;
+
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * SAX attributes view of the attributes of current start element of StAX reader.
+ * Attribute values are not copied, so the view is valid only until the StAX reader moves
+ * to the next event.
+ */
+final class StaxAttributes
+        implements Attributes {
+    private final XMLStreamReader _reader;
+
+    /**
+     * indices of visible attributes, <code>null</code> if all attributes are visible
+     */
+    private int[] _aIndices = null;
+
+    private int _length = 0;
+
+    private int[] _aIndicesBuffer = new int[16];
+
+    StaxAttributes(XMLStreamReader reader) {
+        _reader = reader;
+    }
+
+    /**
+     * Makes visible all attributes of the current start element.
+     */
+    void reset() {
+        _aIndices = null;
+        _length = _reader.getAttributeCount();
+    }
+
+    /**
+     * Makes visible only these attributes of the current start element which are read by given reader.
+     *
+     * @param reader the reader of violation element
+     * @pre reader != null
+     */
+    void reset(AbstractViolationReader reader) {
+        int count = _reader.getAttributeCount();
+        if (_aIndicesBuffer.length < count) {
+            _aIndicesBuffer = new int[count];
+        }
+        _length = 0;
+        for (int i = 0; i < count; i++) {
+            if (reader.isReadAttribute(getQName(_reader.getAttributePrefix(i), _reader.getAttributeLocalName(i)))) {
+                _aIndicesBuffer[_length++] = i;
+            }
+        }
+        _aIndices = _aIndicesBuffer;
+    }
+
+    @Override
+    public int getLength() {
+        return _length;
+    }
+
+    @Override
+    public String getURI(int index) {
+        String sUri = _reader.getAttributeNamespace(toReaderIndex(index));
+        return (sUri == null) ? IStringConstants.EMPTY : sUri;
+    }
+
+    @Override
+    public String getLocalName(int index) {
+        return _reader.getAttributeLocalName(toReaderIndex(index));
+    }
+
+    @Override
+    public String getQName(int index) {
+        int readerIndex = toReaderIndex(index);
+        return getQName(_reader.getAttributePrefix(readerIndex), _reader.getAttributeLocalName(readerIndex));
+    }
+
+    @Override
+    public String getType(int index) {
+        return (index >= 0) && (index < _length) ? CDATA_TYPE : null;
+    }
+
+    @Override
+    public String getValue(int index) {
+        return _reader.getAttributeValue(toReaderIndex(index));
+    }
+
+    @Override
+    public int getIndex(String sUri, String sLocalName) {
+        for (int i = 0; i < _length; i++) {
+            if (sLocalName.equals(getLocalName(i)) && sUri.equals(getURI(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int getIndex(String sQName) {
+        for (int i = 0; i < _length; i++) {
+            if (sQName.equals(getQName(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public String getType(String sUri, String sLocalName) {
+        return getType(getIndex(sUri, sLocalName));
+    }
+
+    @Override
+    public String getType(String sQName) {
+        return getType(getIndex(sQName));
+    }
+
+    @Override
+    public String getValue(String sUri, String sLocalName) {
+        int index = getIndex(sUri, sLocalName);
+        return (index < 0) ? null : getValue(index);
+    }
+
+    @Override
+    public String getValue(String sQName) {
+        int index = getIndex(sQName);
+        return (index < 0) ? null : getValue(index);
+    }
+
+    private int toReaderIndex(int index) {
+        if ((index < 0) || (index >= _length)) {
+            throw new IndexOutOfBoundsException(String.valueOf(index));
+        }
+        return (_aIndices == null) ? index : _aIndices[index];
+    }
+
+    /**
+     * @param sPrefix    the prefix or <code>null</code>
+     * @param sLocalName the local name
+     * @return the qualified name
+     */
+    static String getQName(String sPrefix, String sLocalName) {
+        if ((sPrefix == null) || sPrefix.isEmpty()) {
+            return sLocalName;
+        }
+        return sPrefix + ':' + sLocalName;
+    }
+
+    private static final String CDATA_TYPE = "CDATA"; //$NON-NLS-1$
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2023 Parasoft Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.parasoft.findings.utils.results.xml;
+
+import com.parasoft.findings.utils.common.util.StringUtil;
+import com.parasoft.findings.utils.results.testableinput.IProjectTestableInput;
+import com.parasoft.findings.utils.results.testableinput.StoredLocation;
+import org.xml.sax.Attributes;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Factory of commonly used {@link IViolationFilter}s.
+ */
+public final class ViolationFilters {
+
+    private ViolationFilters() {
+        // just to prevent instances
+    }
+
+    /**
+     * @param ruleIds the accepted rule ids
+     * @return the filter accepting violations of given rules
+     */
+    public static IViolationFilter byRuleIds(String... ruleIds) {
+        final Set<String> acceptedRuleIds = new HashSet<String>(Arrays.asList(ruleIds));
+        return new IViolationFilter() {
+            @Override
+            public boolean accept(String sQName, Attributes attributes, StoredLocation storedLocation) {
+                return acceptedRuleIds.contains(attributes.getValue(IXmlTagsAndAttributes.RULE_ATTR));
+            }
+        };
+    }
+
+    /**
+     * @param analyzerIds the accepted analyzer ids
+     * @return the filter accepting violations reported by given analyzers
+     */
+    public static IViolationFilter byAnalyzerIds(String... analyzerIds) {
+        final Set<String> acceptedAnalyzerIds = new HashSet<String>(Arrays.asList(analyzerIds));
+        return new IViolationFilter() {
+            @Override
+            public boolean accept(String sQName, Attributes attributes, StoredLocation storedLocation) {
+                String sAnalyzerId = attributes.getValue(IXmlTagsAndAttributes.ANALYZER_ATTR);
+                if (sAnalyzerId == null) {
+                    sAnalyzerId = attributes.getValue(IXmlTagsAndAttributes.TOOL_ATTR);
+                }
+                return acceptedAnalyzerIds.contains(sAnalyzerId);
+            }
+        };
+    }
+
+    /**
+     * @param severities the accepted severities, see {@link com.parasoft.findings.utils.results.violations.ViolationRuleUtil}
+     * @return the filter accepting violations with given severities
+     */
+    public static IViolationFilter bySeverities(int... severities) {
+        final Set<String> acceptedSeverities = new HashSet<String>();
+        for (int severity : severities) {
+            acceptedSeverities.add(Integer.toString(severity));
+        }
+        return new IViolationFilter() {
+            @Override
+            public boolean accept(String sQName, Attributes attributes, StoredLocation storedLocation) {
+                String sSeverity = attributes.getValue(IXmlTagsAndAttributes.SEVERITY_SHORT_ATTR);
+                return (sSeverity != null) && acceptedSeverities.contains(sSeverity.trim());
+            }
+        };
+    }
+
+    /**
+     * Creates the filter of violations located in resources under given paths. The path of resource
+     * is its project path followed by project relative path, or its uri if there is no project information.
+     * For legacy reports the path stored in violation element is used.
+     *
+     * @param pathPrefixes the accepted path prefixes
+     * @return the filter accepting violations of resources with path starting with any of given prefixes
+     */
+    public static IViolationFilter byPathPrefixes(final String... pathPrefixes) {
+        return new IViolationFilter() {
+            @Override
+            public boolean accept(String sQName, Attributes attributes, StoredLocation storedLocation) {
+                String sPath = getPath(attributes, storedLocation);
+                if (sPath == null) {
+                    return false;
+                }
+                for (String sPrefix : pathPrefixes) {
+                    if (sPath.startsWith(sPrefix)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * @param filters the filters to combine
+     * @return the filter accepting violations accepted by all given filters
+     */
+    public static IViolationFilter and(final IViolationFilter... filters) {
+        return new IViolationFilter() {
+            @Override
+            public boolean accept(String sQName, Attributes attributes, StoredLocation storedLocation) {
+                for (IViolationFilter filter : filters) {
+                    if (!filter.accept(sQName, attributes, storedLocation)) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        };
+    }
+
+    private static String getPath(Attributes attributes, StoredLocation storedLocation) {
+        if (storedLocation == null) {
+            return attributes.getValue(IXmlTagsAndAttributes.LOCATION_ATTR_V2_PREFIX + IXmlTagsAndAttributes.FILE_TAG);
+        }
+        String sProjectPath = storedLocation.getProjectPath();
+        String sRelativePath = storedLocation.getResourceProjectPath();
+        if (StringUtil.isNonEmpty(sProjectPath) && StringUtil.isNonEmpty(sRelativePath)) {
+            return sProjectPath + IProjectTestableInput.PATH_SEPARATOR + sRelativePath;
+        }
+        return storedLocation.getUri();
+    }
+
+}
@@ -16,10 +16,12 @@
 
 package com.parasoft.findings.utils.results.xml;
 
+import com.parasoft.findings.utils.results.violations.CompactAttributeMap;
 import com.parasoft.findings.utils.results.violations.IResult;
 import com.parasoft.findings.utils.results.violations.IViolation;
 import com.parasoft.findings.utils.results.xml.factory.ILegacySupportResultXmlStorage;
 import com.parasoft.findings.utils.results.location.IResultLocationsReader;
+import com.parasoft.findings.utils.results.testableinput.StoredLocation;
 import org.xml.sax.Attributes;
 import org.xml.sax.Locator;
 import org.xml.sax.SAXException;
@@ -45,6 +47,11 @@ public class ViolationsReader
      */
     private String _sCurrentViolationTag = null;
 
+    /**
+     * the depth of currently skipped violation element rejected by the filter, <code>0</code> if none is skipped
+     */
+    private int _skippedDepth = 0;
+
     /**
      * the queue containing already read violations
      */
@@ -72,6 +79,11 @@ public class ViolationsReader
 
     private XmlReportReader _parentReader = null;
 
+    /**
+     * attributes map reused by subsequently read violations
+     */
+    private final CompactAttributeMap _pooledAttributes = new CompactAttributeMap();
+
 
     /**
      * Constructor.
@@ -126,8 +138,17 @@ public class ViolationsReader
     @Override
     public void startElement(String sUri, String sLocalName, String sQName, Attributes attributes)
             throws SAXException {
+        if (_skippedDepth > 0) {
+            _skippedDepth++;
+            return;
+        }
         IResultXmlStorage storage = _storagesMap.get(sQName);
         if (storage != null) {
+            if (!isAccepted(sQName, attributes)) {
+                violationSkipped();
+                _skippedDepth = 1;
+                return;
+            }
             setCurrentReader(sQName, storage);
         }
         if (_currentReader != null) {
@@ -141,8 +162,70 @@ public class ViolationsReader
         }
     }
 
+    /**
+     * Checks given element against the violation filter of import preferences. Rejected violation
+     * is counted as read, its element should be skipped by the caller.
+     *
+     * @param sQName     the element tag
+     * @param attributes the element attributes
+     * @return <code>true</code> if given element is a violation rejected by the filter
+     */
+    boolean filterViolation(String sQName, Attributes attributes) {
+        if (!_storagesMap.containsKey(sQName) || isAccepted(sQName, attributes)) {
+            return false;
+        }
+        violationSkipped();
+        return true;
+    }
+
+    private boolean isAccepted(String sQName, Attributes attributes) {
+        IViolationFilter filter = (_importPreferences != null) ? _importPreferences.getViolationFilter() : null;
+        if (filter == null) {
+            return true;
+        }
+        StoredLocation storedLocation = null;
+        String sLocRef = attributes.getValue(IXmlTagsAndAttributes.LOC_REF_ATTR);
+        if ((sLocRef != null) && (_locationsReader != null)) {
+            storedLocation = _locationsReader.getLocationRecord(sLocRef);
+        }
+        try {
+            return filter.accept(sQName, attributes, storedLocation);
+        } catch (Throwable t) { // parasoft-suppress OWASP2021.A5.NCE "This is intentionally designed to prevent exceptions from bubbling up and causing the program to terminate."
+            Logger.getLogger().warn(t);
+            return false;
+        }
+    }
+
+    private void violationSkipped() {
+        if (_parentReader != null) {
+            _parentReader.itemRead();
+        }
+    }
+
     private void setCurrentReader(String sQName, IResultXmlStorage storage)
             throws SAXException {
+        _currentReader = createReader(sQName, storage);
+        _sCurrentViolationTag = sQName;
+    }
+
+    /**
+     * Creates initialized reader of violation element with given tag.
+     *
+     * @param sQName the violation element tag
+     * @return the reader or <code>null</code> if the tag is not a violation element
+     * @throws SAXException if the storage of violation does not provide valid reader
+     */
+    IViolationSAXReader createViolationReader(String sQName)
+            throws SAXException {
+        IResultXmlStorage storage = _storagesMap.get(sQName);
+        if (storage == null) {
+            return null;
+        }
+        return createReader(sQName, storage);
+    }
+
+    private IViolationSAXReader createReader(String sQName, IResultXmlStorage storage)
+            throws SAXException {
         Integer storageVersion = _storagesVersionsMap.get(sQName);
         if (storageVersion == null) {
             Logger.getLogger().errorTrace("Missing storage version, using current version"); //$NON-NLS-1$
@@ -161,10 +244,9 @@ public class ViolationsReader
         if (!(reader instanceof IViolationSAXReader)) {
             throw new SAXException("Reader of illegal type from result storage " + storage.getResultId()); //$NON-NLS-1$
         }
-        _currentReader = (IViolationSAXReader) reader;
-        initializeCurrentReader(_currentReader);
-
-        _sCurrentViolationTag = sQName;
+        IViolationSAXReader violationReader = (IViolationSAXReader) reader;
+        initializeCurrentReader(violationReader);
+        return violationReader;
     }
 
     private static IResultSAXReader getLegacyReader(IResultXmlStorage storage, Integer storageLegacyVersion) {
@@ -176,11 +258,26 @@ public class ViolationsReader
 
     protected void initializeCurrentReader(IViolationSAXReader currentReader) {
         currentReader.setLocations(_locationsReader);
+        if (currentReader instanceof AbstractResultReader) {
+            AbstractResultReader resultReader = (AbstractResultReader) currentReader;
+            resultReader.setPooledAttributes(_pooledAttributes);
+            if ((_importPreferences != null) && _importPreferences.isLazyPathElementsEnabled()) {
+                resultReader.setDeferredDescriptors(true);
+            }
+        }
+        if ((_parentReader != null) && (currentReader instanceof AbstractViolationReader)) {
+            ((AbstractViolationReader) currentReader).setStringTable(_parentReader.getStringTable());
+            ((AbstractViolationReader) currentReader).setPathElementInterner(_parentReader.getPathElementInterner());
+        }
     }
 
     @Override
     public void endElement(String sUri, String sLocalName, String sQName)
             throws SAXException {
+        if (_skippedDepth > 0) {
+            _skippedDepth--;
+            return;
+        }
         if (_currentReader != null) {
             try {
                 _currentReader.endElement(sUri, sLocalName, sQName);
@@ -193,7 +290,7 @@ public class ViolationsReader
         if (sQName.equals(_sCurrentViolationTag)) {
             if (_currentReader != null) {
                 try {
-                    addViolation();
+                    addViolation(_currentReader);
                 } catch (Throwable t) { // parasoft-suppress OWASP2021.A5.NCE "This is intentionally designed to prevent exceptions from bubbling up and causing the program to terminate."
                     Logger.getLogger().warn(t);
                 }
@@ -300,16 +397,19 @@ public class ViolationsReader
     }
 
     /**
-     * @pre _currentReader != null
+     * Adds the violation read by given reader to the queue of read violations.
+     *
+     * @param reader the reader which completed reading of violation element
+     * @pre reader != null
      */
-    private void addViolation() {
+    void addViolation(IViolationSAXReader reader) {
         if (_parentReader != null) {
             _parentReader.itemRead();
         }
 
         IResult result = null;
         try {
-            result = _currentReader.getReadResult();
+            result = reader.getReadResult();
         } catch (Throwable t) { // parasoft-suppress OWASP2021.A5.NCE "This is intentionally designed to prevent exceptions from bubbling up and causing the program to terminate."
             Logger.getLogger().error(t);
         }
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2023 Parasoft Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.parasoft.findings.utils.results.xml;
+
+import com.parasoft.findings.utils.common.util.IOUtils;
+import com.parasoft.findings.utils.results.violations.IViolation;
+import com.parasoft.findings.utils.results.violations.ViolationsBinaryReader;
+import com.parasoft.findings.utils.results.violations.ViolationsBinaryWriter;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Temporary file holding violations moved out of memory during import.
+ * <p>
+ * Violations are written in chunks with {@link ViolationsBinaryWriter}, each chunk has its own
+ * dictionary, so memory used by writing does not grow with the number of spilled violations.
+ * Violations are read back once, in the order they were written. The file is deleted as soon as
+ * its last chunk is read or on {@link #close()}. Files of instances abandoned before are deleted
+ * on exit of virtual machine.
+ */
+public final class ViolationsSpillFile
+        implements Closeable {
+    private final File _file;
+
+    private OutputStream _out;
+
+    private final List<InputStream> _openStreams = new ArrayList<InputStream>();
+
+    private int _chunksCount = 0;
+
+    private int _size = 0;
+
+    private boolean _bRead = false;
+
+    /**
+     * Creates empty temporary file.
+     *
+     * @throws IOException if the file cannot be created
+     */
+    public ViolationsSpillFile()
+            throws IOException {
+        _file = File.createTempFile(FILE_PREFIX, FILE_SUFFIX);
+        _file.deleteOnExit();
+        try {
+            _out = new BufferedOutputStream(new FileOutputStream(_file), BUFFER_SIZE);
+        } catch (IOException e) {
+            _file.delete();
+            throw e;
+        }
+    }
+
+    /**
+     * Appends given violations to the file.
+     *
+     * @param violations the violations to write
+     * @throws IOException if writing fails
+     * @pre violations != null
+     */
+    public void write(List<IViolation> violations)
+            throws IOException {
+        if (_out == null) {
+            throw new IllegalStateException("Spill file is already read or closed."); //$NON-NLS-1$
+        }
+        ViolationsBinaryWriter writer = new ViolationsBinaryWriter(_out);
+        writer.write(violations);
+        writer.finish();
+        _chunksCount++;
+        _size += violations.size();
+    }
+
+    /**
+     * @return the number of violations in the file
+     */
+    public int size() {
+        return _size;
+    }
+
+    /**
+     * @return the temporary file, which does not exist once it is read or closed
+     */
+    public File getFile() {
+        return _file;
+    }
+
+    /**
+     * Returns iterator reading violations from the file, no more violations can be written after this call.
+     * The file is deleted when the iterator reaches its end. Reading failures are reported
+     * with {@link UncheckedIOException}.
+     *
+     * @return the iterator over spilled violations
+     * @throws IOException if the file cannot be opened
+     * @throws IllegalStateException if the iterator was already returned
+     */
+    public Iterator<IViolation> iterator()
+            throws IOException {
+        if (_bRead) {
+            throw new IllegalStateException("Spill file is already read."); //$NON-NLS-1$
+        }
+        _bRead = true;
+        if (_out != null) {
+            _out.close();
+            _out = null;
+        }
+        InputStream in = new BufferedInputStream(new FileInputStream(_file), BUFFER_SIZE);
+        _openStreams.add(in);
+        return new SpilledViolationsIterator(in);
+    }
+
+    @Override
+    public void close() {
+        if (_out != null) {
+            IOUtils.close(_out);
+            _out = null;
+        }
+        for (InputStream in : _openStreams) {
+            IOUtils.close(in);
+        }
+        _openStreams.clear();
+        if (_file.exists() && !_file.delete()) {
+            Logger.getLogger().warn("Cannot delete spill file: " + _file); //$NON-NLS-1$
+        }
+    }
+
+    private final class SpilledViolationsIterator
+            implements Iterator<IViolation> {
+        private final InputStream _in;
+
+        private ViolationsBinaryReader _chunkReader = null;
+
+        private int _chunksRead = 0;
+
+        private IViolation _next = null;
+
+        SpilledViolationsIterator(InputStream in) {
+            _in = in;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (_next != null) {
+                return true;
+            }
+            try {
+                while (true) {
+                    if (_chunkReader == null) {
+                        if (_chunksRead == _chunksCount) {
+                            // all violations are read, the file is no longer needed
+                            ViolationsSpillFile.this.close();
+                            return false;
+                        }
+                        _chunkReader = new ViolationsBinaryReader(_in, _file.length());
+                        _chunksRead++;
+                    }
+                    _next = _chunkReader.read();
+                    if (_next != null) {
+                        return true;
+                    }
+                    _chunkReader = null;
+                }
+            } catch (IOException e) {
+                close();
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public IViolation next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            IViolation violation = _next;
+            _next = null;
+            return violation;
+        }
+
+        private void close() {
+            IOUtils.close(_in);
+            _openStreams.remove(_in);
+        }
+    }
+
+    private static final String FILE_PREFIX = "violations"; //$NON-NLS-1$
+
+    private static final String FILE_SUFFIX = ".spill"; //$NON-NLS-1$
+
+    private static final int BUFFER_SIZE = 65536;
+}
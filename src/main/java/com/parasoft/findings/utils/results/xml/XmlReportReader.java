@@ -18,8 +18,14 @@ package com.parasoft.findings.utils.results.xml;
 
 import com.parasoft.findings.utils.common.IStringConstants;
 import com.parasoft.findings.utils.common.ParasoftConstants;
+import com.parasoft.findings.utils.common.util.StringTable;
+import com.parasoft.findings.utils.common.util.XMLUtil;
 import com.parasoft.findings.utils.results.xml.factory.IResultsIdentifiersConstants;
 import com.parasoft.findings.utils.results.xml.factory.UResults;
+import com.parasoft.findings.utils.results.violations.AbstractViolation;
+import com.parasoft.findings.utils.results.violations.DupCodeViolation;
+import com.parasoft.findings.utils.results.violations.FlowAnalysisPathElementInterner;
+import com.parasoft.findings.utils.results.violations.FlowAnalysisViolation;
 import com.parasoft.findings.utils.results.violations.IViolation;
 import com.parasoft.findings.utils.results.location.IResultLocationsReader;
 import com.parasoft.findings.utils.results.location.ResultLocationsReader;
@@ -33,6 +39,11 @@ import org.xml.sax.Locator;
 import org.xml.sax.SAXException;
 import org.xml.sax.helpers.DefaultHandler;
 
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParser;
+import javax.xml.stream.XMLStreamException;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.*;
 
 /**
@@ -46,6 +57,11 @@ public class XmlReportReader
 
     private boolean _bScope = false;
 
+    /**
+     * the depth of elements within currently skipped section, <code>0</code> if no section is skipped
+     */
+    private int _skippedSectionDepth = 0;
+
     private final FileImportPreferences _preferences;
 
     private ResultVersionsManager _versionsManager = null;
@@ -64,12 +80,26 @@ public class XmlReportReader
 
     private final IImportResultCollector _target;
 
-    private final RulesImportHandler _rulesImportHandler = new RulesImportHandler();
+    private final int _batchSize;
+
+    private final boolean _bRetainViolations;
+
+    private final StringTable _stringTable = new StringTable();
+
+    private final RulesImportHandler _rulesImportHandler;
+
+    private final FlowAnalysisPathElementInterner _pathElementInterner;
 
     private final LegacyResultLocationsReader _legacyLocationsManager;
 
     private boolean areUsedLegacyLocations = false;
 
+    private long _memoryBudget = 0L;
+
+    private long _retainedSize = 0L;
+
+    private ViolationsSpillFile _spillFile = null;
+
     /**
      * Constructor.
      *
@@ -91,21 +121,101 @@ public class XmlReportReader
      */
     public XmlReportReader(FileImportPreferences preferences,
                            ITestableInputLocationMatcher locationMatcher, IImportResultCollector target) {
+        this(preferences, locationMatcher, target, 0, true);
+    }
+
+    /**
+     * Constructor of reader which passes violations to the target in batches of given size
+     * and does not keep them in {@link #getImportedViolations()}.
+     *
+     * @param preferences
+     * @param locationMatcher
+     * @param target
+     * @param batchSize the maximum number of violations passed to the target at once
+     * @pre preferences != null
+     * @pre target != null
+     * @pre batchSize > 0
+     */
+    public XmlReportReader(FileImportPreferences preferences,
+                           ITestableInputLocationMatcher locationMatcher, IImportResultCollector target, int batchSize) {
+        this(preferences, locationMatcher, target, batchSize, false);
+    }
+
+    private XmlReportReader(FileImportPreferences preferences, ITestableInputLocationMatcher locationMatcher,
+                            IImportResultCollector target, int batchSize, boolean bRetainViolations) {
         _preferences = preferences;
         _parentElemNamesStack = new LinkedList<String>();
         _versionsManager = new ResultVersionsManager();
         _locationsManager = new ResultLocationsReader(locationMatcher);
         _legacyLocationsManager = new LegacyResultLocationsReader(locationMatcher);
+        _locationsManager.setStringTable(_stringTable);
+        _legacyLocationsManager.setStringTable(_stringTable);
+        _rulesImportHandler = new RulesImportHandler(_stringTable);
+        _pathElementInterner = preferences.isPathElementsSharingEnabled() ? new FlowAnalysisPathElementInterner() : null;
         ResultFactoriesManager factoriesManager = UResults.getResultFactoriesManager();
         initStoragesMap(factoriesManager);
 
         _target = target;
+        _batchSize = batchSize;
+        _bRetainViolations = bRetainViolations;
     }
 
+    private XmlReportReader(XmlReportReader source) {
+        _preferences = source._preferences;
+        _parentElemNamesStack = new LinkedList<String>();
+        _versionsManager = source._versionsManager;
+        _locationsManager = source._locationsManager;
+        _legacyLocationsManager = source._legacyLocationsManager;
+        _rulesImportHandler = source._rulesImportHandler;
+        _pathElementInterner = source._pathElementInterner;
+        areUsedLegacyLocations = source.areUsedLegacyLocations;
+        ResultFactoriesManager factoriesManager = UResults.getResultFactoriesManager();
+        initStoragesMap(factoriesManager);
+
+        _target = null;
+        _batchSize = 0;
+        _bRetainViolations = true;
+    }
+
+    /**
+     * Creates a reader of report fragments which contain violations only. The created reader
+     * shares versions, locations and rules already read by this reader and the table of shared
+     * path elements, but keeps its own violations and string table. Once this reader finished reading, readers created by
+     * this method may be used concurrently, each of them by one thread at a time.
+     *
+     * @return the reader of report fragments
+     * @post $result != null
+     */
+    public XmlReportReader createFragmentReader() {
+        return new XmlReportReader(this);
+    }
+
+    /**
+     * @return the imported violations kept in memory, violations moved to {@link #getSpillFile()} are not included
+     */
     public List<IViolation> getImportedViolations() {
         return _importedViolations;
     }
 
+    /**
+     * Sets the estimated size of memory which can be used by imported violations. Once it is exceeded,
+     * imported violations are moved to a temporary file available with {@link #getSpillFile()}.
+     *
+     * @param memoryBudget the memory budget in bytes, <code>0</code> for no limit
+     * @pre memoryBudget >= 0
+     */
+    public void setMemoryBudget(long memoryBudget) {
+        _memoryBudget = memoryBudget;
+    }
+
+    /**
+     * @return the file with violations moved out of memory, which precede violations from
+     * {@link #getImportedViolations()}, or <code>null</code> if no violations were moved
+     */
+    public ViolationsSpillFile getSpillFile() {
+        return _spillFile;
+    }
+
     public int getTestConfigId() {
         return 0;
     }
@@ -113,6 +223,10 @@ public class XmlReportReader
     @Override
     public void startElement(String sUri, String sLocalName, String sQName, Attributes attributes)
             throws SAXException {
+        if (_skippedSectionDepth > 0) {
+            _skippedSectionDepth++;
+            return;
+        }
         _parentElemNamesStack.addLast(sQName);
         if (_parentElemNamesStack.size() == HANDLER_ELEMENTS_DEPTH) {
             if (IXmlTagsAndAttributes.VERSIONS_TAG.equals(sQName)) {
@@ -124,6 +238,10 @@ public class XmlReportReader
                 _locationsReader = _legacyLocationsManager;
             } else {
                 _reader = getViolationsReader(sQName, attributes);
+                if (_reader == null) {
+                    // nothing is read from this section, ignore its content
+                    _skippedSectionDepth = 1;
+                }
                 return; // return here - no need to pass this element to reader
             }
         }
@@ -145,6 +263,12 @@ public class XmlReportReader
     @Override
     public void endElement(String sUri, String sLocalName, String sQName)
             throws SAXException {
+        if (_skippedSectionDepth > 0) {
+            _skippedSectionDepth--;
+            if (_skippedSectionDepth > 0) {
+                return;
+            }
+        }
         if ((_parentElemNamesStack.size() == HANDLER_ELEMENTS_DEPTH)) {
             if (_reader != null) {
                 flushReader();
@@ -160,11 +284,7 @@ public class XmlReportReader
             }
         } else if (_reader != null) {
             _reader.endElement(sUri, sLocalName, sQName);
-            IViolation violation = _reader.getNextViolation();
-            while (violation != null) {
-                collectViolation(violation);
-                violation = _reader.getNextViolation();
-            }
+            collectReadViolations();
         } else if (_versionsReader != null) {
             _versionsReader.endElement(sUri, sLocalName, sQName);
         } else if (_locationsReader != null) {
@@ -194,7 +314,10 @@ public class XmlReportReader
 
     @Override
     public void endDocument() {
-        // does nothing
+        Logger.getLogger().debug("Report strings deduplication: " + _stringTable); //$NON-NLS-1$
+        if (_pathElementInterner != null) {
+            Logger.getLogger().debug("Report path elements sharing: " + _pathElementInterner); //$NON-NLS-1$
+        }
     }
 
     @Override
@@ -272,6 +395,60 @@ public class XmlReportReader
     public void itemRead() {
     }
 
+    /**
+     * Parses the report from given stream. Depending on import preferences the report
+     * is parsed with SAX parser or with {@link XmlReportStaxReader}.
+     *
+     * @param is the stream of report
+     * @throws ParserConfigurationException
+     * @throws SAXException
+     * @throws IOException
+     * @pre is != null
+     */
+    public void parse(InputStream is)
+            throws ParserConfigurationException, SAXException, IOException {
+        if (_preferences.isStaxParserEnabled()) {
+            try {
+                new XmlReportStaxReader(this).parse(is);
+            } catch (XMLStreamException e) {
+                throw new SAXException(e);
+            }
+        } else {
+            SAXParser parser = XMLUtil.createSAXParser();
+            parser.parse(is, this);
+        }
+    }
+
+    public FileImportPreferences getImportPreferences() {
+        return _preferences;
+    }
+
+    /**
+     * @return <code>true</code> if the content of current section is not read
+     */
+    boolean isSkippingSection() {
+        return _skippedSectionDepth > 0;
+    }
+
+    /**
+     * @return the reader of violations section being currently read,
+     * <code>null</code> if no violations section is read
+     */
+    ViolationsReader getCurrentViolationsReader() {
+        return (_reader instanceof ViolationsReader) ? (ViolationsReader) _reader : null;
+    }
+
+    /**
+     * Collects violations completely read by the current violations section reader.
+     */
+    void collectReadViolations() {
+        IViolation violation = _reader.getNextViolation();
+        while (violation != null) {
+            collectViolation(violation);
+            violation = _reader.getNextViolation();
+        }
+    }
+
     private IViolationsSAXReader getViolationsReader(String sMainTag, Attributes attributes) {
         String sResultId = attributes.getValue(IXmlTagsAndAttributes.RESULT_ID_ATTR);
         if (sResultId == null) {
@@ -313,6 +490,9 @@ public class XmlReportReader
     }
 
     protected void flushReader() {
+        if ((_batchSize > 0) && _violationsBatch.isEmpty()) {
+            return;
+        }
         if (_target != null) {
             IViolation[] aViolations = new IViolation[_violationsBatch.size()];
             aViolations = _violationsBatch.toArray(aViolations);
@@ -322,12 +502,62 @@ public class XmlReportReader
     }
 
     protected void collectViolation(IViolation violation) {
-        _importedViolations.add(violation);
+        if (_bRetainViolations) {
+            _importedViolations.add(violation);
+            if (_memoryBudget > 0L) {
+                _retainedSize += estimateSize(violation);
+                if (_retainedSize > _memoryBudget) {
+                    spillViolations();
+                }
+            }
+        }
         if (_target != null) {
             _violationsBatch.add(violation);
+            if ((_batchSize > 0) && (_violationsBatch.size() >= _batchSize)) {
+                flushReader();
+            }
         }
     }
 
+    private void spillViolations() {
+        try {
+            if (_spillFile == null) {
+                _spillFile = new ViolationsSpillFile();
+            }
+            _spillFile.write(_importedViolations);
+            Logger.getLogger().debug("Violations moved to spill file: " + _importedViolations.size()); //$NON-NLS-1$
+            _importedViolations.clear();
+            _retainedSize = 0L;
+        } catch (IOException e) {
+            Logger.getLogger().error("Cannot write spill file, violations are kept in memory.", e); //$NON-NLS-1$
+            _memoryBudget = 0L;
+        }
+    }
+
+    /**
+     * Roughly estimates the memory used by violation, without creating its lazily read data.
+     *
+     * @param violation the violation
+     * @return the estimated size in bytes
+     * @pre violation != null
+     */
+    public static long estimateSize(IViolation violation) {
+        long size = VIOLATION_SIZE_ESTIMATE;
+        String sMessage = violation.getMessage();
+        if (sMessage != null) {
+            size += 2L * sMessage.length();
+        }
+        if (violation instanceof AbstractViolation) {
+            size += ATTRIBUTE_SIZE_ESTIMATE * ((AbstractViolation) violation).getAttributes().size();
+        }
+        if (violation instanceof FlowAnalysisViolation) {
+            size += FLOW_PATH_SIZE_ESTIMATE;
+        } else if (violation instanceof DupCodeViolation) {
+            size += PATH_ELEMENT_SIZE_ESTIMATE * ((DupCodeViolation) violation).getPathElements().length;
+        }
+        return size;
+    }
+
     private static void verifyToolVersion(String sQName, Attributes attributes)
             throws SAXException {
         if (!IXmlTagsAndAttributes.RESULTS_SESSION_ROOT_TAG.equals(sQName)) {
@@ -378,11 +608,39 @@ public class XmlReportReader
 
     private final static int HANDLER_ELEMENTS_DEPTH = 2;
 
+    private static final long VIOLATION_SIZE_ESTIMATE = 256L;
+
+    private static final long ATTRIBUTE_SIZE_ESTIMATE = 48L;
+
+    private static final long PATH_ELEMENT_SIZE_ESTIMATE = 192L;
+
+    private static final long FLOW_PATH_SIZE_ESTIMATE = 8L * PATH_ELEMENT_SIZE_ESTIMATE;
+
 
     public RulesImportHandler getRulesImportHandler() {
         return _rulesImportHandler;
     }
 
+    /**
+     * Returns the table used to deduplicate repeated values read from the report.
+     *
+     * @return the string table of this import
+     * @post $result != null
+     */
+    public StringTable getStringTable() {
+        return _stringTable;
+    }
+
+    /**
+     * Returns the table used to share identical flow analysis path elements of read violations.
+     *
+     * @return the table of path elements of this import or <code>null</code> if sharing is not enabled
+     * @see FileImportPreferences#isPathElementsSharingEnabled()
+     */
+    public FlowAnalysisPathElementInterner getPathElementInterner() {
+        return _pathElementInterner;
+    }
+
     private IResultLocationsReader getLocationReader() {
         if (!areUsedLegacyLocations) {
             return _locationsManager;
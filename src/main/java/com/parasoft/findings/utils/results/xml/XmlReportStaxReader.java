@@ -0,0 +1,205 @@
+/*
+ * Copyright 2023 Parasoft Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.parasoft.findings.utils.results.xml;
+
+import com.parasoft.findings.utils.common.IStringConstants;
+import com.parasoft.findings.utils.common.util.XMLUtil;
+import org.xml.sax.SAXException;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+
+/**
+ * StAX based reader of xml report, alternative to SAX parsing of report with {@link XmlReportReader}.
+ * <p>
+ * Report sections other than violations are passed to {@link XmlReportReader} as before.
+ * Violation elements are passed directly to the reader of violation's storage, without
+ * delegation through {@link ViolationsReader}, and only these attributes of violation
+ * element which are read by the storage reader are exposed to it. Read violations are the
+ * same as violations read by SAX parsing.
+ */
+public class XmlReportStaxReader {
+    private final XmlReportReader _reportReader;
+
+    /**
+     * Constructor.
+     *
+     * @param reportReader the reader of report sections and the collector of read violations
+     * @pre reportReader != null
+     */
+    public XmlReportStaxReader(XmlReportReader reportReader) {
+        _reportReader = reportReader;
+    }
+
+    /**
+     * Parses the report from given stream.
+     *
+     * @param is the stream of report
+     * @throws XMLStreamException
+     * @throws SAXException
+     * @pre is != null
+     */
+    public void parse(InputStream is)
+            throws XMLStreamException, SAXException {
+        XMLStreamReader reader = XMLUtil.createXMLStreamReader(is);
+        try {
+            StaxAttributes attributes = new StaxAttributes(reader);
+            _reportReader.startDocument();
+            while (reader.hasNext()) {
+                switch (reader.next()) {
+                    case XMLStreamConstants.START_ELEMENT:
+                        startElement(reader, attributes);
+                        break;
+                    case XMLStreamConstants.END_ELEMENT:
+                        _reportReader.endElement(getURI(reader), reader.getLocalName(), getQName(reader));
+                        break;
+                    case XMLStreamConstants.CHARACTERS:
+                    case XMLStreamConstants.CDATA:
+                    case XMLStreamConstants.SPACE:
+                        _reportReader.characters(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                        break;
+                    default:
+                        break;
+                }
+            }
+            _reportReader.endDocument();
+        } finally {
+            reader.close();
+        }
+    }
+
+    private void startElement(XMLStreamReader reader, StaxAttributes attributes)
+            throws XMLStreamException, SAXException {
+        String sQName = getQName(reader);
+        ViolationsReader violationsReader = _reportReader.getCurrentViolationsReader();
+        if (violationsReader != null) {
+            attributes.reset();
+            if (violationsReader.filterViolation(sQName, attributes)) {
+                skipElement(reader);
+                return;
+            }
+            IViolationSAXReader violationReader = violationsReader.createViolationReader(sQName);
+            if (violationReader != null) {
+                readViolation(reader, attributes, violationReader, violationsReader);
+                _reportReader.collectReadViolations();
+                return;
+            }
+        }
+        attributes.reset();
+        _reportReader.startElement(getURI(reader), reader.getLocalName(), sQName, attributes);
+        if (_reportReader.isSkippingSection()) {
+            skipElement(reader);
+            _reportReader.endElement(getURI(reader), reader.getLocalName(), sQName);
+        }
+    }
+
+    /**
+     * Skips current element, including its end tag.
+     *
+     * @pre reader.getEventType() == XMLStreamConstants.START_ELEMENT
+     */
+    private static void skipElement(XMLStreamReader reader)
+            throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * Reads violation element, including its end tag.
+     *
+     * @pre reader.getEventType() == XMLStreamConstants.START_ELEMENT
+     */
+    private static void readViolation(XMLStreamReader reader, StaxAttributes attributes,
+                                      IViolationSAXReader violationReader, ViolationsReader violationsReader)
+            throws XMLStreamException {
+        if (violationReader instanceof AbstractViolationReader) {
+            attributes.reset((AbstractViolationReader) violationReader);
+        } else {
+            attributes.reset();
+        }
+        IViolationSAXReader currentReader = violationReader;
+        try {
+            currentReader.startElement(getURI(reader), reader.getLocalName(), getQName(reader), attributes);
+        } catch (Throwable t) { // parasoft-suppress OWASP2021.A5.NCE "This is intentionally designed to prevent exceptions from bubbling up and causing the program to terminate."
+            Logger.getLogger().warn(t);
+            currentReader = null;
+        }
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (currentReader == null) {
+                // skip the rest of violation which failed to be read
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    depth++;
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    depth--;
+                }
+                continue;
+            }
+            try {
+                switch (event) {
+                    case XMLStreamConstants.START_ELEMENT:
+                        depth++;
+                        attributes.reset();
+                        currentReader.startElement(getURI(reader), reader.getLocalName(), getQName(reader), attributes);
+                        break;
+                    case XMLStreamConstants.END_ELEMENT:
+                        depth--;
+                        currentReader.endElement(getURI(reader), reader.getLocalName(), getQName(reader));
+                        break;
+                    case XMLStreamConstants.CHARACTERS:
+                    case XMLStreamConstants.CDATA:
+                    case XMLStreamConstants.SPACE:
+                        currentReader.characters(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                        break;
+                    default:
+                        break;
+                }
+            } catch (Throwable t) { // parasoft-suppress OWASP2021.A5.NCE "This is intentionally designed to prevent exceptions from bubbling up and causing the program to terminate."
+                Logger.getLogger().warn(t);
+                currentReader = null;
+            }
+        }
+        if (currentReader != null) {
+            try {
+                violationsReader.addViolation(currentReader);
+            } catch (Throwable t) { // parasoft-suppress OWASP2021.A5.NCE "This is intentionally designed to prevent exceptions from bubbling up and causing the program to terminate."
+                Logger.getLogger().warn(t);
+            }
+        } else {
+            Logger.getLogger().warn("Failed to read violation."); //$NON-NLS-1$
+        }
+    }
+
+    private static String getQName(XMLStreamReader reader) {
+        return StaxAttributes.getQName(reader.getPrefix(), reader.getLocalName());
+    }
+
+    private static String getURI(XMLStreamReader reader) {
+        String sUri = reader.getNamespaceURI();
+        return (sUri == null) ? IStringConstants.EMPTY : sUri;
+    }
+}
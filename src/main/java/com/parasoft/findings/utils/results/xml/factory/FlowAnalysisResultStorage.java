@@ -23,6 +23,7 @@ import com.parasoft.findings.utils.results.violations.*;
 import com.parasoft.findings.utils.results.xml.*;
 
 import com.parasoft.findings.utils.common.util.XMLUtil;
+import com.parasoft.findings.utils.results.location.IResultLocationsReader;
 
 /**
  * Flow analysis result storage implementation.
@@ -92,17 +93,32 @@ final class FlowAnalysisResultStorage
 
         @Override
         protected IViolation createViolation(Map map, String sAnalyzerId, String sLanguageId, ResultLocation location) {
-            List<IPathElement> descriptors = getDescriptors();
-            IFlowAnalysisPathElement[] aDescriptors = (descriptors == null) ? new IFlowAnalysisPathElement[0]
-                    : descriptors.toArray(new IFlowAnalysisPathElement[descriptors.size()]);
-
             String sRuleId = getObligatoryString(IXmlTagsAndAttributes.RULE_ATTR);
 
             String sErrorMessage = getObligatoryString(IXmlTagsAndAttributes.MESSAGE_V2_ATTR);
 
             String sPackage = getString(IXmlTagsAndAttributes.PACKAGE_ATTR);
+
+            final RecordedElements recordedDescriptors = getRecordedDescriptors();
+            if (recordedDescriptors != null) {
+                final boolean bLegacySupport = isLegacySupport();
+                final IResultLocationsReader locationsReader = getLocationsReader();
+                final FlowAnalysisPathElementInterner pathElementInterner = getPathElementInterner();
+                return new FlowAnalysisViolation(sRuleId, sAnalyzerId, sLanguageId, location, sErrorMessage, sPackage,
+                        () -> {
+                            FlowAnalysisViolationReader reader = new FlowAnalysisViolationReader(bLegacySupport);
+                            reader.setLocations(locationsReader);
+                            reader.setPathElementInterner(pathElementInterner);
+                            return toPathElements(reader.readDescriptors(recordedDescriptors));
+                        });
+            }
             return new FlowAnalysisViolation(sRuleId, sAnalyzerId, sLanguageId, location, sErrorMessage, sPackage,
-                    aDescriptors);
+                    toPathElements(getDescriptors()));
+        }
+
+        @Override
+        protected boolean isDeferredDescriptorsSupported() {
+            return true;
         }
 
         @Override
@@ -128,8 +144,19 @@ final class FlowAnalysisResultStorage
                     attributesMap.put(IXmlTagsAndAttributes.LOCATION_HASH_ATTR, sHash);
                 }
             }
-            return new FlowAnalysisPathElement(sElemDescription, location, attributesMap, aChildDescriptors,
-                    new FlowAnalysisPathElement.TypeImpl(sType), sThrownTypes, sThrowingMethod, annotations);
+            FlowAnalysisPathElementInterner pathElementInterner = getPathElementInterner();
+            if (pathElementInterner == null) {
+                return new FlowAnalysisPathElement(sElemDescription, location, attributesMap, aChildDescriptors,
+                        new FlowAnalysisPathElement.TypeImpl(sType), sThrownTypes, sThrowingMethod, annotations);
+            }
+            pathElementInterner.internAnnotations(annotations);
+            return pathElementInterner.intern(new FlowAnalysisPathElement(sElemDescription, location, attributesMap,
+                    aChildDescriptors, new FlowAnalysisPathElement.TypeImpl(sType), sThrownTypes, sThrowingMethod, annotations));
+        }
+
+        private static IFlowAnalysisPathElement[] toPathElements(List<IPathElement> descriptors) {
+            return (descriptors == null) ? new IFlowAnalysisPathElement[0]
+                    : descriptors.toArray(new IFlowAnalysisPathElement[descriptors.size()]);
         }
 
         /**
@@ -20,15 +20,17 @@ public class ResultFactoriesManager {
     /**
      * The array of all result factories.
      */
-    protected DefaultCodingStandardsResultFactory _resultFactory = null;
+    protected volatile DefaultCodingStandardsResultFactory _resultFactory = null;
 
     /**
      * initialization flag
      */
-    protected boolean _bInitialized = false;
+    protected volatile boolean _bInitialized = false;
 
     public DefaultCodingStandardsResultFactory getResultFactory() {
-        initFactory();
+        if (!_bInitialized) {
+            initFactory();
+        }
         return _resultFactory;
     }
 
@@ -36,7 +38,7 @@ public class ResultFactoriesManager {
         if (_bInitialized) {
             return;
         }
-        _bInitialized = true;
         _resultFactory = new DefaultCodingStandardsResultFactory();
+        _bInitialized = true;
     }
 }
@@ -20,7 +20,6 @@ package com.parasoft.findings.utils.results.xml.factory;
  * Init and keep one instance of result manager.
  */
 public final class UResults {
-    private static ResultsInitManager _INIT_MANAGER = null;
 
     /**
      * Prevent to make instance.
@@ -52,34 +51,47 @@ public final class UResults {
         return null;
     }
 
-    private static synchronized ResultsInitManager getInitManager() {
-        if (_INIT_MANAGER == null) {
-            _INIT_MANAGER = new ResultsInitManager();
-        }
-        return _INIT_MANAGER;
+    private static ResultsInitManager getInitManager() {
+        return InitManagerHolder._INIT_MANAGER;
+    }
+
+    /**
+     * Lazily initialized holder of the init manager, safe for concurrent imports
+     * without locking on every access.
+     */
+    private static final class InitManagerHolder {
+        private static final ResultsInitManager _INIT_MANAGER = new ResultsInitManager();
     }
 
     private static class ResultsInitManager {
-        private DefaultResultsCore _resultsCore = null;
+        private volatile DefaultResultsCore _resultsCore = null;
 
         public DefaultResultsCore getResultsCore() {
-            initialize();
-            return _resultsCore;
+            DefaultResultsCore core = _resultsCore;
+            if (core == null) {
+                core = initialize();
+            }
+            return core;
         }
 
-        private synchronized void initialize() {
+        private synchronized DefaultResultsCore initialize() {
             if (_resultsCore == null) {
                 _resultsCore = new DefaultResultsCore();
             }
+            return _resultsCore;
         }
     }
 
     private static class DefaultResultsCore {
 
-        private ResultFactoriesManager _factoriesManager = null;
+        private volatile ResultFactoriesManager _factoriesManager = null;
 
         public ResultFactoriesManager getFactoriesManager() {
-            return getFactoriesManagerImpl();
+            ResultFactoriesManager manager = _factoriesManager;
+            if (manager == null) {
+                manager = getFactoriesManagerImpl();
+            }
+            return manager;
         }
 
         private synchronized ResultFactoriesManager getFactoriesManagerImpl() {
@@ -0,0 +1,49 @@
+package com.parasoft.findings.utils.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LongIntHashMapTest {
+
+    @Test
+    public void testPutAndGet() {
+        LongIntHashMap map = new LongIntHashMap(0, -1);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(-1, map.put(i * 0x100000000L, i));
+        }
+        assertEquals(5, map.put(5 * 0x100000000L, 50));
+
+        assertEquals(1000, map.size());
+        assertEquals(50, map.get(5 * 0x100000000L));
+        assertEquals(999, map.get(999 * 0x100000000L));
+        assertEquals(-1, map.get(1000 * 0x100000000L));
+        assertTrue(map.containsKey(0L));
+        assertFalse(map.containsKey(1L));
+    }
+
+    @Test
+    public void testExtremeKeys() {
+        LongIntHashMap map = new LongIntHashMap(4, Integer.MIN_VALUE);
+        map.put(Long.MIN_VALUE, 1);
+        map.put(Long.MAX_VALUE, 2);
+        map.put(0L, 3);
+        map.put(-1L, 4);
+
+        assertEquals(1, map.get(Long.MIN_VALUE));
+        assertEquals(2, map.get(Long.MAX_VALUE));
+        assertEquals(3, map.get(0L));
+        assertEquals(4, map.get(-1L));
+    }
+
+    @Test
+    public void testClear() {
+        LongIntHashMap map = new LongIntHashMap(10, 0);
+        map.put(1L, 1);
+        map.clear();
+
+        assertEquals(0, map.size());
+        assertFalse(map.containsKey(1L));
+        assertEquals(0, map.get(1L));
+    }
+}
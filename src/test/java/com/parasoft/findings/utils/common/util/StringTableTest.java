@@ -0,0 +1,41 @@
+package com.parasoft.findings.utils.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StringTableTest {
+
+    @Test
+    public void testIntern_returnsFirstInstance() {
+        StringTable table = new StringTable();
+        String sFirst = new String("value");
+        String sSecond = new String("value");
+
+        assertSame(sFirst, table.intern(sFirst));
+        assertSame(sFirst, table.intern(sSecond));
+        assertNull(table.intern(null));
+
+        assertEquals(1, table.size());
+        assertEquals(2, table.getLookupsCount());
+        assertEquals(1, table.getHitsCount());
+        assertEquals(0.5, table.getHitRatio());
+    }
+
+    @Test
+    public void testIntern_fullTable() {
+        StringTable table = new StringTable(1);
+        table.intern("first");
+        String sSecond = new String("second");
+
+        assertSame(sSecond, table.intern(sSecond));
+        assertNotSame(sSecond, table.intern(new String("second")));
+        assertEquals(1, table.size());
+        assertEquals(0, table.getHitsCount());
+    }
+
+    @Test
+    public void testGetHitRatio_noLookups() {
+        assertEquals(0.0, new StringTable().getHitRatio());
+    }
+}
@@ -3,6 +3,7 @@ package com.parasoft.findings.utils.results.location;
 import com.parasoft.findings.utils.results.testableinput.ITestableInput;
 import com.parasoft.findings.utils.results.testableinput.ITestableInputLocationMatcher;
 import com.parasoft.findings.utils.results.testableinput.PathInput;
+import com.parasoft.findings.utils.results.testableinput.StoredLocation;
 import com.parasoft.findings.utils.results.violations.ResultLocation;
 import com.parasoft.findings.utils.results.violations.SourceRange;
 import com.parasoft.findings.utils.results.xml.IXmlTagsAndAttributes;
@@ -121,7 +122,7 @@ public class LegacyResultLocationsReaderTest {
     @Test
     public void testGetTestableInput_notFoundStoredLocation() throws Throwable {
         LegacyResultLocationsReader underTest = spy(new LegacyResultLocationsReader(null));
-        doReturn(null).when(underTest).getStoredLocation(anyString());
+        doReturn(null).when(underTest).getLocationRecord(anyString());
 
         PathInput input = (PathInput) underTest.getTestableInput("loc", true);
 
@@ -132,12 +133,12 @@ public class LegacyResultLocationsReaderTest {
     public void testGetTestableInput_foundStoredLocation() throws Throwable {
         ITestableInputLocationMatcher mockedMatcher = mock(ITestableInputLocationMatcher.class);
         LegacyResultLocationsReader underTest = spy(new LegacyResultLocationsReader(mockedMatcher));
-        Properties properties = new Properties();
-        doReturn(properties).when(underTest).getStoredLocation(any());
+        StoredLocation storedLocation = StoredLocation.fromProperties(new Properties());
+        doReturn(storedLocation).when(underTest).getLocationRecord(any());
 
         underTest.getTestableInput("loc", true);
 
-        verify(mockedMatcher).matchLocation(properties, true);
+        verify(mockedMatcher).matchStoredLocation(storedLocation, true);
     }
 
     @Test
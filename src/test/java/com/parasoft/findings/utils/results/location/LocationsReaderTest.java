@@ -1,7 +1,7 @@
 package com.parasoft.findings.utils.results.location;
 
 import com.parasoft.findings.utils.common.logging.FindingsLogger;
-import com.parasoft.findings.utils.results.testableinput.LocationUtil;
+import com.parasoft.findings.utils.results.testableinput.StoredLocation;
 import com.parasoft.findings.utils.results.xml.IXmlTagsAndAttributes;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
@@ -54,16 +54,19 @@ public class LocationsReaderTest {
     }
 
     @Test
-    public void testStartElement_readRepRefNotFound() {
-        try (MockedStatic<LocationUtil> mockedStatic = mockStatic(LocationUtil.class)) {
+    public void testStartElement_repRefKeptWithoutMapping() {
+        try {
             LocationsReader underTest = new LocationsReader();
             AttributesImpl attributes = new AttributesImpl();
             attributes.addAttribute("", "", IXmlTagsAndAttributes.LOC_REF_ATTR, "CDATA", "locationRef");
+            attributes.addAttribute("", "", IXmlTagsAndAttributes.REP_REF_ATTR, "CDATA", "repoRef1");
 
             underTest.startElement(uri, localName, "Loc", attributes);
 
-            mockedStatic.verify(() -> LocationUtil.readStoredLocation(attributes));
-            assertNull(underTest.getStoredLocation("locationRef"));
+            StoredLocation storedLocation = underTest.getLocationRecord("locationRef");
+            assertNotNull(storedLocation);
+            assertEquals(1, storedLocation.size());
+            assertEquals("repoRef1", storedLocation.getAttribute(IXmlTagsAndAttributes.REP_REF_ATTR));
         } catch (Exception e) {
             fail();
         }
@@ -95,6 +98,21 @@ public class LocationsReaderTest {
         }
     }
 
+    @Test
+    public void testStartElement_repRefNotInMapping() {
+        Map<String, String> repositoriesMapping = new HashMap<>();
+        repositoriesMapping.put("repoRef2", "repoAddress2");
+        AttributesImpl attributes = new AttributesImpl();
+        attributes.addAttribute("", "", IXmlTagsAndAttributes.LOC_REF_ATTR, "CDATA", "locationRef");
+        attributes.addAttribute("", "", IXmlTagsAndAttributes.REP_REF_ATTR, "CDATA", "repoRef1");
+        LocationsReader underTest = new LocationsReader(repositoriesMapping);
+
+        SAXException exception = assertThrows(SAXException.class, () -> underTest.startElement(uri, localName, "Loc", attributes));
+
+        assertEquals("Repository ref not matched: repoRef1", exception.getMessage());
+        assertNull(underTest.getLocationRecord("locationRef"));
+    }
+
     @Test
     public void testStartElement_repRefFound() throws Throwable {
         // Prepare repositoryMapping
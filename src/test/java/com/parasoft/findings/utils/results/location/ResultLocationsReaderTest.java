@@ -4,6 +4,7 @@ import com.parasoft.findings.utils.results.testableinput.DefaultLocationMatcher;
 import com.parasoft.findings.utils.results.testableinput.FindingsLocationMatcher;
 import com.parasoft.findings.utils.results.testableinput.ITestableInput;
 import com.parasoft.findings.utils.results.testableinput.ITestableInputLocationMatcher;
+import com.parasoft.findings.utils.results.testableinput.StoredLocation;
 import com.parasoft.findings.utils.results.violations.ResultLocation;
 import com.parasoft.findings.utils.results.violations.SourceRange;
 import org.junit.jupiter.api.Test;
@@ -54,18 +55,18 @@ public class ResultLocationsReaderTest {
         ResultLocationsReader underTest = spy(new ResultLocationsReader(mockedMatcher));
 
         // Location not found
-        doReturn(null).when(underTest).getStoredLocation("locationRef");
+        doReturn(null).when(underTest).getLocationRecord("locationRef");
         ITestableInput input1 = underTest.getTestableInput("locationRef", false);
         assertNull(input1);
 
         // Location found
-        Properties properties = new Properties();
-        doReturn(properties).when(underTest).getStoredLocation("locationRef");
+        StoredLocation storedLocation = StoredLocation.fromProperties(new Properties());
+        doReturn(storedLocation).when(underTest).getLocationRecord("locationRef");
         ITestableInput expectedInput = mock(ITestableInput.class);
-        doReturn(expectedInput).when(mockedMatcher).matchLocation(properties, false);
+        doReturn(expectedInput).when(mockedMatcher).matchStoredLocation(storedLocation, false);
         ITestableInput input2 = underTest.getTestableInput("locationRef", false);
 
-        verify(mockedMatcher).matchLocation(properties, false);
+        verify(mockedMatcher).matchStoredLocation(storedLocation, false);
         assertEquals(expectedInput, input2);
     }
 }
\ No newline at end of file
@@ -118,4 +118,24 @@ public class FindingsLocationMatcherTest {
         ITestableInput testResults = findingsLocationMatcher.matchLocation(null, Collections.singletonList(0L), null, null, false);
         assertNull(testResults);
     }
+
+    @Test
+    public void testMatchLocation_sharedCache() throws LocationsException {
+        TestableInputCache cache = new TestableInputCache();
+        FindingsLocationMatcher first = new FindingsLocationMatcher(cache);
+        FindingsLocationMatcher second = new FindingsLocationMatcher(cache);
+
+        ITestableInput input = first.matchLocation(new PathInput("test/project/file"), Collections.singletonList(0L), null, null, false);
+        ITestableInput sameInput = second.matchLocation(new PathInput("test/project/file"), Collections.singletonList(0L), null, null, false);
+        ITestableInput otherInput = second.matchLocation(new PathInput("test/project/file", "other/file", null, null),
+                Collections.singletonList(0L), null, null, false);
+
+        assertSame(cache, first.getInputsCache());
+        assertSame(input, sameInput);
+        assertTrue(((FileTestableInput) input).isFrozen());
+        assertNotSame(input, otherInput);
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getHitsCount());
+        assertEquals(2, cache.getMissesCount());
+    }
 }
@@ -0,0 +1,70 @@
+package com.parasoft.findings.utils.results.testableinput;
+
+import com.parasoft.findings.utils.common.util.StringTable;
+import com.parasoft.findings.utils.results.xml.IXmlTagsAndAttributes;
+import org.junit.jupiter.api.Test;
+import org.xml.sax.helpers.AttributesImpl;
+
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StoredLocationTest {
+
+    @Test
+    public void testRead() {
+        AttributesImpl attributes = new AttributesImpl();
+        addAttribute(attributes, IXmlTagsAndAttributes.LOC_REF_ATTR, "1");
+        addAttribute(attributes, IXmlTagsAndAttributes.URI_ATTR, "file:/workspace/project/src/A.java");
+        addAttribute(attributes, IXmlTagsAndAttributes.PROJECT_ATTR, "project");
+        addAttribute(attributes, IXmlTagsAndAttributes.RESOURCE_HASH_ATTR, "12345");
+        addAttribute(attributes, IXmlTagsAndAttributes.REP_REF_ATTR, "1");
+
+        StoredLocation storedLocation = StoredLocation.read(attributes, new StringTable(), "repository");
+
+        assertEquals("file:/workspace/project/src/A.java", storedLocation.getUri());
+        assertEquals("project", storedLocation.getProject());
+        assertNull(storedLocation.getProjectId());
+        assertNull(storedLocation.getAttribute(IXmlTagsAndAttributes.LOC_REF_ATTR));
+        assertEquals("12345", storedLocation.getAttribute(IXmlTagsAndAttributes.RESOURCE_HASH_ATTR));
+        assertEquals("repository", storedLocation.getAttribute(IXmlTagsAndAttributes.REP_REF_ATTR));
+        assertEquals("project", storedLocation.getAttribute(IXmlTagsAndAttributes.PROJECT_ATTR));
+        assertEquals(4, storedLocation.size());
+        assertEquals(4, storedLocation.getAttributeNames().size());
+    }
+
+    @Test
+    public void testPropertiesConversion() {
+        Properties properties = new Properties();
+        properties.setProperty(IXmlTagsAndAttributes.LOC_ATTR, "/project/src/A.java");
+        properties.setProperty(IXmlTagsAndAttributes.FS_PATH, "/workspace/project/src/A.java");
+        properties.setProperty(IXmlTagsAndAttributes.SYMBOLS_ATTR, "sym");
+        properties.setProperty("customAttr", "value");
+
+        StoredLocation storedLocation = StoredLocation.fromProperties(properties);
+
+        assertEquals("/project/src/A.java", storedLocation.getLoc());
+        assertEquals("/workspace/project/src/A.java", storedLocation.getFileSystemPath());
+        assertEquals("sym", storedLocation.getSymbols());
+        assertEquals("value", storedLocation.getAttribute("customAttr"));
+        assertNull(storedLocation.getAttribute("notExisting"));
+        assertEquals(properties, storedLocation.toProperties());
+    }
+
+    @Test
+    public void testCreateTestableInputFromLocation() throws Exception {
+        Properties properties = new Properties();
+        properties.setProperty(IXmlTagsAndAttributes.URI_ATTR, "file:/workspace/project/src/A.java");
+        properties.setProperty(IXmlTagsAndAttributes.RESOURCE_HASH_ATTR, "12345");
+        properties.setProperty("customAttr", "value");
+
+        FileTestableInput input = (FileTestableInput) LocationUtil.createTestableInputFromLocation(StoredLocation.fromProperties(properties));
+
+        assertEquals("value", input.getAttribute("customAttr"));
+        assertNull(input.getAttribute(IXmlTagsAndAttributes.RESOURCE_HASH_ATTR));
+    }
+
+    private static void addAttribute(AttributesImpl attributes, String sName, String sValue) {
+        attributes.addAttribute("", "", sName, "CDATA", sValue);
+    }
+}
@@ -0,0 +1,86 @@
+package com.parasoft.findings.utils.results.testableinput;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestableInputCacheTest {
+
+    @Test
+    public void testGetAndPut() {
+        TestableInputCache cache = new TestableInputCache();
+        PathInput input = new PathInput("path");
+        cache.put("path", input);
+
+        assertSame(input, cache.get("path"));
+        assertNull(cache.get("other"));
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.getHitsCount());
+        assertEquals(1, cache.getMissesCount());
+        assertEquals(0.5, cache.getHitRatio());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertNull(cache.get("path"));
+    }
+
+    @Test
+    public void testPut_evictsLeastRecentlyUsed() {
+        TestableInputCache cache = new TestableInputCache(1);
+        cache.put("first", new PathInput("first"));
+        cache.put("second", new PathInput("second"));
+
+        assertEquals(1, cache.size());
+        assertNull(cache.get("first"));
+        assertNotNull(cache.get("second"));
+    }
+
+    @Test
+    public void testPut_sizeBounded() {
+        TestableInputCache cache = new TestableInputCache(100);
+        for (int i = 0; i < 1000; i++) {
+            cache.put("path" + i, new PathInput("path" + i));
+        }
+
+        assertTrue(cache.size() <= 100);
+        assertNotNull(cache.get("path999"));
+    }
+
+    @Test
+    public void testConcurrentAccess() throws Exception {
+        TestableInputCache cache = new TestableInputCache(500);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10000; i++) {
+                        String sPath = "path" + (i % 1000);
+                        if (cache.get(sPath) == null) {
+                            cache.put(sPath, new PathInput(sPath));
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertTrue(cache.size() <= 500);
+        assertEquals(40000, cache.getHitsCount() + cache.getMissesCount());
+    }
+
+    @Test
+    public void testConstructor_illegalSize() {
+        assertThrows(IllegalArgumentException.class, () -> new TestableInputCache(0));
+    }
+}
@@ -0,0 +1,111 @@
+package com.parasoft.findings.utils.results.testableinput;
+
+import com.parasoft.findings.utils.results.violations.IViolation;
+import com.parasoft.findings.utils.results.violations.LocationsException;
+import com.parasoft.findings.utils.results.violations.XmlReportViolations;
+import com.parasoft.findings.utils.results.violations.ViolationsTestUtil;
+import com.parasoft.findings.utils.results.violations.XmlReportViolationsImporter;
+import com.parasoft.findings.utils.results.xml.IXmlTagsAndAttributes;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestableInputRegistryTest {
+
+    @Test
+    public void testGetTestableInput_sameLocation() throws LocationsException {
+        TestableInputRegistry registry = new TestableInputRegistry(new TestableInputCache());
+        Properties location = createLocation("src/A.java");
+        Properties sameLocation = createLocation("src/A.java");
+        sameLocation.setProperty(IXmlTagsAndAttributes.RESOURCE_HASH_ATTR, "12345");
+
+        ITestableInput input = registry.getTestableInput(StoredLocation.fromProperties(location));
+
+        assertInstanceOf(ProjectFileTestableInput.class, input);
+        assertSame(input, registry.getTestableInput(StoredLocation.fromProperties(sameLocation)));
+        assertEquals(1, registry.getCache().size());
+    }
+
+    @Test
+    public void testGetTestableInput_differentLocations() throws LocationsException {
+        TestableInputRegistry registry = new TestableInputRegistry(new TestableInputCache());
+        Properties location = createLocation("src/A.java");
+        Properties otherLocation = createLocation("src/B.java");
+        Properties attributedLocation = createLocation("src/A.java");
+        attributedLocation.setProperty("customAttr", "value");
+
+        ITestableInput input = registry.getTestableInput(StoredLocation.fromProperties(location));
+        ITestableInput attributedInput = registry.getTestableInput(StoredLocation.fromProperties(attributedLocation));
+
+        assertNotSame(input, registry.getTestableInput(StoredLocation.fromProperties(otherLocation)));
+        assertNotSame(input, attributedInput);
+        assertEquals("value", ((FileTestableInput) attributedInput).getAttribute("customAttr"));
+        assertEquals(3, registry.getCache().size());
+    }
+
+    @Test
+    public void testGetTestableInput_inputsUnmodifiable() throws LocationsException {
+        TestableInputRegistry registry = new TestableInputRegistry(new TestableInputCache());
+        Properties location = createLocation("src/A.java");
+        Properties fileLocation = new Properties();
+        fileLocation.setProperty(IXmlTagsAndAttributes.URI_ATTR, "file:/workspace/project/src/B.java");
+        Properties remoteLocation = new Properties();
+        remoteLocation.setProperty(IXmlTagsAndAttributes.URI_ATTR, "https://example.com/src/C.java");
+        remoteLocation.setProperty(IXmlTagsAndAttributes.PROJECT_ID_ATTR, "project");
+        remoteLocation.setProperty(IXmlTagsAndAttributes.PROJECT_ATTR, "project");
+
+        ProjectFileTestableInput input = (ProjectFileTestableInput) registry.getTestableInput(StoredLocation.fromProperties(location));
+        FileTestableInput fileInput = (FileTestableInput) registry.getTestableInput(StoredLocation.fromProperties(fileLocation));
+        RemoteTestableInput remoteInput = (RemoteTestableInput) registry.getTestableInput(StoredLocation.fromProperties(remoteLocation));
+
+        assertTrue(input.isFrozen());
+        UnsupportedOperationException exception = assertThrows(UnsupportedOperationException.class,
+                () -> input.addAttribute("customAttr", "value"));
+        assertEquals("Shared testable input cannot be modified.", exception.getMessage());
+        assertNull(input.getAttribute("customAttr"));
+        assertThrows(UnsupportedOperationException.class, () -> fileInput.addAttribute("customAttr", "value"));
+        assertThrows(UnsupportedOperationException.class, () -> remoteInput.addAttribute("customAttr", "value"));
+        assertNull(remoteInput.getAttribute("customAttr"));
+    }
+
+    @Test
+    public void testGetTestableInput_invalidLocation() {
+        TestableInputRegistry registry = new TestableInputRegistry(new TestableInputCache());
+
+        assertThrows(LocationsException.class, () -> registry.getTestableInput(StoredLocation.fromProperties(new Properties())));
+        assertEquals(0, registry.getCache().size());
+    }
+
+    @Test
+    public void testImport_inputsSharedAcrossReports() {
+        File reportPath = new File("src/test/resources/xml/staticanalysis/", "jtest_report_202202.xml");
+        XmlReportViolationsImporter importer = new XmlReportViolationsImporter(new Properties(), new TestableInputCache());
+
+        List<IViolation> first = importViolations(importer, reportPath);
+        List<IViolation> second = importViolations(importer, reportPath);
+
+        assertEquals(first.size(), second.size());
+        for (int i = 0; i < first.size(); i++) {
+            assertSame(first.get(i).getResultLocation().getTestableInput(), second.get(i).getResultLocation().getTestableInput());
+        }
+    }
+
+    private static List<IViolation> importViolations(XmlReportViolationsImporter importer, File reportPath) {
+        XmlReportViolations violations = importer.performImport(reportPath);
+        return ViolationsTestUtil.toList(violations);
+    }
+
+    private static Properties createLocation(String sRelativePath) {
+        Properties location = new Properties();
+        location.setProperty(IXmlTagsAndAttributes.URI_ATTR, "file:/workspace/project/" + sRelativePath);
+        location.setProperty(IXmlTagsAndAttributes.PROJECT_ID_ATTR, "project");
+        location.setProperty(IXmlTagsAndAttributes.PROJECT_ATTR, "project");
+        location.setProperty(IXmlTagsAndAttributes.PROJECT_PATH_ATTR, "/project");
+        location.setProperty(IXmlTagsAndAttributes.RESOURCE_PROJECT_RELATIVE_PATH_ATTR, sRelativePath);
+        return location;
+    }
+}
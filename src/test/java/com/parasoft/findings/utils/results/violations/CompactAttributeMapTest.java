@@ -0,0 +1,113 @@
+package com.parasoft.findings.utils.results.violations;
+
+import com.parasoft.findings.utils.results.xml.IXmlTagsAndAttributes;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompactAttributeMapTest {
+
+    @Test
+    public void testPutAndGet() {
+        CompactAttributeMap map = new CompactAttributeMap(0);
+        for (int i = 0; i < 20; i++) {
+            assertNull(map.put("key" + i, "value" + i));
+        }
+        assertEquals("value0", map.put("key0", "changed"));
+
+        assertEquals(20, map.size());
+        assertEquals("changed", map.get("key0"));
+        assertEquals("value19", map.get("key19"));
+        assertNull(map.get("key20"));
+        assertTrue(map.containsKey("key5"));
+        assertFalse(map.containsKey(null));
+        assertThrows(NullPointerException.class, () -> map.put(null, "value"));
+    }
+
+    @Test
+    public void testInsertionOrderAndRemove() {
+        CompactAttributeMap map = new CompactAttributeMap();
+        map.put("c", "1");
+        map.put("a", "2");
+        map.put("b", "3");
+
+        assertEquals("2", map.remove("a"));
+        assertNull(map.remove("a"));
+
+        List<String> keys = new ArrayList<>(map.keySet());
+        assertEquals(2, keys.size());
+        assertEquals("c", keys.get(0));
+        assertEquals("b", keys.get(1));
+    }
+
+    @Test
+    public void testEqualsHashMap() {
+        CompactAttributeMap map = new CompactAttributeMap();
+        Map<String, String> expected = new HashMap<>();
+        for (int i = 0; i < 5; i++) {
+            map.put("key" + i, "value" + i);
+            expected.put("key" + i, "value" + i);
+        }
+        map.put("nullValue", null);
+        expected.put("nullValue", null);
+
+        assertEquals(expected, map);
+        assertEquals(map, expected);
+        assertEquals(expected.hashCode(), map.hashCode());
+    }
+
+    @Test
+    public void testEntryIterator() {
+        CompactAttributeMap map = new CompactAttributeMap();
+        map.put("a", "1");
+        map.put("b", "2");
+        map.put("c", "3");
+
+        Iterator<Map.Entry<String, String>> it = map.entrySet().iterator();
+        it.next().setValue("changed");
+        it.next();
+        it.remove();
+
+        assertEquals(2, map.size());
+        assertEquals("changed", map.get("a"));
+        assertFalse(map.containsKey("b"));
+        assertEquals("c", it.next().getKey());
+        assertFalse(it.hasNext());
+
+        Iterator<Map.Entry<String, String>> it2 = map.entrySet().iterator();
+        map.put("d", "4");
+        assertThrows(ConcurrentModificationException.class, it2::next);
+    }
+
+    @Test
+    public void testClearAndTrimToSize() {
+        CompactAttributeMap map = new CompactAttributeMap();
+        map.put("a", "1");
+        map.trimToSize();
+        map.put("b", "2");
+        assertEquals(2, map.size());
+
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.get("a"));
+    }
+
+    @Test
+    public void testKnownKeysCanonicalized() {
+        String sKey = new String(IXmlTagsAndAttributes.RULE_ATTR);
+        CompactAttributeMap map = new CompactAttributeMap();
+        map.put(sKey, "rule");
+
+        assertSame(IXmlTagsAndAttributes.RULE_ATTR, map.keySet().iterator().next());
+        assertSame(IXmlTagsAndAttributes.RULE_ATTR, CompactAttributeMap.getCanonicalKey(sKey));
+        String sUnknown = new String("unknownAttr");
+        assertSame(sUnknown, CompactAttributeMap.getCanonicalKey(sUnknown));
+    }
+}
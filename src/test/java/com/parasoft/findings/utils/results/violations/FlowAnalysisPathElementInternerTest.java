@@ -0,0 +1,158 @@
+package com.parasoft.findings.utils.results.violations;
+
+import com.parasoft.findings.utils.results.testableinput.FileTestableInput;
+import com.parasoft.findings.utils.results.xml.FileImportPreferences;
+import com.parasoft.findings.utils.results.xml.XmlReportReader;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FlowAnalysisPathElementInternerTest {
+
+    private static final ResultLocation LOCATION = new ResultLocation(new FileTestableInput(new File("a.java")), new SourceRange(1, 2));
+
+    @Test
+    public void testIntern_sharedSubtree() {
+        FlowAnalysisPathElementInterner interner = new FlowAnalysisPathElementInterner();
+
+        FlowAnalysisPathElement leaf1 = interner.intern(createElement("leaf", new IFlowAnalysisPathElement[0], "C"));
+        FlowAnalysisPathElement root1 = interner.intern(createElement("root", new IFlowAnalysisPathElement[]{leaf1}, "C"));
+        FlowAnalysisPathElement leaf2 = interner.intern(createElement("leaf", new IFlowAnalysisPathElement[0], "C"));
+        FlowAnalysisPathElement root2 = interner.intern(createElement("root", new IFlowAnalysisPathElement[]{leaf2}, "C"));
+
+        assertSame(leaf1, leaf2);
+        assertSame(root1, root2);
+        assertEquals(2, interner.size());
+        assertEquals(4, interner.getLookupsCount());
+        assertEquals(2, interner.getHitsCount());
+        assertEquals(0.5, interner.getSharingRatio());
+    }
+
+    @Test
+    public void testIntern_differentContent() {
+        FlowAnalysisPathElementInterner interner = new FlowAnalysisPathElementInterner();
+
+        FlowAnalysisPathElement element = interner.intern(createElement("leaf", new IFlowAnalysisPathElement[0], "C"));
+        FlowAnalysisPathElement otherType = interner.intern(createElement("leaf", new IFlowAnalysisPathElement[0], "P"));
+        FlowAnalysisPathElement withAttribute = createElement("leaf", new IFlowAnalysisPathElement[0], "C");
+        withAttribute.addAttribute("important", "true");
+        withAttribute = interner.intern(withAttribute);
+
+        assertNotSame(element, otherType);
+        assertNotSame(element, withAttribute);
+        assertEquals(3, interner.size());
+        assertEquals(0, interner.getHitsCount());
+    }
+
+    @Test
+    public void testIntern_sameContentDifferentChildren() {
+        FlowAnalysisPathElementInterner interner = new FlowAnalysisPathElementInterner();
+        FlowAnalysisPathElement leaf = createElement("leaf", new IFlowAnalysisPathElement[0], "C");
+        FlowAnalysisPathElement equalLeaf = createElement("leaf", new IFlowAnalysisPathElement[0], "C");
+
+        FlowAnalysisPathElement root1 = interner.intern(createElement("root", new IFlowAnalysisPathElement[]{leaf}, "C"));
+        FlowAnalysisPathElement root2 = interner.intern(createElement("root", new IFlowAnalysisPathElement[]{equalLeaf}, "C"));
+
+        // children are expected to be interned first, not interned children are compared by identity
+        assertNotSame(root1, root2);
+    }
+
+    @Test
+    public void testIntern_full() {
+        FlowAnalysisPathElementInterner interner = new FlowAnalysisPathElementInterner(1);
+
+        interner.intern(createElement("first", new IFlowAnalysisPathElement[0], "C"));
+        FlowAnalysisPathElement second = createElement("second", new IFlowAnalysisPathElement[0], "C");
+
+        assertSame(second, interner.intern(second));
+        assertNotSame(second, interner.intern(createElement("second", new IFlowAnalysisPathElement[0], "C")));
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    public void testInternAnnotations() {
+        FlowAnalysisPathElementInterner interner = new FlowAnalysisPathElementInterner();
+        List<PathElementAnnotation> annotations1 = new ArrayList<>(Arrays.asList(
+                new PathElementAnnotation("message", "kind"), new PathElementAnnotation("other", "kind")));
+        List<PathElementAnnotation> annotations2 = new ArrayList<>(Arrays.asList(new PathElementAnnotation("message", "kind")));
+
+        interner.internAnnotations(annotations1);
+        interner.internAnnotations(annotations2);
+        interner.internAnnotations(null);
+
+        assertSame(annotations1.get(0), annotations2.get(0));
+        FlowAnalysisPathElement element1 = interner.intern(new FlowAnalysisPathElement("leaf", LOCATION, null,
+                new IFlowAnalysisPathElement[0], new FlowAnalysisPathElement.TypeImpl("C"), null, null, annotations2));
+        FlowAnalysisPathElement element2 = interner.intern(new FlowAnalysisPathElement("leaf", LOCATION, null,
+                new IFlowAnalysisPathElement[0], new FlowAnalysisPathElement.TypeImpl("C"), null, null, annotations1));
+        assertNotSame(element1, element2);
+    }
+
+    @Test
+    public void testImport_pathElementsShared() throws Exception {
+        File reportPath = new File("src/test/resources/xml/staticanalysis/cpptest_std_report_202001.xml");
+        FileImportPreferences preferences = new FileImportPreferences(reportPath);
+        preferences.setPathElementsSharingEnabled(true);
+        XmlReportReader reader = new XmlReportReader(preferences, null);
+        try (InputStream is = new FileInputStream(reportPath)) {
+            reader.parse(is);
+        }
+
+        FlowAnalysisPathElementInterner interner = reader.getPathElementInterner();
+        assertTrue(interner.getLookupsCount() > 0);
+        assertTrue(interner.getHitsCount() > 0);
+        int pathsCount = 0;
+        for (IViolation violation : reader.getImportedViolations()) {
+            if (violation instanceof FlowAnalysisViolation) {
+                assertTrue(((FlowAnalysisViolation) violation).getPathElements().length > 0);
+                pathsCount++;
+            }
+        }
+        assertTrue(pathsCount > 0);
+    }
+
+    @Test
+    public void testImport_pathElementsNotSharedByDefault() throws Exception {
+        File reportPath = new File("src/test/resources/xml/staticanalysis/cpptest_std_report_202001.xml");
+        XmlReportReader reader = new XmlReportReader(new FileImportPreferences(reportPath), null);
+        try (InputStream is = new FileInputStream(reportPath)) {
+            reader.parse(is);
+        }
+
+        assertNull(reader.getPathElementInterner());
+        for (IViolation violation : reader.getImportedViolations()) {
+            if (violation instanceof FlowAnalysisViolation) {
+                for (IFlowAnalysisPathElement element : ((FlowAnalysisViolation) violation).getPathElements()) {
+                    assertFalse(((FlowAnalysisPathElement) element).isShared());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testIntern_sharedElementUnmodifiable() {
+        FlowAnalysisPathElementInterner interner = new FlowAnalysisPathElementInterner();
+        FlowAnalysisPathElement element = interner.intern(new FlowAnalysisPathElement("leaf", LOCATION, new HashMap<>(),
+                new IFlowAnalysisPathElement[0], new FlowAnalysisPathElement.TypeImpl("C"), null, null, new ArrayList<>()));
+
+        assertTrue(element.isShared());
+        UnsupportedOperationException exception = assertThrows(UnsupportedOperationException.class,
+                () -> element.addAttribute("key", "value"));
+        assertEquals("Shared path element cannot be modified.", exception.getMessage());
+        assertThrows(UnsupportedOperationException.class, () -> element.getAnnotations().add(null));
+        assertTrue(element.getAttributes().isEmpty());
+    }
+
+    private static FlowAnalysisPathElement createElement(String sDescription, IFlowAnalysisPathElement[] aChildren, String sType) {
+        return new FlowAnalysisPathElement(sDescription, LOCATION, null, aChildren,
+                new FlowAnalysisPathElement.TypeImpl(sType), "java.lang.Exception", "method", null);
+    }
+}
@@ -0,0 +1,170 @@
+package com.parasoft.findings.utils.results.violations;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class MultiReportViolationsImporterTest {
+
+    private static final File REPORTS_DIR = new File("src/test/resources/xml/staticanalysis/");
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(3);
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testPerformImport_sameViolationsAsSequentialImport() {
+        List<File> reports = Arrays.asList(new File(REPORTS_DIR, "cpptest_pro_report_202001.xml"),
+                new File(REPORTS_DIR, "jtest_report_202202.xml"),
+                new File(REPORTS_DIR, "dottest_report_202201.xml"));
+
+        XmlReportViolationsImporter importer = new XmlReportViolationsImporter(new Properties());
+        List<IViolation> expected = new ArrayList<>();
+        for (File report : reports) {
+            XmlReportViolations violations = importer.performImport(report);
+            while (violations.hasNext()) {
+                expected.add(violations.next());
+            }
+        }
+
+        MultiReportViolations violations = new MultiReportViolationsImporter(new Properties(), executor).performImport(reports);
+        List<IViolation> actual = new ArrayList<>();
+        List<File> actualReports = new ArrayList<>();
+        while (violations.hasNext()) {
+            actual.add(violations.next());
+            assertNotNull(violations.getCurrentRulesImportHandler());
+            actualReports.add(violations.getCurrentReport());
+        }
+
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, actual);
+        assertEquals(reports.get(0), actualReports.get(0));
+        assertEquals(reports.get(2), actualReports.get(actualReports.size() - 1));
+    }
+
+    @Test
+    public void testPerformImport_deduplicated() {
+        File report = new File(REPORTS_DIR, "cpptest_std_report_202201.xml");
+        XmlReportViolations singleViolations = new XmlReportViolationsImporter(new Properties()).performImport(report);
+        ViolationsDeduplicator singleDeduplicator = new ViolationsDeduplicator();
+        List<IViolation> expected = new ArrayList<>();
+        while (singleViolations.hasNext()) {
+            IViolation violation = singleViolations.next();
+            if (singleDeduplicator.add(violation)) {
+                expected.add(violation);
+            }
+        }
+
+        Properties properties = new Properties();
+        properties.setProperty(MultiReportViolationsImporter.DEDUPLICATE_KEY, "true");
+        MultiReportViolations violations = new MultiReportViolationsImporter(properties, executor)
+                .performImport(Arrays.asList(report, report));
+        List<IViolation> actual = new ArrayList<>();
+        while (violations.hasNext()) {
+            actual.add(violations.next());
+            assertEquals(report, violations.getCurrentReport());
+        }
+
+        assertFalse(expected.isEmpty());
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getMessage(), actual.get(i).getMessage());
+            assertEquals(expected.get(i).getResultLocation().getSourceRange(), actual.get(i).getResultLocation().getSourceRange());
+        }
+        ViolationsDeduplicator deduplicator = violations.getDeduplicator();
+        assertEquals(expected.size(), deduplicator.size());
+        assertEquals(0, deduplicator.getCollisionsCount());
+        assertTrue(deduplicator.getDuplicatesCount() >= expected.size());
+    }
+
+    @Test
+    public void testPerformImport_notDeduplicatedByDefault() {
+        File report = new File(REPORTS_DIR, "jtest_report_202202.xml");
+
+        MultiReportViolations violations = new MultiReportViolationsImporter(new Properties(), executor)
+                .performImport(Arrays.asList(report, report));
+
+        assertNull(violations.getDeduplicator());
+    }
+
+    @Test
+    public void testPerformImport_notExistingReportSkipped() {
+        List<File> reports = Arrays.asList(new File(REPORTS_DIR, "not_existing_report.xml"),
+                new File(REPORTS_DIR, "jtest_report_202202.xml"));
+
+        MultiReportViolations violations = new MultiReportViolationsImporter(new Properties(), executor).performImport(reports);
+
+        assertTrue(violations.hasNext());
+        violations.next();
+        assertEquals(reports.get(1), violations.getCurrentReport());
+    }
+
+    @Test
+    public void testPerformImport_close() {
+        List<File> reports = Arrays.asList(new File(REPORTS_DIR, "cpptest_std_report_202201.xml"),
+                new File(REPORTS_DIR, "jtest_report_202202.xml"));
+
+        MultiReportViolations violations = new MultiReportViolationsImporter(new Properties(), executor).performImport(reports);
+        assertNotNull(violations.next());
+        violations.close();
+
+        assertFalse(violations.hasNext());
+        assertNull(violations.getCurrentReport());
+    }
+
+    @Test
+    public void testMoveToNextReport_previousReportClosed() {
+        XmlReportViolations first = mockViolations();
+        XmlReportViolations second = mockViolations();
+        XmlReportViolationsImporter importer = mock(XmlReportViolationsImporter.class);
+        when(importer.importReport(any())).thenReturn(first, second);
+
+        MultiReportViolations violations = new MultiReportViolations(importer,
+                Arrays.asList(new File("first.xml"), new File("second.xml")), Runnable::run, null);
+        violations.next();
+        verify(first, never()).close();
+        violations.next();
+
+        verify(first).close();
+        verify(second, never()).close();
+        assertFalse(violations.hasNext());
+        verify(second).close();
+    }
+
+    @Test
+    public void testClose_finishedImportsClosed() {
+        XmlReportViolations first = mockViolations();
+        XmlReportViolations second = mockViolations();
+        XmlReportViolationsImporter importer = mock(XmlReportViolationsImporter.class);
+        when(importer.importReport(any())).thenReturn(first, second);
+
+        MultiReportViolations violations = new MultiReportViolations(importer,
+                Arrays.asList(new File("first.xml"), new File("second.xml")), Runnable::run, null);
+        violations.next();
+        violations.close();
+
+        verify(first).close();
+        verify(second).close();
+    }
+
+    private static XmlReportViolations mockViolations() {
+        XmlReportViolations violations = mock(XmlReportViolations.class);
+        when(violations.hasNext()).thenReturn(true, false);
+        when(violations.next()).thenReturn(mock(IViolation.class));
+        return violations;
+    }
+}
@@ -0,0 +1,121 @@
+package com.parasoft.findings.utils.results.violations;
+
+import com.parasoft.findings.utils.results.xml.RulesImportHandler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReportCacheTest {
+
+    private static final File REPORTS_DIR = new File("src/test/resources/xml/staticanalysis/");
+
+    @TempDir
+    File _tempDir;
+
+    @ParameterizedTest
+    @ValueSource(strings = {"cpptest_pro_report_202001.xml", "cpptest_pro_report_202201.xml", "cpptest_std_report_202001.xml",
+            "cpptest_std_report_202201.xml", "dottest_report_202001.xml", "dottest_report_202201.xml",
+            "jtest_report_202001.xml", "jtest_report_202202.xml", "soatest_report_202101.xml",
+            "soatest_report_202201.xml", "soatest_report_202202.xml"})
+    public void testPerformImport_cachedViolationsSameAsImported(String sReportName) {
+        File reportPath = new File(REPORTS_DIR, sReportName);
+        XmlReportViolationsImporter importer = new XmlReportViolationsImporter(createProperties(Long.MAX_VALUE));
+
+        XmlReportViolations imported = importer.performImport(reportPath);
+        assertEquals(1, getCacheEntries().length);
+        XmlReportViolations cached = importer.performImport(reportPath);
+
+        List<IViolation> expected = ViolationsTestUtil.toList(imported);
+        List<IViolation> actual = ViolationsTestUtil.toList(cached);
+        ViolationsTestUtil.assertSameViolations(expected, actual);
+        RulesImportHandler expectedRules = imported.getRulesImportHandler();
+        RulesImportHandler actualRules = cached.getRulesImportHandler();
+        assertEquals(expectedRules.getRules().keySet(), actualRules.getRules().keySet());
+        assertEquals(expectedRules.getCategories(), actualRules.getCategories());
+        for (String sRuleId : expectedRules.getRules().keySet()) {
+            assertEquals(expectedRules.getRuleAttributes(sRuleId).getRuleHeader(), actualRules.getRuleAttributes(sRuleId).getRuleHeader());
+            assertEquals(expectedRules.getRuleAttributes(sRuleId).getRuleCategory(), actualRules.getRuleAttributes(sRuleId).getRuleCategory());
+        }
+    }
+
+    @Test
+    public void testPerformImport_changedReportNotServedFromCache()
+            throws IOException {
+        File reportPath = new File(_tempDir, "report.xml");
+        Files.copy(new File(REPORTS_DIR, "jtest_report_202202.xml").toPath(), reportPath.toPath());
+        XmlReportViolationsImporter importer = new XmlReportViolationsImporter(createProperties(Long.MAX_VALUE));
+        int originalCount = ViolationsTestUtil.toList(importer.performImport(reportPath)).size();
+
+        Files.copy(new File(REPORTS_DIR, "jtest_report_202001.xml").toPath(), reportPath.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        int expectedCount = ViolationsTestUtil.toList(new XmlReportViolationsImporter(new Properties()).performImport(reportPath)).size();
+        assertNotEquals(originalCount, expectedCount);
+
+        assertEquals(expectedCount, ViolationsTestUtil.toList(importer.performImport(reportPath)).size());
+        assertEquals(1, getCacheEntries().length);
+    }
+
+    @Test
+    public void testPerformImport_corruptedEntryRemoved()
+            throws IOException {
+        File reportPath = new File(REPORTS_DIR, "dottest_report_202201.xml");
+        XmlReportViolationsImporter importer = new XmlReportViolationsImporter(createProperties(Long.MAX_VALUE));
+        int expectedCount = ViolationsTestUtil.toList(importer.performImport(reportPath)).size();
+        File entry = getCacheEntries()[0];
+        byte[] aContent = Files.readAllBytes(entry.toPath());
+        Files.write(entry.toPath(), Arrays.copyOf(aContent, aContent.length / 2));
+
+        assertEquals(expectedCount, ViolationsTestUtil.toList(importer.performImport(reportPath)).size());
+        assertEquals(1, getCacheEntries().length);
+        assertEquals(expectedCount, ViolationsTestUtil.toList(importer.performImport(reportPath)).size());
+    }
+
+    @Test
+    public void testEvict_leastRecentlyUsedRemoved() {
+        XmlReportViolationsImporter importer = new XmlReportViolationsImporter(createProperties(Long.MAX_VALUE));
+        File first = new File(REPORTS_DIR, "cpptest_std_report_202201.xml");
+        File second = new File(REPORTS_DIR, "jtest_report_202202.xml");
+        importer.performImport(first);
+        importer.performImport(second);
+        File[] aEntries = getCacheEntries();
+        assertEquals(2, aEntries.length);
+
+        ReportCache cache = new ReportCache(new File(_tempDir, "cache"), Math.max(aEntries[0].length(), aEntries[1].length()));
+        File firstEntry = cache.getEntryFile(cache.createKey(first));
+        File secondEntry = cache.getEntryFile(cache.createKey(second));
+        assertTrue(firstEntry.setLastModified(System.currentTimeMillis() - 60000L));
+        cache.evict();
+
+        assertFalse(firstEntry.exists());
+        assertTrue(secondEntry.exists());
+    }
+
+    @Test
+    public void testPerformImport_cacheDisabled() {
+        new XmlReportViolationsImporter(new Properties()).performImport(new File(REPORTS_DIR, "jtest_report_202202.xml"));
+
+        assertEquals(0, getCacheEntries().length);
+    }
+
+    private Properties createProperties(long maxSize) {
+        Properties properties = new Properties();
+        properties.setProperty(XmlReportViolationsImporter.CACHE_DIR_KEY, new File(_tempDir, "cache").getAbsolutePath());
+        properties.setProperty(XmlReportViolationsImporter.CACHE_MAX_SIZE_KEY, String.valueOf(maxSize));
+        return properties;
+    }
+
+    private File[] getCacheEntries() {
+        File[] aEntries = new File(_tempDir, "cache").listFiles((dir, sName) -> sName.endsWith(".rcache"));
+        return (aEntries == null) ? new File[0] : aEntries;
+    }
+}
@@ -0,0 +1,96 @@
+package com.parasoft.findings.utils.results.violations;
+
+import com.parasoft.findings.utils.results.xml.SyntheticReportGenerator;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SortedXmlReportViolationsTest {
+
+    private static final Comparator<IViolation> COMPARATOR = ViolationComparators.bySeverity()
+            .thenComparing(ViolationComparators.byFile())
+            .thenComparing(ViolationComparators.byLine());
+
+    @TempDir
+    static File tempDir;
+
+    private static File reportPath;
+
+    @BeforeAll
+    public static void generateReport() throws Exception {
+        SyntheticReportGenerator generator = new SyntheticReportGenerator(42);
+        generator.setViolationsCount(3000);
+        generator.setViolationsMix(5, 2, 2, 1);
+        generator.setLocationsCount(20);
+        reportPath = new File(tempDir, "synthetic.xml");
+        generator.generate(reportPath);
+    }
+
+    @Test
+    public void testSort_inMemory() throws Exception {
+        XmlReportViolationsImporter importer = new XmlReportViolationsImporter(new Properties());
+
+        try (SortedXmlReportViolations sorted = new SortedXmlReportViolations(importer.performImport(reportPath), COMPARATOR, 0L)) {
+            assertEquals(0, sorted.getRunsCount());
+            ViolationsTestUtil.assertSameViolations(getExpected(), ViolationsTestUtil.toList(sorted));
+        }
+    }
+
+    @Test
+    public void testSort_spilledRuns() throws Exception {
+        XmlReportViolationsImporter importer = new XmlReportViolationsImporter(new Properties());
+
+        try (SortedXmlReportViolations sorted = new SortedXmlReportViolations(importer.performImport(reportPath), COMPARATOR, 200000L)) {
+            assertTrue(sorted.getRunsCount() > 1);
+            assertNotNull(sorted.getRulesImportHandler());
+            ViolationsTestUtil.assertSameViolations(getExpected(), ViolationsTestUtil.toList(sorted));
+        }
+    }
+
+    @Test
+    public void testSort_multiPassMerge() throws Exception {
+        XmlReportViolationsImporter importer = new XmlReportViolationsImporter(new Properties());
+
+        try (SortedXmlReportViolations sorted = new SortedXmlReportViolations(importer.performImport(reportPath), COMPARATOR, 8000L)) {
+            assertTrue(sorted.getRunsCount() > 1);
+            assertTrue(sorted.getRunsCount() <= 64);
+            ViolationsTestUtil.assertSameViolations(getExpected(), ViolationsTestUtil.toList(sorted));
+        }
+    }
+
+    @Test
+    public void testPerformSortedImport() {
+        Properties properties = new Properties();
+        properties.setProperty(XmlReportViolationsImporter.MEMORY_BUDGET_KEY, "1");
+        XmlReportViolationsImporter importer = new XmlReportViolationsImporter(properties);
+
+        XmlReportViolations sorted = importer.performSortedImport(reportPath, COMPARATOR);
+        assertNotNull(sorted);
+        try {
+            ViolationsTestUtil.assertSameViolations(getExpected(), ViolationsTestUtil.toList(sorted));
+        } finally {
+            sorted.close();
+        }
+    }
+
+    @Test
+    public void testPerformSortedImport_notExistingReport() {
+        File notExisting = new File(tempDir, "not_existing_report.xml");
+
+        assertNull(new XmlReportViolationsImporter(new Properties()).performSortedImport(notExisting, COMPARATOR));
+    }
+
+    private static List<IViolation> getExpected() {
+        XmlReportViolations violations = new XmlReportViolationsImporter(new Properties()).performImport(reportPath);
+        List<IViolation> expected = ViolationsTestUtil.toList(violations);
+        expected.sort(COMPARATOR);
+        return expected;
+    }
+}
@@ -0,0 +1,109 @@
+package com.parasoft.findings.utils.results.violations;
+
+import com.parasoft.findings.utils.results.xml.FileImportPreferences;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+
+public class StreamingXmlReportViolationsTest {
+
+    private final XmlReportViolationsImporter importer = new XmlReportViolationsImporter(new Properties());
+
+    @Test
+    public void testStreamingImport_sameViolationsAsFullImport() {
+        File reportPath = new File("src/test/resources/xml/staticanalysis/", "cpptest_pro_report_202001.xml");
+
+        List<IViolation> expected = ViolationsTestUtil.toList(importer.performImport(reportPath));
+        List<IViolation> actual = ViolationsTestUtil.toList(importer.performStreamingImport(reportPath, 4));
+
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, actual);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getAttribute("severity"), actual.get(i).getAttribute("severity"));
+        }
+    }
+
+    @Test
+    public void testStreamingImport_rulesAvailable() {
+        File reportPath = new File("src/test/resources/xml/staticanalysis/", "jtest_report_202202.xml");
+        XmlReportViolations violations = importer.performStreamingImport(reportPath);
+
+        assertTrue(violations.hasNext());
+        assertNotNull(violations.getRulesImportHandler());
+        violations.close();
+    }
+
+    @Test
+    public void testStreamingImport_close() {
+        File reportPath = new File("src/test/resources/xml/staticanalysis/", "cpptest_std_report_202201.xml");
+        XmlReportViolations violations = importer.performStreamingImport(reportPath, 1);
+
+        assertNotNull(violations.next());
+        violations.close();
+
+        assertFalse(violations.hasNext());
+        assertThrows(NoSuchElementException.class, violations::next);
+    }
+
+    @Test
+    public void testStreamingImport_truncatedReport(@TempDir File tempDir) throws Exception {
+        byte[] aReport = Files.readAllBytes(new File("src/test/resources/xml/staticanalysis/", "cpptest_pro_report_202001.xml").toPath());
+        File reportPath = new File(tempDir, "truncated_report.xml");
+        Files.write(reportPath.toPath(), Arrays.copyOf(aReport, aReport.length / 2));
+        StreamingXmlReportViolations violations = (StreamingXmlReportViolations) importer.performStreamingImport(reportPath, 4);
+
+        UncheckedIOException exception = assertThrows(UncheckedIOException.class, () -> {
+            while (violations.hasNext()) {
+                violations.next();
+            }
+        });
+
+        assertSame(exception.getCause(), violations.getFailure());
+        assertThrows(UncheckedIOException.class, violations::hasNext);
+        violations.close();
+    }
+
+    @Test
+    public void testStreamingImport_runtimeFailure() throws Exception {
+        File reportPath = new File("src/test/resources/xml/staticanalysis/", "jtest_report_202202.xml");
+        FileImportPreferences preferences = spy(new FileImportPreferences(reportPath));
+        doThrow(new IllegalStateException("failure")).when(preferences).isStaxParserEnabled();
+        StreamingXmlReportViolations violations = new StreamingXmlReportViolations(reportPath.toURI().toURL(),
+                preferences, null, 4);
+
+        UncheckedIOException exception = assertThrows(UncheckedIOException.class, () -> ViolationsTestUtil.toList(violations));
+
+        assertTrue(exception.getCause().getCause() instanceof IllegalStateException);
+        violations.close();
+    }
+
+    @Test
+    public void testStreamingImport_interrupted() {
+        File reportPath = new File("src/test/resources/xml/staticanalysis/", "jtest_report_202202.xml");
+        XmlReportViolations violations = importer.performStreamingImport(reportPath);
+
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(UncheckedIOException.class, violations::hasNext);
+            assertTrue(Thread.interrupted());
+        } finally {
+            violations.close();
+        }
+    }
+
+    @Test
+    public void testStreamingImport_notExistingReport() {
+        assertNull(importer.performStreamingImport(new File("src/test/resources/xml/staticanalysis/", "not_existing_report.xml")));
+    }
+}
@@ -0,0 +1,84 @@
+package com.parasoft.findings.utils.results.violations;
+
+import com.parasoft.findings.utils.results.testableinput.FileTestableInput;
+import com.parasoft.findings.utils.results.xml.IXmlTagsAndAttributes;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ViolationComparatorsTest {
+
+    @Test
+    public void testBySeverity() {
+        RuleViolation low = createViolation("a.java", 1, "RULE1", "4");
+        RuleViolation high = createViolation("a.java", 1, "RULE1", "1");
+        RuleViolation invalid = createViolation("a.java", 1, "RULE1", "x");
+        RuleViolation none = createViolation("a.java", 1, "RULE1", null);
+
+        List<IViolation> violations = new ArrayList<>(Arrays.asList(invalid, low, none, high));
+        violations.sort(ViolationComparators.bySeverity());
+
+        assertSame(high, violations.get(0));
+        assertSame(low, violations.get(1));
+        assertEquals(ViolationRuleUtil.INVALID_SEVERITY, ViolationRuleUtil.getSeverity(violations.get(2)));
+        assertEquals(ViolationRuleUtil.INVALID_SEVERITY, ViolationRuleUtil.getSeverity(violations.get(3)));
+    }
+
+    @Test
+    public void testBySeverity_severityChanged() {
+        RuleViolation first = createViolation("a.java", 1, "RULE1", "2");
+        RuleViolation second = createViolation("a.java", 1, "RULE1", "3");
+        ViolationRuleUtil.setSeverity(first, 5);
+
+        assertEquals(5, ViolationRuleUtil.getSeverity(first));
+        assertTrue(ViolationComparators.bySeverity().compare(first, second) > 0);
+        assertTrue(first.compareTo(second) > 0);
+    }
+
+    @Test
+    public void testByFileThenLineThenRule() {
+        RuleViolation b1 = createViolation("b.java", 1, "RULE1", "1");
+        RuleViolation a7 = createViolation("a.java", 7, "RULE1", "1");
+        RuleViolation a3Rule2 = createViolation("a.java", 3, "RULE2", "1");
+        RuleViolation a3Rule1 = createViolation("a.java", 3, "RULE1", "1");
+
+        List<IViolation> violations = new ArrayList<>(Arrays.asList(b1, a7, a3Rule2, a3Rule1));
+        violations.sort(ViolationComparators.byFile()
+                .thenComparing(ViolationComparators.byLine())
+                .thenComparing(ViolationComparators.byRule()));
+
+        assertEquals(Arrays.asList(a3Rule1, a3Rule2, a7, b1), violations);
+    }
+
+    @Test
+    public void testByRule_nullRuleFirst() {
+        RuleViolation withRule = createViolation("a.java", 1, "RULE1", "1");
+        RuleViolation withoutRule = createViolation("a.java", 1, null, "1");
+
+        assertTrue(ViolationComparators.byRule().compare(withoutRule, withRule) < 0);
+        assertEquals(0, ViolationComparators.byRule().compare(withoutRule, withoutRule));
+    }
+
+    @Test
+    public void testHashCode_cached() {
+        RuleViolation violation = createViolation("a.java", 1, "RULE1", "1");
+        RuleViolation same = createViolation("a.java", 1, "RULE1", "3");
+
+        assertEquals(violation.hashCode(), violation.hashCode());
+        assertEquals(same.hashCode(), violation.hashCode());
+    }
+
+    private static RuleViolation createViolation(String sFile, int line, String sRuleId, String sSeverity) {
+        ResultLocation location = new ResultLocation(new FileTestableInput(new File(sFile)), new SourceRange(line, 0));
+        RuleViolation violation = new RuleViolation("ANALYZER", "JAVA", location, "Message", sRuleId, null);
+        if (sSeverity != null) {
+            violation.addAttribute(IXmlTagsAndAttributes.SEVERITY_ATTR, sSeverity);
+        }
+        return violation;
+    }
+}
@@ -0,0 +1,61 @@
+package com.parasoft.findings.utils.results.violations;
+
+import com.parasoft.findings.utils.results.testableinput.FileTestableInput;
+import com.parasoft.findings.utils.results.testableinput.ITestableInput;
+import com.parasoft.findings.utils.results.testableinput.PathInput;
+import com.parasoft.findings.utils.results.testableinput.ProjectFileTestableInput;
+import com.parasoft.findings.utils.results.xml.IXmlTagsAndAttributes;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ViolationPathUtilTest {
+
+    @Test
+    public void testGetPaths_projectFile() {
+        File file = new File("/workspace/project/src/A.java");
+        IViolation violation = createViolation(new ProjectFileTestableInput(file, "id", "project", "/project", "src/A.java"));
+
+        assertEquals(file.getPath(), ViolationPathUtil.getFilePath(violation));
+        assertEquals("/project/src/A.java", ViolationPathUtil.getPath(violation));
+        assertEquals("/project/src/A.java", ViolationPathUtil.getRelativePath(violation));
+    }
+
+    @Test
+    public void testGetPaths_fileOutsideProjects() {
+        File file = new File("/workspace/src/A.java");
+        FileTestableInput input = new FileTestableInput(file);
+        IViolation violation = createViolation(input);
+
+        assertEquals(file.getPath(), ViolationPathUtil.getFilePath(violation));
+        assertEquals(file.getPath(), ViolationPathUtil.getPath(violation));
+        assertEquals("A.java", ViolationPathUtil.getRelativePath(violation));
+
+        input.addAttribute(IXmlTagsAndAttributes.LOC_ATTR, "/src/A.java");
+        assertEquals("/src/A.java", ViolationPathUtil.getRelativePath(violation));
+    }
+
+    @Test
+    public void testGetPaths_pathInput() {
+        IViolation violation = createViolation(new PathInput("/project/src/A.java"));
+
+        assertEquals("/project/src/A.java", ViolationPathUtil.getPath(violation));
+        assertEquals("/project/src/A.java", ViolationPathUtil.getRelativePath(violation));
+    }
+
+    @Test
+    public void testGetPaths_noLocation() {
+        IViolation violation = new RuleViolation("ANALYZER", "JAVA", null, "Message", "RULE", null);
+
+        assertNull(ViolationPathUtil.getFilePath(violation));
+        assertNull(ViolationPathUtil.getFilePath((ResultLocation) null));
+        assertNull(ViolationPathUtil.getPath(violation));
+        assertNull(ViolationPathUtil.getRelativePath(violation));
+    }
+
+    private static IViolation createViolation(ITestableInput input) {
+        return new RuleViolation("ANALYZER", "JAVA", new ResultLocation(input, new SourceRange(1, 0)), "Message", "RULE", null);
+    }
+}
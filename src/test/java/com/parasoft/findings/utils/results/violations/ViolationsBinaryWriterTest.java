@@ -0,0 +1,168 @@
+package com.parasoft.findings.utils.results.violations;
+
+import com.parasoft.findings.utils.results.testableinput.FileTestableInput;
+import com.parasoft.findings.utils.results.testableinput.ITestableInput;
+import com.parasoft.findings.utils.results.testableinput.PathInput;
+import com.parasoft.findings.utils.results.testableinput.ProjectFileTestableInput;
+import com.parasoft.findings.utils.results.testableinput.RemoteTestableInput;
+import com.parasoft.findings.utils.results.xml.RuleAttributes;
+import com.parasoft.findings.utils.results.xml.RulesImportHandler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ViolationsBinaryWriterTest {
+
+    private static final File REPORTS_DIR = new File("src/test/resources/xml/staticanalysis/");
+
+    @ParameterizedTest
+    @ValueSource(strings = {"cpptest_pro_report_202001.xml", "cpptest_pro_report_202201.xml", "cpptest_std_report_202001.xml",
+            "cpptest_std_report_202201.xml", "dottest_report_202001.xml", "dottest_report_202201.xml",
+            "jtest_report_202001.xml", "jtest_report_202202.xml", "soatest_report_202101.xml",
+            "soatest_report_202201.xml", "soatest_report_202202.xml"})
+    public void testWriteAndRead_importedReport(String sReportName)
+            throws IOException {
+        File reportPath = new File(REPORTS_DIR, sReportName);
+        XmlReportViolations imported = new XmlReportViolationsImporter(new Properties()).performImport(reportPath);
+        List<IViolation> expected = ViolationsTestUtil.toList(imported);
+
+        byte[] aBytes = write(expected, imported.getRulesImportHandler());
+        assertTrue(aBytes.length < reportPath.length());
+
+        try (ViolationsBinaryReader reader = new ViolationsBinaryReader(new ByteArrayInputStream(aBytes))) {
+            List<IViolation> actual = reader.readAll();
+            ViolationsTestUtil.assertSameViolations(expected, actual);
+            assertEquals(imported.getRulesImportHandler().getRules().keySet(), reader.getRulesImportHandler().getRules().keySet());
+            assertEquals(imported.getRulesImportHandler().getCategories(), reader.getRulesImportHandler().getCategories());
+            assertNull(reader.read());
+        }
+    }
+
+    @Test
+    public void testWriteAndRead_allTypes()
+            throws IOException {
+        ProjectFileTestableInput projectInput = new ProjectFileTestableInput(new File("src/Main.java"), "projId", "project",
+                "/project", "src/Main.java");
+        projectInput.addAttribute("hash", "123");
+        RemoteTestableInput remoteInput = new RemoteTestableInput("http://host/Main.java", "remote");
+        remoteInput.addAttribute("rev", "1");
+        ResultLocation projectLocation = new ResultLocation(projectInput, new SourceRange(10, 2, 12, 0));
+        ResultLocation remoteLocation = new ResultLocation(remoteInput, new SourceRange(-1, -1, -1, -1));
+        ResultLocation pathLocation = new ResultLocation(new PathInput("/p/File.java", "C:/p/File.java", "p", "/p"), null);
+        ResultLocation fileLocation = new ResultLocation(new FileTestableInput(new File("Other.java")),
+                new SourceRange(Integer.MAX_VALUE, 0, Integer.MIN_VALUE, 5));
+
+        RuleViolation ruleViolation = new RuleViolation("analyzer", "java", projectLocation, "message", "RULE-1", "pkg");
+        ruleViolation.addAttribute("lineHash", "-12345");
+        ruleViolation.addAttribute("empty", null);
+
+        FlowAnalysisPathElement child = new FlowAnalysisPathElement("child", remoteLocation, null, new IFlowAnalysisPathElement[0],
+                new FlowAnalysisPathElement.TypeImpl("."), null, null, null);
+        FlowAnalysisPathElement root = new FlowAnalysisPathElement("root", projectLocation, null,
+                new IFlowAnalysisPathElement[]{child}, new FlowAnalysisPathElement.TypeImpl("!"), "Exception", "throw()",
+                Collections.singletonList(new PathElementAnnotation("annotation", "cause")));
+        root.addAttribute("Properties", "P");
+        FlowAnalysisViolation flowViolation = new FlowAnalysisViolation("BD-1", "flow", "cpp", remoteLocation, "flow message",
+                null, new IFlowAnalysisPathElement[]{root});
+
+        DupCodePathElement dupElement = new DupCodePathElement("dup", pathLocation);
+        dupElement.addAttribute("srcRngFile", "File.java");
+        DupCodeViolation dupViolation = new DupCodeViolation("CDD-1", "dup", pathLocation, "dup message", "java",
+                new IPathElement[]{dupElement});
+
+        MetricsViolation metricsViolation = new MetricsViolation("METRIC-1", "metrics", fileLocation, "metric message", null);
+
+        RulesImportHandler rules = new RulesImportHandler();
+        rules.addRule("RULE-1", new RuleAttributes("CAT", "header", "line"));
+        rules.addCategory("CAT", "category");
+
+        List<IViolation> expected = Arrays.asList(ruleViolation, flowViolation, dupViolation, metricsViolation, ruleViolation);
+        byte[] aBytes = write(expected, rules);
+        ViolationsBinaryReader reader = new ViolationsBinaryReader(new ByteArrayInputStream(aBytes));
+        List<IViolation> actual = reader.readAll();
+
+        ViolationsTestUtil.assertSameViolations(expected, actual);
+        assertEquals(expected.get(0), actual.get(0));
+        assertEquals(expected.get(3), actual.get(3));
+        assertSame(actual.get(0).getResultLocation().getTestableInput(), actual.get(4).getResultLocation().getTestableInput());
+        assertEquals("projId", ((ProjectFileTestableInput) actual.get(0).getResultLocation().getTestableInput()).getProjectId());
+        assertEquals("header", reader.getRulesImportHandler().getRuleAttributes("RULE-1").getRuleHeader());
+        assertEquals("category", reader.getRulesImportHandler().getCategoryDescription("CAT"));
+
+        FlowAnalysisPathElement actualRoot = (FlowAnalysisPathElement) ((FlowAnalysisViolation) actual.get(1)).getPathElements()[0];
+        assertEquals("Exception", actualRoot.getThrownTypes());
+        assertEquals("throw()", actualRoot.getThrowingMethod());
+        assertEquals("cause", actualRoot.getAnnotations().get(0).getKind());
+        assertEquals("child", actualRoot.getChildren()[0].getDescription());
+        assertEquals(0, actualRoot.getChildren()[0].getChildren().length);
+    }
+
+    @Test
+    public void testRead_unsupportedVersion()
+            throws IOException {
+        byte[] aBytes = write(Collections.emptyList(), new RulesImportHandler());
+        aBytes[4] = (byte) (ViolationsBinaryWriter.FORMAT_VERSION + 1);
+
+        assertThrows(IOException.class, () -> new ViolationsBinaryReader(new ByteArrayInputStream(aBytes)));
+        assertThrows(IOException.class, () -> new ViolationsBinaryReader(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 1})));
+    }
+
+    @Test
+    public void testRead_truncatedStream()
+            throws IOException {
+        ResultLocation location = new ResultLocation(new FileTestableInput(new File("File.java")), new SourceRange(1, 0));
+        byte[] aBytes = write(Collections.singletonList(new MetricsViolation("M", "metrics", location, "message", "java")),
+                new RulesImportHandler());
+
+        ViolationsBinaryReader reader = new ViolationsBinaryReader(new ByteArrayInputStream(Arrays.copyOf(aBytes, aBytes.length - 3)));
+        assertThrows(EOFException.class, reader::read);
+    }
+
+    @Test
+    public void testRead_malformedCount()
+            throws IOException {
+        // header, rule violation without strings and location, followed by count of attributes Integer.MAX_VALUE
+        byte[] aBytes = new byte[]{0x50, 0x46, 0x56, 0x42, ViolationsBinaryWriter.FORMAT_VERSION, 3, 0, 0, 0, 0, 0, 0,
+                (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07};
+
+        ViolationsBinaryReader reader = new ViolationsBinaryReader(new ByteArrayInputStream(aBytes));
+        assertEquals("Malformed count in violations stream: 2147483647", assertThrows(IOException.class, reader::read).getMessage());
+
+        // count of attributes 1000, below the sane bound but above the size of stream
+        byte[] aLimitedBytes = Arrays.copyOf(aBytes, 14);
+        aLimitedBytes[12] = (byte) 0xE8;
+        aLimitedBytes[13] = 0x07;
+        ViolationsBinaryReader limitedReader = new ViolationsBinaryReader(new ByteArrayInputStream(aLimitedBytes), aLimitedBytes.length);
+        assertEquals("Malformed count in violations stream: 1000", assertThrows(IOException.class, limitedReader::read).getMessage());
+    }
+
+    @Test
+    public void testWrite_unsupportedInput() {
+        ITestableInput input = () -> "unsupported";
+        RuleViolation violation = new RuleViolation("analyzer", "java", new ResultLocation(input, null), "message", "RULE", null);
+
+        assertThrows(IOException.class, () -> new ViolationsBinaryWriter(new ByteArrayOutputStream()).write(violation));
+    }
+
+    private static byte[] write(List<IViolation> violations, RulesImportHandler rules)
+            throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ViolationsBinaryWriter writer = new ViolationsBinaryWriter(out)) {
+            writer.writeRules(rules);
+            writer.write(violations);
+        }
+        return out.toByteArray();
+    }
+}
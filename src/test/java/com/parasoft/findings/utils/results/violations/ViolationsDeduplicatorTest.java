@@ -0,0 +1,93 @@
+package com.parasoft.findings.utils.results.violations;
+
+import com.parasoft.findings.utils.results.testableinput.FileTestableInput;
+import com.parasoft.findings.utils.results.xml.IXmlTagsAndAttributes;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+
+import java.io.File;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mockStatic;
+
+public class ViolationsDeduplicatorTest {
+
+    @Test
+    public void testAdd_duplicateFromOtherReport() {
+        ViolationsDeduplicator deduplicator = new ViolationsDeduplicator();
+
+        assertTrue(deduplicator.add(createViolation("RULE1", "a.java", 3, "123", "Message")));
+        // equal values, but different objects and message as if read from other report
+        assertFalse(deduplicator.add(createViolation("RULE1", "a.java", 3, "123", "Other message")));
+
+        assertEquals(1, deduplicator.size());
+        assertEquals(1, deduplicator.getDuplicatesCount());
+        assertEquals(0, deduplicator.getCollisionsCount());
+    }
+
+    @Test
+    public void testAdd_differentValues() {
+        ViolationsDeduplicator deduplicator = new ViolationsDeduplicator();
+
+        assertTrue(deduplicator.add(createViolation("RULE1", "a.java", 3, "123", "Message")));
+        assertTrue(deduplicator.add(createViolation("RULE2", "a.java", 3, "123", "Message")));
+        assertTrue(deduplicator.add(createViolation("RULE1", "b.java", 3, "123", "Message")));
+        assertTrue(deduplicator.add(createViolation("RULE1", "a.java", 4, "123", "Message")));
+        assertTrue(deduplicator.add(createViolation("RULE1", "a.java", 3, "456", "Message")));
+        assertTrue(deduplicator.add(createViolation("RULE1", "a.java", 3, null, "Message")));
+        assertTrue(deduplicator.add(createViolation(null, "a.java", 3, "123", "Message")));
+
+        assertEquals(7, deduplicator.size());
+        assertEquals(0, deduplicator.getDuplicatesCount());
+    }
+
+    @Test
+    public void testAdd_manyViolations() {
+        ViolationsDeduplicator deduplicator = new ViolationsDeduplicator(0);
+
+        for (int i = 0; i < 50000; i++) {
+            assertTrue(deduplicator.add(createViolation("RULE" + (i % 7), "file" + (i % 13) + ".java", i, null, "Message")));
+        }
+        for (int i = 0; i < 50000; i++) {
+            assertFalse(deduplicator.add(createViolation("RULE" + (i % 7), "file" + (i % 13) + ".java", i, null, "Message")));
+        }
+
+        assertEquals(50000, deduplicator.size());
+        assertEquals(50000, deduplicator.getDuplicatesCount());
+    }
+
+    @Test
+    public void testComputeHash_valuesSeparated() {
+        assertNotEquals(ViolationsDeduplicator.computeHash(createViolation("AB", "C", 1, null, "Message")),
+                ViolationsDeduplicator.computeHash(createViolation("A", "BC", 1, null, "Message")));
+        assertNotEquals(0L, ViolationsDeduplicator.computeHash(createViolation(null, "a.java", 1, null, "Message")));
+    }
+
+    @Test
+    public void testAdd_repeatedCollision() {
+        ViolationsDeduplicator deduplicator = new ViolationsDeduplicator();
+        try (MockedStatic<ViolationsDeduplicator> mocked = mockStatic(ViolationsDeduplicator.class, CALLS_REAL_METHODS)) {
+            mocked.when(() -> ViolationsDeduplicator.computeHash(any())).thenReturn(42L);
+
+            assertTrue(deduplicator.add(createViolation("RULE1", "a.java", 3, "123", "Message")));
+            assertTrue(deduplicator.add(createViolation("RULE2", "a.java", 3, "123", "Message")));
+            assertFalse(deduplicator.add(createViolation("RULE2", "a.java", 3, "123", "Message")));
+            assertFalse(deduplicator.add(createViolation("RULE1", "a.java", 3, "123", "Message")));
+        }
+
+        assertEquals(2, deduplicator.size());
+        assertEquals(1, deduplicator.getCollisionsCount());
+        assertEquals(2, deduplicator.getDuplicatesCount());
+    }
+
+    private static RuleViolation createViolation(String sRuleId, String sFile, int line, String sLineHash, String sMessage) {
+        ResultLocation location = new ResultLocation(new FileTestableInput(new File(sFile)), new SourceRange(line, 0));
+        RuleViolation violation = new RuleViolation("ANALYZER", "JAVA", location, sMessage, sRuleId, null);
+        if (sLineHash != null) {
+            violation.addAttribute(IXmlTagsAndAttributes.LINE_HASH_ATTR, sLineHash);
+        }
+        return violation;
+    }
+}
@@ -0,0 +1,163 @@
+package com.parasoft.findings.utils.results.violations;
+
+import com.parasoft.findings.utils.results.testableinput.ITestableInput;
+import com.parasoft.findings.utils.results.testableinput.PathInput;
+import com.parasoft.findings.utils.results.testableinput.ProjectFileTestableInput;
+import com.parasoft.findings.utils.results.xml.IXmlTagsAndAttributes;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ViolationsDeltaTest {
+
+    private static final File REPORTS_DIR = new File("src/test/resources/xml/staticanalysis/");
+
+    @Test
+    public void testCompute_newMovedFixed() {
+        IViolation unchanged = createViolation("RULE-A", "/p/A.java", 10, "1", null);
+        IViolation moved = createViolation("RULE-B", "/p/A.java", 20, "2", null);
+        IViolation fixed = createViolation("RULE-C", "/p/A.java", 30, "3", null);
+        IViolation movedNow = createViolation("RULE-B", "/p/A.java", 25, "2", null);
+        IViolation added = createViolation("RULE-D", "/p/A.java", 40, "4", null);
+
+        ViolationsDelta delta = ViolationsDelta.compute(Arrays.asList(unchanged, moved, fixed),
+                Arrays.asList(createViolation("RULE-A", "/p/A.java", 10, "1", null), movedNow, added).iterator());
+
+        assertEquals(1, delta.getUnchangedCount());
+        assertEquals(Arrays.asList(added), delta.getNewViolations());
+        assertEquals(Arrays.asList(fixed), delta.getFixedViolations());
+        assertEquals(1, delta.getMovedViolations().size());
+        assertSame(moved, delta.getMovedViolations().get(0).getPreviousViolation());
+        assertSame(movedNow, delta.getMovedViolations().get(0).getViolation());
+    }
+
+    @Test
+    public void testCompute_duplicatesMatchedOnce() {
+        List<IViolation> previous = Arrays.asList(createViolation("RULE", "/p/A.java", 10, "1", null),
+                createViolation("RULE", "/p/A.java", 12, "1", null));
+        List<IViolation> current = Arrays.asList(createViolation("RULE", "/p/A.java", 12, "1", null),
+                createViolation("RULE", "/p/A.java", 12, "1", null), createViolation("RULE", "/p/A.java", 12, "1", null));
+
+        ViolationsDelta delta = ViolationsDelta.compute(previous, current.iterator());
+
+        assertEquals(1, delta.getUnchangedCount());
+        assertEquals(1, delta.getMovedViolations().size());
+        assertEquals(1, delta.getNewViolations().size());
+        assertTrue(delta.getFixedViolations().isEmpty());
+    }
+
+    @Test
+    public void testCompute_differentFilesNotMatched() {
+        ViolationsDelta delta = ViolationsDelta.compute(Arrays.asList(createViolation("RULE", "/p/A.java", 10, "1", null)),
+                Arrays.asList(createViolation("RULE", "/p/B.java", 10, "1", null)).iterator());
+
+        assertEquals(1, delta.getNewViolations().size());
+        assertEquals(1, delta.getFixedViolations().size());
+    }
+
+    @Test
+    public void testCompute_noLineHash() {
+        List<IViolation> previous = Arrays.asList(createViolation("RULE", "/p/A.java", 10, null, "100"),
+                createViolation("RULE", "/p/B.java", 10, null, "200"));
+        List<IViolation> current = Arrays.asList(createViolation("RULE", "/p/A.java", 10, null, "100"),
+                createViolation("RULE", "/p/B.java", 10, null, "201"));
+
+        ViolationsDelta delta = ViolationsDelta.compute(previous, current.iterator());
+
+        assertEquals(1, delta.getUnchangedCount());
+        // without line hash violations of changed file cannot be matched
+        assertEquals(1, delta.getNewViolations().size());
+        assertEquals(1, delta.getFixedViolations().size());
+        assertTrue(delta.getMovedViolations().isEmpty());
+    }
+
+    @Test
+    public void testCompute_messageChanged() {
+        RuleViolation current = new RuleViolation("analyzer", "java",
+                new ResultLocation(new PathInput("/p/A.java"), new SourceRange(10, 0, 10, 10)), "other message", "RULE", null);
+        current.addAttribute(IXmlTagsAndAttributes.LINE_HASH_ATTR, "1");
+
+        ViolationsDelta delta = ViolationsDelta.compute(Arrays.asList(createViolation("RULE", "/p/A.java", 10, "1", null)),
+                Arrays.asList(current).iterator());
+
+        assertEquals(1, delta.getUnchangedCount());
+        assertTrue(delta.getNewViolations().isEmpty());
+    }
+
+    @Test
+    public void testCompute_differentCheckouts() {
+        IViolation previous = createViolation("RULE", new ProjectFileTestableInput(new File("/work1/p/src/A.java"), "p", "p", "/p", "src/A.java"), 10, "1");
+        IViolation current = createViolation("RULE", new ProjectFileTestableInput(new File("/work2/p/src/A.java"), "p", "p", "/p", "src/A.java"), 12, "1");
+        IViolation other = createViolation("RULE", new ProjectFileTestableInput(new File("/work2/p/src/B.java"), "p", "p", "/p", "src/B.java"), 12, "1");
+
+        ViolationsDelta delta = ViolationsDelta.compute(Arrays.asList(previous), Arrays.asList(current, other).iterator());
+
+        assertEquals(1, delta.getMovedViolations().size());
+        assertSame(previous, delta.getMovedViolations().get(0).getPreviousViolation());
+        assertEquals(Arrays.asList(other), delta.getNewViolations());
+        assertTrue(delta.getFixedViolations().isEmpty());
+    }
+
+    @Test
+    public void testPerformDeltaImport_sameReport() {
+        File reportPath = new File(REPORTS_DIR, "jtest_report_202202.xml");
+        XmlReportViolationsImporter importer = new XmlReportViolationsImporter(new Properties());
+        int count = ViolationsTestUtil.toList(importer.performImport(reportPath)).size();
+
+        ViolationsDelta delta = importer.performDeltaImport(reportPath, reportPath);
+
+        assertEquals(count, delta.getUnchangedCount());
+        assertTrue(delta.getNewViolations().isEmpty());
+        assertTrue(delta.getMovedViolations().isEmpty());
+        assertTrue(delta.getFixedViolations().isEmpty());
+    }
+
+    @Test
+    public void testPerformDeltaImport_differentReports() {
+        File previousPath = new File(REPORTS_DIR, "cpptest_std_report_202001.xml");
+        File reportPath = new File(REPORTS_DIR, "jtest_report_202202.xml");
+        XmlReportViolationsImporter importer = new XmlReportViolationsImporter(new Properties());
+        int previousCount = ViolationsTestUtil.toList(importer.performImport(previousPath)).size();
+        int count = ViolationsTestUtil.toList(importer.performImport(reportPath)).size();
+
+        ViolationsDelta delta = importer.performDeltaImport(previousPath, reportPath);
+
+        assertEquals(count, delta.getNewViolations().size());
+        assertEquals(previousCount, delta.getFixedViolations().size());
+        assertEquals(0, delta.getUnchangedCount());
+    }
+
+    @Test
+    public void testPerformDeltaImport_notExistingReport() {
+        File reportPath = new File(REPORTS_DIR, "jtest_report_202202.xml");
+        File notExisting = new File(REPORTS_DIR, "not_existing_report.xml");
+        XmlReportViolationsImporter importer = new XmlReportViolationsImporter(new Properties());
+
+        assertNull(importer.performDeltaImport(notExisting, reportPath));
+        assertNull(importer.performDeltaImport(reportPath, notExisting));
+    }
+
+    private static IViolation createViolation(String sRuleId, String sPath, int line, String sLineHash, String sLocationHash) {
+        ResultLocation location = new ResultLocation(new PathInput(sPath), new SourceRange(line, 0, line, 10));
+        RuleViolation violation = new RuleViolation("analyzer", "java", location, "message", sRuleId, null);
+        if (sLineHash != null) {
+            violation.addAttribute(IXmlTagsAndAttributes.LINE_HASH_ATTR, sLineHash);
+        }
+        if (sLocationHash != null) {
+            violation.addAttribute(IXmlTagsAndAttributes.LOCATION_HASH_ATTR, sLocationHash);
+        }
+        return violation;
+    }
+
+    private static IViolation createViolation(String sRuleId, ITestableInput input, int line, String sLineHash) {
+        ResultLocation location = new ResultLocation(input, new SourceRange(line, 0, line, 10));
+        RuleViolation violation = new RuleViolation("analyzer", "java", location, "message", sRuleId, null);
+        violation.addAttribute(IXmlTagsAndAttributes.LINE_HASH_ATTR, sLineHash);
+        return violation;
+    }
+}
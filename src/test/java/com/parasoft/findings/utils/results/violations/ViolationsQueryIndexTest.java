@@ -0,0 +1,108 @@
+package com.parasoft.findings.utils.results.violations;
+
+import com.parasoft.findings.utils.results.testableinput.PathInput;
+import com.parasoft.findings.utils.results.xml.IXmlTagsAndAttributes;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ViolationsQueryIndexTest {
+
+    private static final File REPORTS_DIR = new File("src/test/resources/xml/staticanalysis/");
+
+    @ParameterizedTest
+    @ValueSource(strings = {"cpptest_pro_report_202201.xml", "cpptest_std_report_202201.xml", "dottest_report_202201.xml",
+            "jtest_report_202202.xml", "soatest_report_202202.xml"})
+    public void testPerformQueryImport_sameAsFiltering(String sReportName) {
+        File reportPath = new File(REPORTS_DIR, sReportName);
+        XmlReportViolationsImporter importer = new XmlReportViolationsImporter(new Properties());
+        XmlReportViolations imported = importer.performImport(reportPath);
+        List<IViolation> violations = ViolationsTestUtil.toList(imported);
+
+        ViolationsQueryIndex index = importer.performQueryImport(reportPath);
+
+        assertNotNull(index.getRulesImportHandler());
+        assertEquals(violations.size(), index.size());
+        for (String sRuleId : index.getRuleIds()) {
+            ViolationsTestUtil.assertSameViolations(filter(violations, v -> sRuleId.equals(((IRuleViolation) v).getRuleId())),
+                    index.findByRuleId(sRuleId));
+        }
+        for (String sAnalyzerId : index.getAnalyzerIds()) {
+            ViolationsTestUtil.assertSameViolations(filter(violations, v -> sAnalyzerId.equals(v.getAnalyzerId())),
+                    index.findByAnalyzerId(sAnalyzerId));
+        }
+        for (String sCategory : index.getCategories()) {
+            ViolationsTestUtil.assertSameViolations(filter(violations, v -> sCategory.equals(ViolationRuleUtil.getRuleCategory(v))),
+                    index.findByCategory(sCategory));
+        }
+        int filesCount = 0;
+        for (String sPath : index.getFilePaths()) {
+            filesCount += index.findByFilePath(sPath).size();
+        }
+        assertEquals(violations.size(), filesCount);
+        for (int severity = 1; severity <= ViolationRuleUtil.SEVERITY_LOWEST; severity++) {
+            int expectedSeverity = severity;
+            ViolationsTestUtil.assertSameViolations(filter(violations, v -> ViolationRuleUtil.getSeverity(v) == expectedSeverity),
+                    index.findBySeverity(severity));
+        }
+    }
+
+    @Test
+    public void testFind_notIndexedValues() {
+        ViolationsQueryIndex index = new ViolationsQueryIndex();
+        RuleViolation violation = new RuleViolation("analyzer", "java",
+                new ResultLocation(new PathInput("/p/A.java"), new SourceRange(1, 0)), "message", "RULE", null);
+        violation.addAttribute(IXmlTagsAndAttributes.SEVERITY_ATTR, "9");
+        index.add(violation);
+
+        assertTrue(index.findByRuleId("OTHER").isEmpty());
+        assertTrue(index.findByRuleId(null).isEmpty());
+        assertTrue(index.findByCategory("CAT").isEmpty());
+        assertTrue(index.findBySeverity(9).isEmpty());
+        assertEquals(1, index.findBySeverity(ViolationRuleUtil.INVALID_SEVERITY).size());
+        assertEquals(1, index.findByFilePath("/p/A.java").size());
+        assertNull(index.getRulesImportHandler());
+    }
+
+    @Test
+    public void testFind_viewNotChangedByLaterAdds() {
+        ViolationsQueryIndex index = new ViolationsQueryIndex();
+        ResultLocation location = new ResultLocation(new PathInput("/p/A.java"), new SourceRange(1, 0));
+        index.add(new RuleViolation("analyzer", "java", location, "first", "RULE", null));
+        List<IViolation> found = index.findByRuleId("RULE");
+        for (int i = 0; i < 10; i++) {
+            index.add(new RuleViolation("analyzer", "java", location, "next", "RULE", null));
+        }
+
+        assertEquals(1, found.size());
+        assertEquals("first", found.get(0).getMessage());
+        assertThrows(IndexOutOfBoundsException.class, () -> found.get(1));
+        assertEquals(11, index.findByRuleId("RULE").size());
+        assertThrows(UnsupportedOperationException.class, () -> found.add(null));
+    }
+
+    @Test
+    public void testPerformQueryImport_notExistingReport() {
+        File reportPath = new File(REPORTS_DIR, "not_existing_report.xml");
+
+        assertNull(new XmlReportViolationsImporter(new Properties()).performQueryImport(reportPath));
+    }
+
+    private static List<IViolation> filter(List<IViolation> violations, Predicate<IViolation> predicate) {
+        List<IViolation> result = new ArrayList<>();
+        for (IViolation violation : violations) {
+            if (predicate.test(violation)) {
+                result.add(violation);
+            }
+        }
+        return result;
+    }
+}
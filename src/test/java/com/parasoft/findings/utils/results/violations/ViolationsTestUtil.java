@@ -0,0 +1,110 @@
+package com.parasoft.findings.utils.results.violations;
+
+import com.parasoft.findings.utils.results.testableinput.FileTestableInput;
+import com.parasoft.findings.utils.results.testableinput.ITestableInput;
+import com.parasoft.findings.utils.results.testableinput.RemoteTestableInput;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Helpers shared by tests of imported violations.
+ */
+public final class ViolationsTestUtil {
+
+    private ViolationsTestUtil() {
+    }
+
+    /**
+     * Reads all remaining violations of given import.
+     */
+    public static List<IViolation> toList(XmlReportViolations violations) {
+        List<IViolation> result = new ArrayList<>();
+        while (violations.hasNext()) {
+            result.add(violations.next());
+        }
+        return result;
+    }
+
+    /**
+     * Asserts that lists contain violations with the same content in the same order.
+     */
+    public static void assertSameViolations(List<IViolation> expected, List<IViolation> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSameViolation(expected.get(i), actual.get(i));
+        }
+    }
+
+    /**
+     * Asserts that violations have the same content, including their locations and path elements.
+     */
+    public static void assertSameViolation(IViolation expected, IViolation actual) {
+        assertEquals(expected.getClass(), actual.getClass());
+        AbstractViolation expectedViolation = (AbstractViolation) expected;
+        AbstractViolation actualViolation = (AbstractViolation) actual;
+        assertEquals(expectedViolation.getMessage(), actualViolation.getMessage());
+        assertEquals(expectedViolation.getRuleId(), actualViolation.getRuleId());
+        assertEquals(expectedViolation.getAnalyzerId(), actualViolation.getAnalyzerId());
+        assertEquals(expectedViolation.getLanguageId(), actualViolation.getLanguageId());
+        assertEquals(expectedViolation.getNamespace(), actualViolation.getNamespace());
+        assertEquals(expectedViolation.getAttributes(), actualViolation.getAttributes());
+        assertSameLocation(expected.getResultLocation(), actual.getResultLocation());
+        if (expected instanceof FlowAnalysisViolation) {
+            assertSamePathElements(((FlowAnalysisViolation) expected).getPathElements(), ((FlowAnalysisViolation) actual).getPathElements());
+        } else if (expected instanceof DupCodeViolation) {
+            IPathElement[] aExpected = ((DupCodeViolation) expected).getPathElements();
+            IPathElement[] aActual = ((DupCodeViolation) actual).getPathElements();
+            assertEquals(aExpected.length, aActual.length);
+            for (int i = 0; i < aExpected.length; i++) {
+                assertEquals(aExpected[i].getDescription(), aActual[i].getDescription());
+                assertSameLocation(aExpected[i].getLocation(), aActual[i].getLocation());
+                assertEquals(((DupCodePathElement) aExpected[i]).getAttributes(), ((DupCodePathElement) aActual[i]).getAttributes());
+            }
+        }
+    }
+
+    private static void assertSamePathElements(IFlowAnalysisPathElement[] aExpected, IFlowAnalysisPathElement[] aActual) {
+        if (aExpected == null) {
+            assertNull(aActual);
+            return;
+        }
+        assertEquals(aExpected.length, aActual.length);
+        for (int i = 0; i < aExpected.length; i++) {
+            FlowAnalysisPathElement expected = (FlowAnalysisPathElement) aExpected[i];
+            FlowAnalysisPathElement actual = (FlowAnalysisPathElement) aActual[i];
+            assertEquals(expected.getDescription(), actual.getDescription());
+            assertEquals(expected.getType(), actual.getType());
+            assertEquals(expected.getThrownTypes(), actual.getThrownTypes());
+            assertEquals(expected.getThrowingMethod(), actual.getThrowingMethod());
+            assertEquals(expected.getAttributes(), actual.getAttributes());
+            assertEquals(expected.getAnnotations().size(), actual.getAnnotations().size());
+            assertSameLocation(expected.getLocation(), actual.getLocation());
+            assertSamePathElements(expected.getChildren(), actual.getChildren());
+        }
+    }
+
+    private static void assertSameLocation(ResultLocation expected, ResultLocation actual) {
+        if (expected == null) {
+            assertNull(actual);
+            return;
+        }
+        // remote testable inputs have no equality, so compare inputs by content
+        ITestableInput expectedInput = expected.getTestableInput();
+        ITestableInput actualInput = actual.getTestableInput();
+        assertEquals(expectedInput.getClass(), actualInput.getClass());
+        assertEquals(expectedInput.getName(), actualInput.getName());
+        if (expectedInput instanceof FileTestableInput) {
+            assertEquals(expectedInput, actualInput);
+            assertEquals(((FileTestableInput) expectedInput).getAttributes(), ((FileTestableInput) actualInput).getAttributes());
+        } else if (expectedInput instanceof RemoteTestableInput) {
+            assertEquals(((RemoteTestableInput) expectedInput).getProjectName(), ((RemoteTestableInput) actualInput).getProjectName());
+            assertEquals(((RemoteTestableInput) expectedInput).getAttributes(), ((RemoteTestableInput) actualInput).getAttributes());
+        } else {
+            assertEquals(expectedInput, actualInput);
+        }
+        assertEquals(expected.getSourceRange(), actual.getSourceRange());
+    }
+}
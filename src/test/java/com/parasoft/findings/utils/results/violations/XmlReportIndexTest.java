@@ -0,0 +1,145 @@
+package com.parasoft.findings.utils.results.violations;
+
+import com.parasoft.findings.utils.results.xml.SyntheticReportGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class XmlReportIndexTest {
+
+    private static final File REPORTS_DIR = new File("src/test/resources/xml/staticanalysis/");
+
+    @ParameterizedTest
+    @ValueSource(strings = {"cpptest_pro_report_202001.xml", "cpptest_pro_report_202201.xml", "cpptest_std_report_202001.xml",
+            "cpptest_std_report_202201.xml", "dottest_report_202001.xml", "dottest_report_202201.xml",
+            "jtest_report_202001.xml", "jtest_report_202202.xml", "soatest_report_202101.xml",
+            "soatest_report_202201.xml", "soatest_report_202202.xml"})
+    public void testReadViolation_sameViolationsAsImport(String sReportName) {
+        File reportPath = new File(REPORTS_DIR, sReportName);
+        XmlReportViolationsImporter importer = new XmlReportViolationsImporter(new Properties());
+        XmlReportViolations violations = importer.performImport(reportPath);
+        List<IViolation> expected = ViolationsTestUtil.toList(violations);
+
+        try (XmlReportIndex index = importer.performIndexedImport(reportPath)) {
+            assertNotNull(index);
+            assertTrue(expected.size() <= index.getViolationsCount());
+            assertNotNull(index.getRulesImportHandler());
+            // read in reverse order to verify independence of reads
+            List<IViolation> actual = new ArrayList<>();
+            for (int i = index.getViolationsCount() - 1; i >= 0; i--) {
+                IViolation violation = index.readViolation(i);
+                if (violation != null) {
+                    actual.add(0, violation);
+                }
+            }
+            ViolationsTestUtil.assertSameViolations(expected, actual);
+        }
+    }
+
+    @Test
+    public void testReadViolations_byLocationRef() {
+        File reportPath = new File(REPORTS_DIR, "dottest_report_202201.xml");
+        try (XmlReportIndex index = new XmlReportViolationsImporter(new Properties()).performIndexedImport(reportPath)) {
+            Set<String> locRefs = new HashSet<>();
+            for (int i = 0; i < index.getViolationsCount(); i++) {
+                locRefs.add(index.getLocationRef(i));
+            }
+            assertTrue(locRefs.size() > 1);
+
+            int readCount = 0;
+            for (String sLocRef : locRefs) {
+                List<IViolation> violations = index.readViolations(sLocRef);
+                assertFalse(violations.isEmpty());
+                String sLocationName = violations.get(0).getResultLocation().getTestableInput().getName();
+                for (IViolation violation : violations) {
+                    assertEquals(sLocationName, violation.getResultLocation().getTestableInput().getName());
+                }
+                readCount += violations.size();
+            }
+            assertEquals(index.getViolationsCount(), readCount);
+            assertTrue(index.readViolations("notExistingLocRef").isEmpty());
+        }
+    }
+
+    @Test
+    public void testGetLocationRef_legacyReport() {
+        File reportPath = new File(REPORTS_DIR, "cpptest_pro_report_202201.xml");
+        try (XmlReportIndex index = new XmlReportViolationsImporter(new Properties()).performIndexedImport(reportPath)) {
+            String sLocRef = index.getLocationRef(0);
+            assertNotNull(sLocRef);
+            List<IViolation> violations = index.readViolations(sLocRef);
+            assertFalse(violations.isEmpty());
+        }
+    }
+
+    @Test
+    public void testReadViolation_closed() {
+        File reportPath = new File(REPORTS_DIR, "jtest_report_202202.xml");
+        XmlReportIndex index = new XmlReportViolationsImporter(new Properties()).performIndexedImport(reportPath);
+        index.close();
+
+        assertThrows(IllegalStateException.class, () -> index.readViolation(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> index.getViolationOffset(index.getViolationsCount()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"cpptest_pro_report_202201.xml", "dottest_report_202201.xml", "jtest_report_202202.xml",
+            "soatest_report_202202.xml"})
+    public void testPerformParallelImport_sameViolationsAsImport(String sReportName) {
+        assertParallelImportSameAsImport(new File(REPORTS_DIR, sReportName));
+    }
+
+    @Test
+    public void testPerformParallelImport_manyChunks(@TempDir File tempDir) throws Exception {
+        SyntheticReportGenerator generator = new SyntheticReportGenerator(42);
+        generator.setViolationsCount(5000);
+        generator.setViolationsMix(5, 2, 2, 1);
+        generator.setLocationsCount(20);
+        File reportPath = new File(tempDir, "synthetic.xml");
+        generator.generate(reportPath);
+
+        assertParallelImportSameAsImport(reportPath);
+    }
+
+    @Test
+    public void testPerformParallelImport_notExistingReport() {
+        File reportPath = new File(REPORTS_DIR, "not_existing_report.xml");
+
+        assertNull(new XmlReportViolationsImporter(new Properties()).performParallelImport(reportPath));
+    }
+
+    @Test
+    public void testPerformIndexedImport_notExistingReport() {
+        File reportPath = new File(REPORTS_DIR, "not_existing_report.xml");
+
+        assertNull(new XmlReportViolationsImporter(new Properties()).performIndexedImport(reportPath));
+    }
+
+    private static void assertParallelImportSameAsImport(File reportPath) {
+        XmlReportViolationsImporter importer = new XmlReportViolationsImporter(new Properties());
+        XmlReportViolations violations = importer.performImport(reportPath);
+        List<IViolation> expected = ViolationsTestUtil.toList(violations);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            XmlReportViolations parallelViolations = importer.performParallelImport(reportPath, pool);
+            assertNotNull(parallelViolations);
+            assertNotNull(parallelViolations.getRulesImportHandler());
+            List<IViolation> actual = ViolationsTestUtil.toList(parallelViolations);
+            ViolationsTestUtil.assertSameViolations(expected, actual);
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -5,11 +5,15 @@ import com.parasoft.findings.utils.common.logging.FindingsLogger;
 import com.parasoft.findings.utils.results.testableinput.ProjectFileTestableInput;
 import com.parasoft.findings.utils.results.testableinput.RemoteTestableInput;
 import com.parasoft.findings.utils.results.xml.IXmlTagsAndAttributes;
+import com.parasoft.findings.utils.results.xml.RulesImportHandler;
+import com.parasoft.findings.utils.results.xml.SyntheticReportGenerator;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.MockedStatic;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Properties;
 
@@ -650,6 +654,164 @@ public class XmlReportViolationsImporterTest {
                 null, "web", RemoteTestableInput.class);
     }
 
+    @Test
+    public void testPerformImport_withCollector() {
+        // Given
+        File reportPath = new File("src/test/resources/xml/staticanalysis/", "cpptest_pro_report_202001.xml");
+        XmlReportViolationsImporter underTest = new XmlReportViolationsImporter(new Properties());
+        XmlReportViolations results = underTest.performImport(reportPath);
+        List<IViolation> expected = ViolationsTestUtil.toList(results);
+        List<IViolation> collected = new ArrayList<>();
+        List<Integer> batchSizes = new ArrayList<>();
+
+        // When
+        RulesImportHandler rules = underTest.performImport(reportPath, aViolations -> {
+            batchSizes.add(aViolations.length);
+            collected.addAll(Arrays.asList(aViolations));
+        }, 100);
+
+        // Then
+        assertNotNull(rules);
+        assertEquals(expected, collected);
+        assertTrue(batchSizes.size() > 1);
+        batchSizes.forEach(size -> assertTrue((size > 0) && (size <= 100)));
+    }
+
+    @Test
+    public void testPerformImport_withCollector_not_existing_report() {
+        File reportPath = new File("src/test/resources/xml/staticanalysis/", "not_existing_report.xml");
+        XmlReportViolationsImporter underTest = new XmlReportViolationsImporter(new Properties());
+
+        assertNull(underTest.performImport(reportPath, aViolations -> fail(), 10));
+    }
+
+    @Test
+    public void testPerformImport_lazyPathElements() {
+        // Given
+        File reportPath = new File("src/test/resources/xml/staticanalysis/", "cpptest_pro_report_202201.xml");
+        XmlReportViolations results = new XmlReportViolationsImporter(new Properties()).performImport(reportPath);
+        List<IViolation> expected = ViolationsTestUtil.toList(results);
+        Properties properties = new Properties();
+        properties.setProperty(XmlReportViolationsImporter.LAZY_PATH_ELEMENTS_ENABLED_KEY, "true");
+
+        // When
+        results = new XmlReportViolationsImporter(properties).performImport(reportPath);
+        List<IViolation> actual = ViolationsTestUtil.toList(results);
+
+        // Then
+        assertEquals(expected.size(), actual.size());
+        int flowViolationsCount = 0;
+        for (int i = 0; i < expected.size(); i++) {
+            if (expected.get(i) instanceof FlowAnalysisViolation) {
+                IFlowAnalysisPathElement[] aExpected = ((FlowAnalysisViolation) expected.get(i)).getPathElements();
+                IFlowAnalysisPathElement[] aActual = ((FlowAnalysisViolation) actual.get(i)).getPathElements();
+                assertTrue(aExpected.length > 0);
+                assertArrayEquals(aExpected, aActual);
+                assertSame(aActual, ((FlowAnalysisViolation) actual.get(i)).getPathElements());
+                flowViolationsCount++;
+            }
+        }
+        assertTrue(flowViolationsCount > 0);
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testPerformImport_memoryBudget(@TempDir File tempDir)
+            throws Exception {
+        // Given
+        SyntheticReportGenerator generator = new SyntheticReportGenerator(42);
+        generator.setViolationsCount(20000);
+        generator.setLocationsCount(50);
+        File reportPath = new File(tempDir, "synthetic.xml");
+        generator.generate(reportPath);
+        XmlReportViolations results = new XmlReportViolationsImporter(new Properties()).performImport(reportPath);
+        List<IViolation> expected = ViolationsTestUtil.toList(results);
+        Properties properties = new Properties();
+        properties.setProperty(XmlReportViolationsImporter.MEMORY_BUDGET_KEY, "1");
+
+        // When
+        results = new XmlReportViolationsImporter(properties).performImport(reportPath);
+        assertNull(results.getParsedViolations());
+        assertTrue(results.getReportReader().getSpillFile().size() > 0);
+        assertTrue(results.getReportReader().getImportedViolations().size() < expected.size());
+        List<IViolation> actual = ViolationsTestUtil.toList(results);
+        results.close();
+
+        // Then
+        assertEquals(expected, actual);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getAttribute(IXmlTagsAndAttributes.LINE_HASH_ATTR),
+                    actual.get(i).getAttribute(IXmlTagsAndAttributes.LINE_HASH_ATTR));
+        }
+    }
+
+    @Test
+    public void testPerformImport_spillFileDeletedWhenRead(@TempDir File tempDir)
+            throws Exception {
+        SyntheticReportGenerator generator = new SyntheticReportGenerator(42);
+        generator.setViolationsCount(20000);
+        generator.setLocationsCount(50);
+        File reportPath = new File(tempDir, "synthetic.xml");
+        generator.generate(reportPath);
+        Properties properties = new Properties();
+        properties.setProperty(XmlReportViolationsImporter.MEMORY_BUDGET_KEY, "1");
+
+        XmlReportViolations results = new XmlReportViolationsImporter(properties).performImport(reportPath);
+        File spillFile = results.getReportReader().getSpillFile().getFile();
+        assertTrue(spillFile.exists());
+        while (results.hasNext()) {
+            results.next();
+        }
+
+        // not closed
+        assertFalse(spillFile.exists());
+    }
+
+    @Test
+    public void testPerformImport_resultTypes() {
+        // Given
+        File reportPath = new File("src/test/resources/xml/staticanalysis/", "dottest_report_202201.xml");
+        int expectedCount = 0;
+        XmlReportViolations results = new XmlReportViolationsImporter(new Properties()).performImport(reportPath);
+        while (results.hasNext()) {
+            if (results.next() instanceof MetricsViolation) {
+                expectedCount++;
+            }
+        }
+
+        for (String sStax : new String[] {"false", "true"}) {
+            Properties properties = new Properties();
+            properties.setProperty(XmlReportViolationsImporter.STAX_PARSER_ENABLED_KEY, sStax);
+            properties.setProperty(XmlReportViolationsImporter.RESULT_TYPES_KEY, "IMetricsViolation");
+
+            // When
+            results = new XmlReportViolationsImporter(properties).performImport(reportPath);
+            List<IViolation> actual = ViolationsTestUtil.toList(results);
+
+            // Then
+            assertTrue(expectedCount > 0);
+            assertEquals(expectedCount, actual.size());
+            for (IViolation violation : actual) {
+                assertInstanceOf(MetricsViolation.class, violation);
+            }
+        }
+    }
+
+    @Test
+    public void testPerformImport_notReadResultTypes() {
+        // Given
+        File reportPath = new File("src/test/resources/xml/staticanalysis/", "jtest_report_202202.xml");
+        Properties properties = new Properties();
+        properties.setProperty(XmlReportViolationsImporter.RESULT_TYPES_KEY, "IExecutionViolation");
+
+        // When
+        XmlReportViolations results = new XmlReportViolationsImporter(properties).performImport(reportPath);
+
+        // Then
+        assertFalse(results.hasNext());
+        assertTrue(results.getRulesImportHandler().getRules().isEmpty());
+    }
+
     @Test
     public void testLogProperties_isSensitiveSetting_password() {
         String expectedInfo = "Properties used in importResults {fake.password=>>hidden<<}";
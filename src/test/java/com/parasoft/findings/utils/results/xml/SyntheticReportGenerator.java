@@ -0,0 +1,355 @@
+package com.parasoft.findings.utils.results.xml;
+
+import com.parasoft.findings.utils.common.ParasoftConstants;
+import com.parasoft.findings.utils.results.xml.factory.IResultsIdentifiersConstants;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Random;
+
+/**
+ * Generator of synthetic xml reports for scale testing.
+ * <p>
+ * Report is written with StAX writer directly to the stream, so reports of any size can be
+ * generated. Generated content depends only on the settings and the seed, so the same report
+ * is generated on every run.
+ */
+public class SyntheticReportGenerator {
+    private final long _seed;
+
+    private int _violationsCount = 1000;
+
+    private int _stdWeight = 8;
+
+    private int _flowWeight = 1;
+
+    private int _dupWeight = 1;
+
+    private int _metricsWeight = 0;
+
+    private int _locationsCount = 100;
+
+    private int _rulesCount = 50;
+
+    private int _flowPathDepth = 3;
+
+    private int _stdCount = 0;
+
+    private int _flowCount = 0;
+
+    private int _dupCount = 0;
+
+    private int _metricsCount = 0;
+
+    /**
+     * @param seed the seed of generated content
+     */
+    public SyntheticReportGenerator(long seed) {
+        _seed = seed;
+    }
+
+    /**
+     * @param count the total number of generated violations
+     */
+    public void setViolationsCount(int count) {
+        _violationsCount = count;
+    }
+
+    /**
+     * Sets relative weights of violation types. For weights 8, 1, 1, 0 about 80% of violations
+     * are coding standards violations, 10% flow analysis and 10% duplicate code violations.
+     *
+     * @param stdWeight     weight of coding standards violations (<code>StdViol</code>)
+     * @param flowWeight    weight of flow analysis violations (<code>FlowViol</code>)
+     * @param dupWeight     weight of duplicate code violations (<code>DupViol</code>)
+     * @param metricsWeight weight of metrics violations (<code>MetViol</code>)
+     */
+    public void setViolationsMix(int stdWeight, int flowWeight, int dupWeight, int metricsWeight) {
+        _stdWeight = stdWeight;
+        _flowWeight = flowWeight;
+        _dupWeight = dupWeight;
+        _metricsWeight = metricsWeight;
+    }
+
+    /**
+     * @param count the number of distinct source files violations refer to
+     */
+    public void setLocationsCount(int count) {
+        _locationsCount = count;
+    }
+
+    /**
+     * @param count the number of distinct rules
+     */
+    public void setRulesCount(int count) {
+        _rulesCount = count;
+    }
+
+    /**
+     * @param depth the number of elements of flow analysis violation path
+     */
+    public void setFlowPathDepth(int depth) {
+        _flowPathDepth = depth;
+    }
+
+    public int getStdViolationsCount() {
+        return _stdCount;
+    }
+
+    public int getFlowViolationsCount() {
+        return _flowCount;
+    }
+
+    public int getDupViolationsCount() {
+        return _dupCount;
+    }
+
+    public int getMetricsViolationsCount() {
+        return _metricsCount;
+    }
+
+    /**
+     * Writes the report to given file.
+     *
+     * @param file the target file
+     * @throws IOException
+     * @throws XMLStreamException
+     */
+    public void generate(File file)
+            throws IOException, XMLStreamException {
+        try (OutputStream os = new BufferedOutputStream(new FileOutputStream(file), 1 << 16)) {
+            generate(os);
+        }
+    }
+
+    /**
+     * Writes the report to given stream.
+     *
+     * @param os the target stream, not closed by this method
+     * @throws XMLStreamException
+     */
+    public void generate(OutputStream os)
+            throws XMLStreamException {
+        Random random = new Random(_seed);
+        _stdCount = _flowCount = _dupCount = _metricsCount = 0;
+        XMLStreamWriter writer = XMLOutputFactory.newFactory().createXMLStreamWriter(os, ENCODING);
+        writer.writeStartDocument(ENCODING, "1.0");
+        writer.writeStartElement(IXmlTagsAndAttributes.RESULTS_SESSION_ROOT_TAG);
+        writer.writeAttribute(IXmlTagsAndAttributes.TOOL_NAME_V2_ATTR, ParasoftConstants.JTEST_TOOL_NAME);
+        writer.writeAttribute(IXmlTagsAndAttributes.TOOL_VERSION_V2_ATTR, "2023.1.0");
+        writer.writeAttribute(IXmlTagsAndAttributes.LANGUAGE_ATTR, "en_US");
+        writeVersions(writer);
+        writeLocations(writer);
+        writer.writeStartElement(IXmlTagsAndAttributes.CODING_STANDARDS_SECTION_TAG);
+        writeRules(writer);
+        writer.writeStartElement("StdViols");
+        int totalWeight = _stdWeight + _flowWeight + _dupWeight + _metricsWeight;
+        for (int i = 0; i < _violationsCount; i++) {
+            int type = random.nextInt(totalWeight);
+            if (type < _stdWeight) {
+                writeViolation(writer, random, IXmlTagsAndAttributes.STANDARDS_VIOLATION_V2_TAG, i);
+                writer.writeEndElement();
+                _stdCount++;
+            } else if (type < (_stdWeight + _flowWeight)) {
+                writeFlowViolation(writer, random, i);
+                _flowCount++;
+            } else if (type < (_stdWeight + _flowWeight + _dupWeight)) {
+                writeDupViolation(writer, random, i);
+                _dupCount++;
+            } else {
+                writeViolation(writer, random, IXmlTagsAndAttributes.METRICS_VIOLATION_TAG, i);
+                writer.writeEndElement();
+                _metricsCount++;
+            }
+        }
+        writer.writeEndElement(); // StdViols
+        writer.writeEndElement(); // CodingStandards
+        writer.writeEndElement(); // ResultsSession
+        writer.writeEndDocument();
+        writer.close();
+    }
+
+    private static void writeVersions(XMLStreamWriter writer)
+            throws XMLStreamException {
+        writer.writeStartElement(IXmlTagsAndAttributes.VERSIONS_TAG);
+        for (String sResultId : new String[]{IResultsIdentifiersConstants.CODING_STANDARDS_RESULT_ID,
+                IResultsIdentifiersConstants.FLOW_ANALYSIS_RESULT_ID, IResultsIdentifiersConstants.DUPCODE_RESULT_ID,
+                IResultsIdentifiersConstants.METRICS_VIOLATION_ID}) {
+            writer.writeEmptyElement(IXmlTagsAndAttributes.VERSION_INFO_TAG);
+            writer.writeAttribute(IXmlTagsAndAttributes.RESULT_STORAGE_ID_ATTR, sResultId);
+            writer.writeAttribute(IXmlTagsAndAttributes.LEGACY_VERSION_ATTR, "2");
+            writer.writeAttribute(IXmlTagsAndAttributes.VERSION_ATTR, "1");
+        }
+        writer.writeEndElement();
+    }
+
+    private void writeLocations(XMLStreamWriter writer)
+            throws XMLStreamException {
+        writer.writeStartElement(IXmlTagsAndAttributes.SCOPE_SECTION_TAG);
+        writer.writeStartElement(IXmlTagsAndAttributes.LOCATIONS_TAG);
+        for (int i = 0; i < _locationsCount; i++) {
+            writer.writeEmptyElement(IXmlTagsAndAttributes.LOCATION_TAG);
+            writer.writeAttribute(IXmlTagsAndAttributes.LOC_REF_ATTR, getLocRef(i));
+            writer.writeAttribute(IXmlTagsAndAttributes.RESOURCE_HASH_ATTR, getLocationHash(i));
+            writer.writeAttribute(IXmlTagsAndAttributes.PROJECT_ATTR, PROJECT);
+            writer.writeAttribute(IXmlTagsAndAttributes.PROJECT_ID_ATTR, PROJECT);
+            writer.writeAttribute(IXmlTagsAndAttributes.PROJECT_PATH_ATTR, '/' + PROJECT);
+            writer.writeAttribute(IXmlTagsAndAttributes.RESOURCE_PROJECT_RELATIVE_PATH_ATTR, getResourcePath(i));
+            writer.writeAttribute(IXmlTagsAndAttributes.URI_ATTR, "file:///synthetic/" + PROJECT + '/' + getResourcePath(i));
+        }
+        writer.writeEndElement();
+        writer.writeEndElement();
+    }
+
+    private void writeRules(XMLStreamWriter writer)
+            throws XMLStreamException {
+        writer.writeStartElement(IXmlTagsAndAttributes.RULES_TAG);
+        writer.writeStartElement(IXmlTagsAndAttributes.CATEGORIES_LIST_TAG);
+        for (int i = 0; i < CATEGORIES_COUNT; i++) {
+            writer.writeEmptyElement(IXmlTagsAndAttributes.RULES_CATEGORY_TAG);
+            writer.writeAttribute(IXmlTagsAndAttributes.CATEGORY_ID_ATTR, getCategory(i));
+            writer.writeAttribute(IXmlTagsAndAttributes.CATEGORY_DESC_ATTR, "Synthetic category " + i);
+        }
+        writer.writeEndElement();
+        writer.writeStartElement(IXmlTagsAndAttributes.RULES_LIST_TAG);
+        for (int i = 0; i < _rulesCount; i++) {
+            writer.writeEmptyElement(IXmlTagsAndAttributes.RULE_TAG);
+            writer.writeAttribute(IXmlTagsAndAttributes.RULE_ID_ATTR, getRule(i));
+            writer.writeAttribute(IXmlTagsAndAttributes.RULE_CAT_ID_ATTR, getCategory(i % CATEGORIES_COUNT));
+            writer.writeAttribute(IXmlTagsAndAttributes.RULE_DESC_ATTR, "Synthetic rule " + i);
+            writer.writeAttribute(IXmlTagsAndAttributes.SEVERITY_SHORT_ATTR, Integer.toString((i % 5) + 1));
+        }
+        writer.writeEndElement();
+        writer.writeEndElement();
+    }
+
+    /**
+     * Writes start tag and attributes of violation, leaving the element open.
+     */
+    private void writeViolation(XMLStreamWriter writer, Random random, String sTag, int idx)
+            throws XMLStreamException {
+        int location = random.nextInt(_locationsCount);
+        int line = random.nextInt(MAX_LINE) + 1;
+        writer.writeStartElement(sTag);
+        writer.writeAttribute(IXmlTagsAndAttributes.MESSAGE_V2_ATTR, "Synthetic violation " + idx);
+        writer.writeAttribute(IXmlTagsAndAttributes.LINE_NUMBER_ATTR, Integer.toString(line));
+        writer.writeAttribute(IXmlTagsAndAttributes.SEVERITY_SHORT_ATTR, Integer.toString(random.nextInt(5) + 1));
+        writer.writeAttribute(IXmlTagsAndAttributes.AUTHOR_V2_ATTR, "user" + random.nextInt(AUTHORS_COUNT));
+        writer.writeAttribute(IXmlTagsAndAttributes.RULE_ATTR, getRule(random.nextInt(_rulesCount)));
+        writer.writeAttribute(IXmlTagsAndAttributes.ANALYZER_ATTR, ANALYZER);
+        writer.writeAttribute(IXmlTagsAndAttributes.TOOL_ATTR, ParasoftConstants.JTEST_TOOL_NAME);
+        writer.writeAttribute(IXmlTagsAndAttributes.LANGUAGE_ATTR, LANGUAGE);
+        writer.writeAttribute(IXmlTagsAndAttributes.PACKAGE_ATTR, "synthetic.pkg" + (location % PACKAGES_COUNT));
+        writer.writeAttribute(IXmlTagsAndAttributes.LINE_HASH_ATTR, Integer.toString(random.nextInt()));
+        writer.writeAttribute(IXmlTagsAndAttributes.RESOURCE_HASH_ATTR, getLocationHash(location));
+        writer.writeAttribute(IXmlTagsAndAttributes.LOC_REF_ATTR, getLocRef(location));
+        writeRange(writer, IXmlTagsAndAttributes.LOCATION_ATTR_V2_PREFIX, line);
+    }
+
+    private void writeFlowViolation(XMLStreamWriter writer, Random random, int idx)
+            throws XMLStreamException {
+        writeViolation(writer, random, IXmlTagsAndAttributes.FLOW_ANALYSIS_VIOLATION_V2_TAG, idx);
+        writer.writeStartElement(IXmlTagsAndAttributes.PROPERTIES_V2_TAG);
+        writer.writeEmptyElement(IXmlTagsAndAttributes.PROPERTY_V2_TAG);
+        writer.writeAttribute(IXmlTagsAndAttributes.PROPERTY_KEY_ATTR, "Tracked variables");
+        writer.writeAttribute(IXmlTagsAndAttributes.PROPERTY_VALUE_V2_ATTR, "var" + idx);
+        writer.writeEndElement();
+        writer.writeStartElement(IXmlTagsAndAttributes.VIOLATION_ELEMENT_DESC_V2_TAG + IXmlTagsAndAttributes.LIST_POSTFIX);
+        for (int i = 0; i < _flowPathDepth; i++) {
+            String sType = (i == 0) ? ".C" : ((i == (_flowPathDepth - 1)) ? ".P" : ".");
+            writePathElement(writer, random, sType);
+            writer.writeStartElement(IXmlTagsAndAttributes.ANNOTATIONS_TAG);
+            writer.writeEmptyElement(IXmlTagsAndAttributes.ANNOTATION_TAG);
+            writer.writeAttribute(IXmlTagsAndAttributes.ANNOTATION_MSG_ATTR, "Path element " + i);
+            writer.writeAttribute(IXmlTagsAndAttributes.ANNOTATION_KIND_ATTR, (i == 0) ? "cause" : "comment");
+            writer.writeEndElement();
+            writer.writeEndElement(); // ElDesc
+        }
+        writer.writeEndElement(); // ElDescList
+        writer.writeEndElement(); // FlowViol
+    }
+
+    private void writeDupViolation(XMLStreamWriter writer, Random random, int idx)
+            throws XMLStreamException {
+        writeViolation(writer, random, IXmlTagsAndAttributes.DUPLICATE_VIOLATION_TAG, idx);
+        writer.writeStartElement(IXmlTagsAndAttributes.VIOLATION_ELEMENT_DESC_V2_TAG + IXmlTagsAndAttributes.LIST_POSTFIX);
+        for (int i = 0; i < DUPLICATES_COUNT; i++) {
+            writePathElement(writer, random, null);
+            writer.writeEndElement();
+        }
+        writer.writeEndElement(); // ElDescList
+        writer.writeEndElement(); // DupViol
+    }
+
+    /**
+     * Writes start tag and attributes of path element, leaving the element open.
+     */
+    private void writePathElement(XMLStreamWriter writer, Random random, String sType)
+            throws XMLStreamException {
+        int location = random.nextInt(_locationsCount);
+        int line = random.nextInt(MAX_LINE) + 1;
+        writer.writeStartElement(IXmlTagsAndAttributes.VIOLATION_ELEMENT_DESC_V2_TAG);
+        writer.writeAttribute(IXmlTagsAndAttributes.LOC_REF_ATTR, getLocRef(location));
+        writer.writeAttribute(IXmlTagsAndAttributes.LINE_NUMBER_ATTR, Integer.toString(line));
+        writer.writeAttribute(IXmlTagsAndAttributes.LINE_HASH_V1_ATTR, Integer.toString(random.nextInt()));
+        writer.writeAttribute(IXmlTagsAndAttributes.SOURCE_RANGE_V2_ATTR + IXmlTagsAndAttributes.RESOURCE_HASH_ATTR,
+                getLocationHash(location));
+        writer.writeAttribute(IXmlTagsAndAttributes.DESC_ATTR, "statement" + line + "();");
+        if (sType != null) {
+            writer.writeAttribute(IXmlTagsAndAttributes.VIOLATION_ELEMENT_TYPE_V2_TAG, sType);
+        }
+        writeRange(writer, IXmlTagsAndAttributes.SOURCE_RANGE_V2_ATTR, line);
+    }
+
+    private static void writeRange(XMLStreamWriter writer, String sPrefix, int line)
+            throws XMLStreamException {
+        writer.writeAttribute(sPrefix + IXmlTagsAndAttributes.LOCATION_START_LINE_V2_POSTFIX, Integer.toString(line));
+        writer.writeAttribute(sPrefix + IXmlTagsAndAttributes.LOCATION_START_POSITION_V2_POSTFIX, "0");
+        writer.writeAttribute(sPrefix + IXmlTagsAndAttributes.LOCATION_END_LINE_V2_POSTFIX, Integer.toString(line + 1));
+        writer.writeAttribute(sPrefix + IXmlTagsAndAttributes.LOCATION_END_POSITION_V2_POSTFIX, "0");
+    }
+
+    private static String getLocRef(int location) {
+        return Integer.toString(location + 1);
+    }
+
+    private static String getLocationHash(int location) {
+        return Integer.toString(location * 31 + 17);
+    }
+
+    private static String getResourcePath(int location) {
+        return "src/synthetic/pkg" + (location % PACKAGES_COUNT) + "/Source" + location + ".java";
+    }
+
+    private static String getRule(int rule) {
+        return "SYNTH.RULE" + rule;
+    }
+
+    private static String getCategory(int category) {
+        return "SYNTH" + category;
+    }
+
+    private static final String ENCODING = "UTF-8";
+
+    private static final String PROJECT = "synthetic";
+
+    private static final String ANALYZER = "com.parasoft.jtest.standards.checkers.java";
+
+    private static final String LANGUAGE = "java";
+
+    private static final int CATEGORIES_COUNT = 10;
+
+    private static final int PACKAGES_COUNT = 20;
+
+    private static final int AUTHORS_COUNT = 5;
+
+    private static final int DUPLICATES_COUNT = 2;
+
+    private static final int MAX_LINE = 2000;
+}
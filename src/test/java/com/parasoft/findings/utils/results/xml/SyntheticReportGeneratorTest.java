@@ -0,0 +1,68 @@
+package com.parasoft.findings.utils.results.xml;
+
+import com.parasoft.findings.utils.results.violations.DupCodeViolation;
+import com.parasoft.findings.utils.results.violations.FlowAnalysisViolation;
+import com.parasoft.findings.utils.results.violations.IViolation;
+import com.parasoft.findings.utils.results.violations.MetricsViolation;
+import com.parasoft.findings.utils.results.violations.RuleViolation;
+import com.parasoft.findings.utils.results.violations.XmlReportViolations;
+import com.parasoft.findings.utils.results.violations.XmlReportViolationsImporter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.file.Path;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SyntheticReportGeneratorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testGenerate_importedViolations() throws Exception {
+        SyntheticReportGenerator generator = new SyntheticReportGenerator(42);
+        generator.setViolationsCount(500);
+        generator.setViolationsMix(5, 2, 2, 1);
+        generator.setLocationsCount(10);
+        generator.setFlowPathDepth(4);
+        File report = tempDir.resolve("synthetic.xml").toFile();
+        generator.generate(report);
+
+        int std = 0, flow = 0, dup = 0, metrics = 0;
+        XmlReportViolations violations = new XmlReportViolationsImporter(new Properties()).performImport(report);
+        while (violations.hasNext()) {
+            IViolation violation = violations.next();
+            if (violation instanceof FlowAnalysisViolation) {
+                assertEquals(4, ((FlowAnalysisViolation) violation).getPathElements().length);
+                flow++;
+            } else if (violation instanceof DupCodeViolation) {
+                dup++;
+            } else if (violation instanceof MetricsViolation) {
+                metrics++;
+            } else if (violation instanceof RuleViolation) {
+                assertNotNull(violation.getAttribute(IXmlTagsAndAttributes.RULE_CATEGORY_ATTR));
+                std++;
+            }
+        }
+        assertEquals(500, std + flow + dup + metrics);
+        assertEquals(generator.getStdViolationsCount(), std);
+        assertEquals(generator.getFlowViolationsCount(), flow);
+        assertEquals(generator.getDupViolationsCount(), dup);
+        assertEquals(generator.getMetricsViolationsCount(), metrics);
+        assertTrue((std > 0) && (flow > 0) && (dup > 0) && (metrics > 0));
+    }
+
+    @Test
+    public void testGenerate_deterministic() throws Exception {
+        ByteArrayOutputStream first = new ByteArrayOutputStream();
+        ByteArrayOutputStream second = new ByteArrayOutputStream();
+        new SyntheticReportGenerator(7).generate(first);
+        new SyntheticReportGenerator(7).generate(second);
+
+        assertArrayEquals(first.toByteArray(), second.toByteArray());
+    }
+}
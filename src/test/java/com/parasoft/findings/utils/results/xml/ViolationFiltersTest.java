@@ -0,0 +1,122 @@
+package com.parasoft.findings.utils.results.xml;
+
+import com.parasoft.findings.utils.results.testableinput.StoredLocation;
+import com.parasoft.findings.utils.results.violations.IRuleViolation;
+import com.parasoft.findings.utils.results.violations.IViolation;
+import com.parasoft.findings.utils.results.violations.ViolationRuleUtil;
+import com.parasoft.findings.utils.results.violations.XmlReportViolations;
+import com.parasoft.findings.utils.results.violations.ViolationsTestUtil;
+import com.parasoft.findings.utils.results.violations.XmlReportViolationsImporter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.xml.sax.helpers.AttributesImpl;
+
+import java.io.File;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ViolationFiltersTest {
+
+    private static final File REPORTS_DIR = new File("src/test/resources/xml/staticanalysis/");
+
+    @ParameterizedTest
+    @CsvSource({"jtest_report_202202.xml, false", "jtest_report_202202.xml, true",
+            "cpptest_pro_report_202201.xml, false", "cpptest_pro_report_202201.xml, true"})
+    public void testImport_filterByRule(String sReportName, boolean bStax) {
+        File reportPath = new File(REPORTS_DIR, sReportName);
+        List<IViolation> allViolations = importViolations(reportPath, bStax, new Properties());
+        String sRuleId = ((IRuleViolation) allViolations.get(0)).getRuleId();
+        int expectedCount = 0;
+        for (IViolation violation : allViolations) {
+            if (sRuleId.equals(((IRuleViolation) violation).getRuleId())) {
+                expectedCount++;
+            }
+        }
+
+        Properties properties = new Properties();
+        properties.setProperty(XmlReportViolationsImporter.FILTER_RULES_KEY, " " + sRuleId + " ,");
+        List<IViolation> violations = importViolations(reportPath, bStax, properties);
+
+        assertEquals(expectedCount, violations.size());
+        for (IViolation violation : violations) {
+            assertEquals(sRuleId, ((IRuleViolation) violation).getRuleId());
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({"dottest_report_202201.xml, false", "dottest_report_202201.xml, true"})
+    public void testImport_filterBySeverityAndAnalyzer(String sReportName, boolean bStax) {
+        File reportPath = new File(REPORTS_DIR, sReportName);
+        List<IViolation> allViolations = importViolations(reportPath, bStax, new Properties());
+        IViolation first = allViolations.get(0);
+        int severity = ViolationRuleUtil.getSeverity(first);
+        String sAnalyzerId = first.getAnalyzerId();
+        int expectedCount = 0;
+        for (IViolation violation : allViolations) {
+            if ((ViolationRuleUtil.getSeverity(violation) == severity) && sAnalyzerId.equals(violation.getAnalyzerId())) {
+                expectedCount++;
+            }
+        }
+
+        Properties properties = new Properties();
+        properties.setProperty(XmlReportViolationsImporter.FILTER_SEVERITIES_KEY, severity + ",invalid");
+        properties.setProperty(XmlReportViolationsImporter.FILTER_ANALYZERS_KEY, sAnalyzerId);
+        List<IViolation> violations = importViolations(reportPath, bStax, properties);
+
+        assertEquals(expectedCount, violations.size());
+        for (IViolation violation : violations) {
+            assertEquals(severity, ViolationRuleUtil.getSeverity(violation));
+            assertEquals(sAnalyzerId, violation.getAnalyzerId());
+        }
+    }
+
+    @Test
+    public void testImport_filterByNotMatchingPath() {
+        Properties properties = new Properties();
+        properties.setProperty(XmlReportViolationsImporter.FILTER_PATHS_KEY, "/not/existing/path");
+
+        assertTrue(importViolations(new File(REPORTS_DIR, "jtest_report_202202.xml"), false, properties).isEmpty());
+    }
+
+    @Test
+    public void testByPathPrefixes() {
+        IViolationFilter filter = ViolationFilters.byPathPrefixes("proj/src", "other");
+        Properties storedLocation = new Properties();
+        storedLocation.setProperty(IXmlTagsAndAttributes.PROJECT_PATH_ATTR, "proj");
+        storedLocation.setProperty(IXmlTagsAndAttributes.RESOURCE_PROJECT_RELATIVE_PATH_ATTR, "src/A.java");
+        AttributesImpl attributes = new AttributesImpl();
+
+        assertTrue(filter.accept("StdViol", attributes, StoredLocation.fromProperties(storedLocation)));
+        storedLocation.clear();
+        storedLocation.setProperty(IXmlTagsAndAttributes.URI_ATTR, "file:/tmp/A.java");
+        assertFalse(filter.accept("StdViol", attributes, StoredLocation.fromProperties(storedLocation)));
+        assertFalse(filter.accept("StdViol", attributes, null));
+
+        attributes.addAttribute("", "", IXmlTagsAndAttributes.LOCATION_ATTR_V2_PREFIX + IXmlTagsAndAttributes.FILE_TAG,
+                "CDATA", "other/B.cpp");
+        assertTrue(filter.accept("StdViol", attributes, null));
+    }
+
+    @Test
+    public void testAnd() {
+        AttributesImpl attributes = new AttributesImpl();
+        attributes.addAttribute("", "", IXmlTagsAndAttributes.RULE_ATTR, "CDATA", "RULE-1");
+        attributes.addAttribute("", "", IXmlTagsAndAttributes.TOOL_ATTR, "CDATA", "legacy");
+        attributes.addAttribute("", "", IXmlTagsAndAttributes.SEVERITY_SHORT_ATTR, "CDATA", "2");
+
+        assertTrue(ViolationFilters.and(ViolationFilters.byRuleIds("RULE-1"), ViolationFilters.byAnalyzerIds("legacy"),
+                ViolationFilters.bySeverities(1, 2)).accept("StdViol", attributes, null));
+        assertFalse(ViolationFilters.and(ViolationFilters.byRuleIds("RULE-1"), ViolationFilters.bySeverities(3))
+                .accept("StdViol", attributes, null));
+        assertTrue(ViolationFilters.and().accept("StdViol", attributes, null));
+    }
+
+    private static List<IViolation> importViolations(File reportPath, boolean bStax, Properties properties) {
+        properties.setProperty(XmlReportViolationsImporter.STAX_PARSER_ENABLED_KEY, Boolean.toString(bStax));
+        XmlReportViolations violations = new XmlReportViolationsImporter(properties).performImport(reportPath);
+        return ViolationsTestUtil.toList(violations);
+    }
+}
@@ -0,0 +1,75 @@
+package com.parasoft.findings.utils.results.xml;
+
+import com.parasoft.findings.utils.results.testableinput.PathInput;
+import com.parasoft.findings.utils.results.violations.IViolation;
+import com.parasoft.findings.utils.results.violations.ResultLocation;
+import com.parasoft.findings.utils.results.violations.RuleViolation;
+import com.parasoft.findings.utils.results.violations.SourceRange;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ViolationsSpillFileTest {
+
+    @Test
+    public void testWriteAndIterate_chunksInOrder()
+            throws IOException {
+        List<IViolation> expected = new ArrayList<>();
+        try (ViolationsSpillFile spillFile = new ViolationsSpillFile()) {
+            for (int chunk = 0; chunk < 3; chunk++) {
+                List<IViolation> violations = new ArrayList<>();
+                for (int i = 0; i < 10; i++) {
+                    violations.add(createViolation(chunk * 10 + i));
+                }
+                spillFile.write(violations);
+                expected.addAll(violations);
+            }
+            spillFile.write(Collections.emptyList());
+            assertEquals(30, spillFile.size());
+
+            List<IViolation> actual = new ArrayList<>();
+            Iterator<IViolation> it = spillFile.iterator();
+            while (it.hasNext()) {
+                actual.add(it.next());
+            }
+            assertEquals(expected, actual);
+            assertThrows(NoSuchElementException.class, it::next);
+            assertFalse(spillFile.getFile().exists());
+            assertThrows(IllegalStateException.class, spillFile::iterator);
+            assertThrows(IllegalStateException.class, () -> spillFile.write(expected));
+        }
+    }
+
+    @Test
+    public void testIterator_empty()
+            throws IOException {
+        try (ViolationsSpillFile spillFile = new ViolationsSpillFile()) {
+            assertFalse(spillFile.iterator().hasNext());
+            assertFalse(spillFile.getFile().exists());
+        }
+    }
+
+    @Test
+    public void testClose_deletesFile()
+            throws IOException {
+        ViolationsSpillFile spillFile = new ViolationsSpillFile();
+        spillFile.write(Collections.singletonList(createViolation(1)));
+        assertTrue(spillFile.getFile().exists());
+
+        spillFile.close();
+
+        assertFalse(spillFile.getFile().exists());
+    }
+
+    private static IViolation createViolation(int line) {
+        ResultLocation location = new ResultLocation(new PathInput("/p/A.java"), new SourceRange(line, 0));
+        return new RuleViolation("analyzer", "java", location, "message " + line, "RULE", null);
+    }
+}
@@ -0,0 +1,61 @@
+package com.parasoft.findings.utils.results.xml;
+
+import com.parasoft.findings.utils.results.violations.IViolation;
+import com.parasoft.findings.utils.results.violations.ResultLocation;
+import com.parasoft.findings.utils.results.violations.XmlReportViolations;
+import com.parasoft.findings.utils.results.violations.ViolationsTestUtil;
+import com.parasoft.findings.utils.results.violations.XmlReportViolationsImporter;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.File;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class XmlReportStaxReaderTest {
+
+    private static final String[] COMPARED_ATTRIBUTES = {
+            IXmlTagsAndAttributes.SEVERITY_ATTR, IXmlTagsAndAttributes.RULE_CATEGORY_ATTR,
+            IXmlTagsAndAttributes.RULE_SUBCATEGORY_ATTR, IXmlTagsAndAttributes.RULE_HEADER_ATTR,
+            IXmlTagsAndAttributes.RULE_SCOPE_ATTR, IXmlTagsAndAttributes.LINE_HASH_ATTR,
+            IXmlTagsAndAttributes.LOCATION_HASH_ATTR, IXmlTagsAndAttributes.AUTHOR_V2_ATTR,
+            IXmlTagsAndAttributes.TEST_CONFIG_ATTR, IXmlTagsAndAttributes.SUPPRESSION_TYPE_ATTR,
+            IXmlTagsAndAttributes.REVISION_ATTR, IXmlTagsAndAttributes.REVISION_TIME_ATTR};
+
+    @ParameterizedTest
+    @ValueSource(strings = {"cpptest_pro_report_202001.xml", "cpptest_pro_report_202201.xml", "cpptest_std_report_202001.xml",
+            "cpptest_std_report_202201.xml", "dottest_report_202001.xml", "dottest_report_202201.xml",
+            "jtest_report_202001.xml", "jtest_report_202202.xml", "soatest_report_202101.xml",
+            "soatest_report_202201.xml", "soatest_report_202202.xml"})
+    public void testStaxImport_sameViolationsAsSaxImport(String sReportName) {
+        File reportPath = new File("src/test/resources/xml/staticanalysis/", sReportName);
+
+        List<IViolation> expected = importViolations(reportPath, false);
+        List<IViolation> actual = importViolations(reportPath, true);
+
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            IViolation expectedViolation = expected.get(i);
+            IViolation actualViolation = actual.get(i);
+            assertEquals(expectedViolation.getClass(), actualViolation.getClass());
+            assertEquals(expectedViolation.getMessage(), actualViolation.getMessage());
+            // remote testable inputs have no equality, so compare locations by content
+            ResultLocation expectedLocation = expectedViolation.getResultLocation();
+            ResultLocation actualLocation = actualViolation.getResultLocation();
+            assertEquals(expectedLocation.getTestableInput().getName(), actualLocation.getTestableInput().getName());
+            assertEquals(expectedLocation.getSourceRange(), actualLocation.getSourceRange());
+            for (String sAttribute : COMPARED_ATTRIBUTES) {
+                assertEquals(expectedViolation.getAttribute(sAttribute), actualViolation.getAttribute(sAttribute), sAttribute);
+            }
+        }
+    }
+
+    private static List<IViolation> importViolations(File reportPath, boolean bStax) {
+        Properties properties = new Properties();
+        properties.setProperty(XmlReportViolationsImporter.STAX_PARSER_ENABLED_KEY, Boolean.toString(bStax));
+        XmlReportViolations violations = new XmlReportViolationsImporter(properties).performImport(reportPath);
+        return ViolationsTestUtil.toList(violations);
+    }
+}